@@ -0,0 +1,42 @@
+package com.satch_navida.zodiacidentifier;
+
+import com.satch_navida.zodiacidentifier.validation.annotations.Bail;
+import com.satch_navida.zodiacidentifier.validation.annotations.Date;
+import com.satch_navida.zodiacidentifier.validation.annotations.Field;
+import com.satch_navida.zodiacidentifier.validation.annotations.Required;
+
+/**
+ * The values of the birth date form, along with their validation rules. Its schema,
+ * {@code BirthDateFormSchema}, is generated from the annotations at compile time.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class BirthDateForm {
+	// PUBLIC VARIABLES
+	/**
+	 * The accepted date format of the birth date, which is one of
+	 * {@link com.satch_navida.zodiacidentifier.validation.rules.Date#FORMATS}.
+	 */
+	public static final String DATE_FORMAT = "MM/dd/yyyy";
+
+	/**
+	 * The birth date, keyed by the ID of its input.
+	 */
+	@Field("birth_date_value")
+	@Bail
+	@Required(message = "The birth date is required.")
+	@Date(format = BirthDateForm.DATE_FORMAT, message = "Birth date should be a date.")
+	public final String birthDate;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link BirthDateForm}.
+	 *
+	 * @param birthDate The birth date, or an empty string if none was picked.
+	 */
+	public BirthDateForm(String birthDate) {
+		this.birthDate = birthDate;
+	}
+}
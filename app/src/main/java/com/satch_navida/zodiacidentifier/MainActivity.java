@@ -11,13 +11,8 @@ import android.widget.DatePicker;
 import android.widget.TextView;
 
 import com.satch_navida.zodiacidentifier.validation.Validator;
-import com.satch_navida.zodiacidentifier.validation.rules.Date;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 public class MainActivity extends AppCompatActivity {
@@ -32,7 +27,12 @@ public class MainActivity extends AppCompatActivity {
 	 * The accepted date format for the Date validation. This is used to set a constant and reusable
 	 * format for the entire application.
 	 */
-	static final public String DATE_FORMAT = Date.FORMATS[4];
+	static final public String DATE_FORMAT = BirthDateForm.DATE_FORMAT;
+
+	/**
+	 * The compiled {@link #DATE_FORMAT}, used to format the picked date.
+	 */
+	static final private DateCodec.Format DATE_CODEC = DateCodec.forPattern(DATE_FORMAT);
 
 	// PROTECTED OBJECTS
 	protected DatePickerDialog datePickerDialog;
@@ -112,20 +112,12 @@ public class MainActivity extends AppCompatActivity {
 		this.birthDateInput.setOnDateChangedListener(new DatePicker.OnDateChangedListener() {
 			@Override
 			public void onDateChanged(DatePicker view, int year, int month, int day) {
-				String date = String.format("%02d", month + 1) + "/" + String.format("%02d", day) + "/" + year;
-
-				DateFormat df = new SimpleDateFormat("MMMM dd, yyyy");
-				java.util.Date d = null;
-				try {
-					d = new SimpleDateFormat("MM/dd/yyyy").parse(date);
-				} catch (ParseException e) {
-					e.printStackTrace();
-				}
+				int date = DateCodec.pack(year, month + 1, day);
 
-				if (d == null)
-					selectDateBtn.setText(date);
+				if (date == DateCodec.INVALID)
+					selectDateBtn.setText(R.string.date_placeholder);
 				else
-					selectDateBtn.setText(df.format(d));
+					selectDateBtn.setText(DateCodec.toDisplayString(date));
 			}
 		});
 
@@ -147,53 +139,20 @@ public class MainActivity extends AppCompatActivity {
 	 */
 	private void onSubmit() {
 		String date = this.selectDateBtn.getText().toString();
-		String bdiID = getResources().getResourceEntryName(R.id.birth_date_value);
 
 		if (this.birthDateInput != null) {
 			int day = this.birthDateInput.getDayOfMonth();
 			int month = this.birthDateInput.getMonth() + 1;
 			int year = this.birthDateInput.getYear();
 
-			date = String.format(Locale.US, "%02d", month) + "/" + String.format(Locale.US, "%02d", day) + "/" + year;
-			bdiID = getElementId(birthDateInput);
+			date = DATE_CODEC.format(DateCodec.pack(year, month, day));
 		}
 
-		String[] ids = new String[] {
-				bdiID
-		};
-
 		// If the date is between 1950 to 2999, then use the current date value. Otherwise use the null to fail the "Required" rule.
 		final String fDate = date.matches("^([0-3]\\d)([-/])([0-3]\\d)([-/])(19\\d{2}|2\\d{3})$") ? date : "";
-		/**
-		 * The values from the form. They'll be identified using their respective IDs.
-		 */
-		Map<String, Object> values = new HashMap<String, Object>() {
-			{
-				this.put(ids[0], fDate);
-			}
-		};
-
-		/**
-		 * Validation rules for the weight and height input fields.
-		 */
-		Map<String, String[]> rules = new HashMap<String, String[]>() {
-			{
-				this.put(ids[0], new String[] {"Required", "Date:" + MainActivity.DATE_FORMAT});
-			}
-		};
-
-		/**
-		 * Custom validation messages for each rule. This will only be shown if the rules failed.
-		 */
-		Map<String, String> messages = new HashMap<String, String>() {
-			{
-				// Birth Date Validation Messages
-				this.put(String.format("%1$s.%2$s", ids[0], "Required"), "The birth date is required.");
-				this.put(String.format("%1$s.%2$s", ids[0], "Date"), "Birth date should be a date.");
-			}
-		};
 
-		Validator validator = new Validator(values, rules, messages);
+		// The rules of the form are compiled from its annotations, once, when the app is built.
+		Validator validator = BirthDateFormSchema.validator(new BirthDateForm(fDate));
 
 		// If the validation failed...
 		Map<String, Object> validatedFields = validator.validate();
@@ -0,0 +1,76 @@
+package com.satch_navida.zodiacidentifier;
+
+import android.content.Context;
+import android.content.res.Resources;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable catalog of every {@link ZodiacSign}'s traits. The traits are loaded from the string
+ * array resources ({@code zodiacs.xml}) only once, the first time the catalog is requested, after
+ * which fetching a sign's traits is a plain array read.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class TraitCatalog {
+	// PRIVATE VARIABLES
+	/**
+	 * The loaded catalog, shared across the whole application.
+	 */
+	private static volatile TraitCatalog instance;
+
+	/**
+	 * The traits of each sign, indexed by the sign's ordinal.
+	 */
+	private final List<String>[] traits;
+
+	// CONSTRUCTORS
+	@SuppressWarnings("unchecked")
+	private TraitCatalog(Resources resources) {
+		ZodiacSign[] signs = ZodiacSign.values();
+		this.traits = (List<String>[]) new List[signs.length];
+
+		for (ZodiacSign sign : signs)
+			this.traits[sign.ordinal()] = Collections.unmodifiableList(Arrays.asList(
+					resources.getStringArray(sign.getTraitsResource())
+			));
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the catalog, loading it from the resources of the given context if it is not loaded yet.
+	 *
+	 * @param ctx Any context of the application.
+	 *
+	 * @return TraitCatalog The shared catalog.
+	 */
+	public static TraitCatalog get(Context ctx) {
+		TraitCatalog catalog = TraitCatalog.instance;
+
+		if (catalog == null) {
+			synchronized (TraitCatalog.class) {
+				catalog = TraitCatalog.instance;
+
+				if (catalog == null)
+					TraitCatalog.instance = catalog = new TraitCatalog(ctx.getApplicationContext().getResources());
+			}
+		}
+
+		return catalog;
+	}
+
+	/**
+	 * Fetches the traits of the given sign.
+	 *
+	 * @param sign The sign in question.
+	 *
+	 * @return List<String> An unmodifiable list of the sign's traits.
+	 */
+	public List<String> traitsOf(ZodiacSign sign) {
+		return this.traits[sign.ordinal()];
+	}
+}
@@ -0,0 +1,151 @@
+package com.satch_navida.zodiacidentifier;
+
+/**
+ * All the Zodiac signs, along with their element, modality, date range, and the string array
+ * resource holding their traits. The ordinal of each sign matches its index in
+ * {@link SignTable#SIGNS}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public enum ZodiacSign {
+	ARIES("Aries", Element.FIRE, Modality.CARDINAL, 3, 20, 4, 19, R.array.Aries),
+	TAURUS("Taurus", Element.EARTH, Modality.FIXED, 4, 20, 5, 20, R.array.Taurus),
+	GEMINI("Gemini", Element.AIR, Modality.MUTABLE, 5, 21, 6, 20, R.array.Gemini),
+	CANCER("Cancer", Element.WATER, Modality.CARDINAL, 6, 21, 7, 21, R.array.Cancer),
+	LEO("Leo", Element.FIRE, Modality.FIXED, 7, 22, 8, 22, R.array.Leo),
+	VIRGO("Virgo", Element.EARTH, Modality.MUTABLE, 8, 23, 9, 22, R.array.Virgo),
+	LIBRA("Libra", Element.AIR, Modality.CARDINAL, 9, 23, 10, 22, R.array.Libra),
+	SCORPIO("Scorpio", Element.WATER, Modality.FIXED, 10, 23, 11, 21, R.array.Scorpio),
+	SAGITTARIUS("Sagittarius", Element.FIRE, Modality.MUTABLE, 11, 22, 12, 20, R.array.Sagittarius),
+	CAPRICORN("Capricorn", Element.EARTH, Modality.CARDINAL, 12, 21, 1, 19, R.array.Capricorn),
+	AQUARIUS("Aquarius", Element.AIR, Modality.FIXED, 1, 20, 2, 17, R.array.Aquarius),
+	PISCES("Pisces", Element.WATER, Modality.MUTABLE, 2, 18, 3, 19, R.array.Pisces);
+
+	/**
+	 * The classical elements the signs are grouped into.
+	 */
+	public enum Element {
+		FIRE, EARTH, AIR, WATER
+	}
+
+	/**
+	 * The modalities (or qualities) the signs are grouped into.
+	 */
+	public enum Modality {
+		CARDINAL, FIXED, MUTABLE
+	}
+
+	// PRIVATE VARIABLES
+	/**
+	 * A cached copy of {@link #values()}, as the said method creates a new array on every call.
+	 */
+	private static final ZodiacSign[] VALUES = ZodiacSign.values();
+
+	private final String displayName;
+	private final Element element;
+	private final Modality modality;
+	private final int startMonth, startDay, endMonth, endDay;
+	private final int traitsResource;
+
+	// CONSTRUCTORS
+	ZodiacSign(String displayName, Element element, Modality modality, int startMonth, int startDay, int endMonth, int endDay, int traitsResource) {
+		this.displayName = displayName;
+		this.element = element;
+		this.modality = modality;
+		this.startMonth = startMonth;
+		this.startDay = startDay;
+		this.endMonth = endMonth;
+		this.endDay = endDay;
+		this.traitsResource = traitsResource;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the sign of the given month and day through the {@link SignTable}.
+	 *
+	 * @param month The month, from {@code 1} (January) to {@code 12} (December).
+	 * @param dayOfMonth The day of the month, starting from {@code 1}.
+	 *
+	 * @return ZodiacSign The sign of the given day, or {@code null} if the day does not exist.
+	 */
+	public static ZodiacSign of(int month, int dayOfMonth) {
+		return ZodiacSign.of(SignTable.signOf(month, dayOfMonth));
+	}
+
+	/**
+	 * Fetches the sign with the given index in {@link SignTable#SIGNS}.
+	 *
+	 * @param index The index of the sign.
+	 *
+	 * @return ZodiacSign The sign of the given index, or {@code null} if the index is {@link SignTable#UNKNOWN}.
+	 */
+	public static ZodiacSign of(int index) {
+		return index == SignTable.UNKNOWN ? null : VALUES[index];
+	}
+
+	/**
+	 * @return String The name of this sign, such as {@code "Aries"}.
+	 */
+	public String getDisplayName() {
+		return this.displayName;
+	}
+
+	/**
+	 * @return Element The element of this sign.
+	 */
+	public Element getElement() {
+		return this.element;
+	}
+
+	/**
+	 * @return Modality The modality of this sign.
+	 */
+	public Modality getModality() {
+		return this.modality;
+	}
+
+	/**
+	 * @return int The month this sign starts, from {@code 1} to {@code 12}.
+	 */
+	public int getStartMonth() {
+		return this.startMonth;
+	}
+
+	/**
+	 * @return int The first day of this sign within {@link #getStartMonth()}.
+	 */
+	public int getStartDay() {
+		return this.startDay;
+	}
+
+	/**
+	 * @return int The month this sign ends, from {@code 1} to {@code 12}.
+	 */
+	public int getEndMonth() {
+		return this.endMonth;
+	}
+
+	/**
+	 * @return int The last day of this sign within {@link #getEndMonth()}.
+	 */
+	public int getEndDay() {
+		return this.endDay;
+	}
+
+	/**
+	 * @return int The string array resource ID containing this sign's traits.
+	 */
+	public int getTraitsResource() {
+		return this.traitsResource;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.displayName;
+	}
+}
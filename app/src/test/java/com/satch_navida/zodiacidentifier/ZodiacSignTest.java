@@ -0,0 +1,40 @@
+package com.satch_navida.zodiacidentifier;
+
+import org.junit.Test;
+
+import java.time.MonthDay;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the date ranges of {@link ZodiacSign} against the {@link SignTable}.
+ */
+public class ZodiacSignTest {
+	@Test
+	public void dateRanges_matchSignTable() {
+		for (ZodiacSign sign : ZodiacSign.values()) {
+			assertEquals(SignTable.SIGNS[sign.ordinal()], sign.getDisplayName());
+			assertSame(sign, ZodiacSign.of(sign.getStartMonth(), sign.getStartDay()));
+			assertSame(sign, ZodiacSign.of(sign.getEndMonth(), sign.getEndDay()));
+
+			// The day after a sign ends is the start of the next sign.
+			MonthDay next = MonthDay.of(sign.getEndMonth(), sign.getEndDay());
+			next = next.getDayOfMonth() == next.getMonth().maxLength()
+					? MonthDay.of(next.getMonth().plus(1), 1)
+					: next.withDayOfMonth(next.getDayOfMonth() + 1);
+
+			ZodiacSign following = ZodiacSign.of((sign.ordinal() + 1) % 12);
+			assertSame(following, ZodiacSign.of(next.getMonthValue(), next.getDayOfMonth()));
+			assertEquals(following.getStartMonth(), next.getMonthValue());
+			assertEquals(following.getStartDay(), next.getDayOfMonth());
+		}
+	}
+
+	@Test
+	public void elementsAndModalities_cycleThroughTheSigns() {
+		for (ZodiacSign sign : ZodiacSign.values()) {
+			assertSame(ZodiacSign.Element.values()[sign.ordinal() % 4], sign.getElement());
+			assertSame(ZodiacSign.Modality.values()[sign.ordinal() % 3], sign.getModality());
+		}
+	}
+}
@@ -0,0 +1,350 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.cli.Arguments;
+import com.satch_navida.zodiacidentifier.validation.ValidationCache;
+import com.satch_navida.zodiacidentifier.validation.ValidationMetrics;
+import com.satch_navida.zodiacidentifier.validation.ValidationSchema;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The command line entry point of the batch tools, running outside of Android on any JVM.<br>
+ * <br>
+ * Usage:
+ * <pre>
+ * batch validate [options] [input]
+ *     --format ndjson|csv       The format of the input, guessed from its extension by default.
+ *     --rule field=Rule|Rule:p  The rules of a field, separated by "|". Can be repeated.
+ *     --message field.Rule=msg  A custom message for a rule of a field. Can be repeated.
+ *     --stop-on-first-failure   Stops validating a record at its first failure.
+ *     --cache n                 Reuses the outcomes of up to n repeated values.
+ *     --metrics                 Prints the time taken and outcomes of every rule and field.
+ *     --output file             Where the failing records are written, the standard output by default.
+ *     --workers n               The number of validating threads, a thread per core by default.
+ *     --block-size n            The number of lines handed to a worker at a time.
+ *     --in-flight n             The maximum number of blocks read but not yet written.
+ *
+ * batch classify [options] input
+ *     --column name             The column holding the birth dates, "birth_date" by default.
+ *     --date-format pattern     The format of the birth dates, "MM/dd/yyyy" by default.
+ *     --output file             Where the classified records are written, the standard output by default.
+ *     --workers n               The number of classifying threads, a thread per core by default.
+ *     --chunk-size n            The number of bytes handed to a worker at a time.
+ *
+ * batch generate [options] output
+ *     --rows n                  The number of records, a million by default.
+ *     --format csv|ndjson|binary  The format of the output, guessed from its extension by default.
+ *     --distribution name       uniform, seasonal or cusp, uniform by default.
+ *     --malformed share         The share of malformed birth dates, from 0 to 1, 0 by default.
+ *     --seed n                  The seed of the random draws, 0 by default.
+ *     --date-format pattern     The format of the dates, "MM/dd/yyyy" by default.
+ *     --from-year n             The first year of the birth dates, 1950 by default.
+ *     --to-year n               The last year of the birth dates, 2010 by default.
+ *     --workers n               The number of generating threads, a thread per core by default.
+ * </pre>
+ * The input of {@code validate} is read from the standard input when omitted or {@code "-"}, while
+ * the input of {@code classify} must be a CSV file, as it is memory-mapped. The output of
+ * {@code generate} is written to the standard output when {@code "-"}. A summary is printed to the
+ * standard error once done. The exit code is {@code 0} if every record passed (or was given a
+ * sign, or was generated), {@code 1} if some failed (or were not) and {@code 2} if the command could
+ * not be run.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BatchMain {
+	// PRIVATE VARIABLES
+	private static final int EXIT_PASSED = 0;
+	private static final int EXIT_FAILED = 1;
+	private static final int EXIT_USAGE = 2;
+
+	private static final String USAGE = String.join("\n",
+		"Usage: batch <command> [options]",
+		"",
+		"Commands:",
+		"  validate [options] [input]  Validates NDJSON or CSV records, writing out the failing ones.",
+		"      --format ndjson|csv",
+		"      --rule field=Rule|Rule:param ...",
+		"      --message field.Rule=message ...",
+		"      --stop-on-first-failure",
+		"      --cache n",
+		"      --metrics",
+		"      --output file",
+		"      --workers n",
+		"      --block-size n",
+		"      --in-flight n",
+		"  classify [options] input    Appends the Zodiac sign of the birth date of each CSV record.",
+		"      --column name",
+		"      --date-format pattern",
+		"      --output file",
+		"      --workers n",
+		"      --chunk-size n",
+		"  generate [options] output    Generates synthetic records with birth and sign up dates.",
+		"      --rows n",
+		"      --format csv|ndjson|binary",
+		"      --distribution uniform|seasonal|cusp",
+		"      --malformed share",
+		"      --seed n",
+		"      --date-format pattern",
+		"      --from-year n",
+		"      --to-year n",
+		"      --workers n"
+	);
+
+	// CONSTRUCTORS
+	private BatchMain() {
+	}
+
+	// PUBLIC METHODS
+	public static void main(String[] args) {
+		System.exit(BatchMain.run(args, System.err));
+	}
+
+	/**
+	 * Runs a command without exiting the JVM.
+	 *
+	 * @param args The command and its arguments.
+	 * @param err Where the summary and the errors are printed.
+	 *
+	 * @return int The exit code of the command.
+	 */
+	public static int run(String[] args, PrintStream err) {
+		if (args.length == 0) {
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+
+		try {
+			switch (args[0]) {
+				case "validate":
+					return BatchMain.validate(new Arguments(args, 1), err);
+				case "classify":
+					return BatchMain.classify(new Arguments(args, 1), err);
+				case "generate":
+					return BatchMain.generate(new Arguments(args, 1), err);
+				default:
+					throw new IllegalArgumentException(MessageFormat.format("Unknown command \"{0}\".", args[0]));
+			}
+		}
+		catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+		catch (IOException e) {
+			err.println(MessageFormat.format("I/O error: {0}", e.getMessage()));
+			return EXIT_USAGE;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return EXIT_USAGE;
+		}
+	}
+
+	// PRIVATE METHODS
+	private static int validate(Arguments args, PrintStream err) throws IOException, InterruptedException {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		Map<String, String> messages = new HashMap<String, String>();
+		String input = "-";
+		String output = "-";
+		RecordFormat format = null;
+		boolean stopOnFirstFailure = false;
+		int cacheSize = 0;
+		boolean metrics = false;
+		int workers = Runtime.getRuntime().availableProcessors();
+		int blockSize = ValidationPipeline.DEFAULT_BLOCK_SIZE;
+		int inFlight = workers * 4;
+
+		while (args.hasNext()) {
+			String arg = args.next();
+
+			switch (arg) {
+				case "--format": format = RecordFormat.of(args.value(arg)); break;
+				case "--rule": {
+					String[] pair = BatchMain.splitPair(arg, args.value(arg));
+					rules.put(pair[0], pair[1].split("\\|"));
+					break;
+				}
+				case "--message": {
+					String[] pair = BatchMain.splitPair(arg, args.value(arg));
+					messages.put(pair[0], pair[1]);
+					break;
+				}
+				case "--stop-on-first-failure": stopOnFirstFailure = true; break;
+				case "--cache": cacheSize = args.intValue(arg); break;
+				case "--metrics": metrics = true; break;
+				case "--output": output = args.value(arg); break;
+				case "--workers": workers = args.intValue(arg); break;
+				case "--block-size": blockSize = args.intValue(arg); break;
+				case "--in-flight": inFlight = args.intValue(arg); break;
+				default:
+					if (arg.startsWith("--"))
+						throw new IllegalArgumentException(MessageFormat.format("Unknown option \"{0}\".", arg));
+
+					input = arg;
+			}
+		}
+
+		if (rules.isEmpty())
+			throw new IllegalArgumentException("At least one --rule is required.");
+		if (format == null)
+			format = RecordFormat.forFile(input);
+
+		ValidationSchema schema = ValidationSchema.compile(rules, messages);
+		if (stopOnFirstFailure)
+			schema = schema.stopOnFirstFailure();
+		if (cacheSize > 0)
+			schema = schema.withCache(new ValidationCache(cacheSize));
+		if (metrics)
+			schema = schema.withListener(new ValidationMetrics());
+
+		ValidationPipeline pipeline = new ValidationPipeline(schema, format, workers, blockSize, inFlight);
+		ValidationPipeline.Summary summary;
+
+		try (
+			BufferedReader in = new BufferedReader(input.equals("-")
+				? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+				: Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8), 1 << 16);
+			Writer out = new BufferedWriter(output.equals("-")
+				? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+				: Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8), 1 << 16)
+		) {
+			summary = pipeline.run(in, out);
+		}
+
+		err.println(summary);
+		if (schema.cache() != null)
+			err.println(MessageFormat.format("Cache: {0}", schema.cache()));
+		if (schema.listener() != null)
+			err.println(schema.listener());
+
+		return summary.failed() == 0 ? EXIT_PASSED : EXIT_FAILED;
+	}
+
+	private static int classify(Arguments args, PrintStream err) throws IOException, InterruptedException {
+		String column = "birth_date";
+		String datePattern = "MM/dd/yyyy";
+		String input = null;
+		String output = "-";
+		int workers = Runtime.getRuntime().availableProcessors();
+		int chunkSize = ClassificationPipeline.DEFAULT_CHUNK_SIZE;
+
+		while (args.hasNext()) {
+			String arg = args.next();
+
+			switch (arg) {
+				case "--column": column = args.value(arg); break;
+				case "--date-format": datePattern = args.value(arg); break;
+				case "--output": output = args.value(arg); break;
+				case "--workers": workers = args.intValue(arg); break;
+				case "--chunk-size": chunkSize = args.intValue(arg); break;
+				default:
+					if (arg.startsWith("--"))
+						throw new IllegalArgumentException(MessageFormat.format("Unknown option \"{0}\".", arg));
+
+					input = arg;
+			}
+		}
+
+		if (input == null || input.equals("-"))
+			throw new IllegalArgumentException("The input of classify must be a file, as it is memory-mapped.");
+
+		DateCodec.Format format = DateCodec.forPattern(datePattern);
+		if (format == null)
+			throw new IllegalArgumentException(MessageFormat.format("Unsupported date format: {0}", datePattern));
+
+		ClassificationPipeline pipeline = new ClassificationPipeline(column, format, workers, chunkSize);
+		ClassificationPipeline.Summary summary;
+
+		try (
+			OutputStream out = new BufferedOutputStream(output.equals("-")
+				? System.out
+				: Files.newOutputStream(Paths.get(output)), 1 << 16)
+		) {
+			summary = pipeline.run(Paths.get(input), out);
+		}
+
+		err.println(summary);
+		return summary.unknown() == 0 ? EXIT_PASSED : EXIT_FAILED;
+	}
+
+	private static int generate(Arguments args, PrintStream err) throws IOException, InterruptedException {
+		DatasetGenerator.Builder generator = DatasetGenerator.builder();
+		DatasetGenerator.FileFormat format = null;
+		String datePattern = "MM/dd/yyyy";
+		int fromYear = 1950;
+		int toYear = 2010;
+		String output = null;
+
+		while (args.hasNext()) {
+			String arg = args.next();
+
+			switch (arg) {
+				case "--rows": generator.rows(args.longValue(arg)); break;
+				case "--format": format = DatasetGenerator.FileFormat.of(args.value(arg)); break;
+				case "--distribution": generator.distribution(DatasetGenerator.Distribution.of(args.value(arg))); break;
+				case "--malformed": generator.malformed(args.doubleValue(arg)); break;
+				case "--seed": generator.seed(args.longValue(arg)); break;
+				case "--date-format": datePattern = args.value(arg); break;
+				case "--from-year": fromYear = args.intValue(arg); break;
+				case "--to-year": toYear = args.intValue(arg); break;
+				case "--workers": generator.workers(args.intValue(arg)); break;
+				default:
+					if (arg.startsWith("--"))
+						throw new IllegalArgumentException(MessageFormat.format("Unknown option \"{0}\".", arg));
+
+					output = arg;
+			}
+		}
+
+		if (output == null)
+			throw new IllegalArgumentException("The output of generate is required, \"-\" being the standard output.");
+
+		DateCodec.Format dateFormat = DateCodec.forPattern(datePattern);
+		if (dateFormat == null)
+			throw new IllegalArgumentException(MessageFormat.format("Unsupported date format: {0}", datePattern));
+
+		DatasetGenerator.Summary summary;
+
+		try (
+			OutputStream out = new BufferedOutputStream(output.equals("-")
+				? System.out
+				: Files.newOutputStream(Paths.get(output)), 1 << 16)
+		) {
+			summary = generator
+				.fileFormat(format != null ? format : DatasetGenerator.FileFormat.forFile(output))
+				.dateFormat(dateFormat)
+				.years(fromYear, toYear)
+				.build()
+				.run(out);
+		}
+
+		err.println(summary);
+		return EXIT_PASSED;
+	}
+
+	private static String[] splitPair(String option, String pair) {
+		int separator = pair.indexOf('=');
+
+		if (separator <= 0)
+			throw new IllegalArgumentException(MessageFormat.format("Expected {0} to be in the form of key=value.", option));
+
+		return new String[] {pair.substring(0, separator), pair.substring(separator + 1)};
+	}
+}
@@ -0,0 +1,55 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A view of the bytes of a buffer as characters, one byte per character, such that text that is
+ * known to be ASCII, like a date, can be parsed straight from a memory-mapped file without decoding
+ * it into a string first. Bytes outside of ASCII are read as their ISO-8859-1 character, and thus
+ * never match a digit nor a separator.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class ByteChars implements CharSequence {
+	// PRIVATE VARIABLES
+	private final ByteBuffer bytes;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates a view of the given buffer, from its index {@code 0} up to its limit.
+	 *
+	 * @param bytes The buffer, which is only read through absolute indexes.
+	 */
+	ByteChars(ByteBuffer bytes) {
+		this.bytes = bytes;
+	}
+
+	// PUBLIC METHODS
+	@Override
+	public int length() {
+		return this.bytes.limit();
+	}
+
+	@Override
+	public char charAt(int index) {
+		return (char) (this.bytes.get(index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		byte[] chars = new byte[end - start];
+
+		for (int i = start; i < end; i++)
+			chars[i - start] = this.bytes.get(i);
+
+		return new String(chars, StandardCharsets.ISO_8859_1);
+	}
+
+	@Override
+	public String toString() {
+		return this.subSequence(0, this.length()).toString();
+	}
+}
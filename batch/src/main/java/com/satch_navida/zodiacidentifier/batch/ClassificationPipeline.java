@@ -0,0 +1,414 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.SignClassifier;
+import com.satch_navida.zodiacidentifier.SignTable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classifies the birth dates of a CSV file into their Zodiac signs, writing the file back out with
+ * a {@value #SIGN_COLUMN} column appended to each line. The sign is left empty for the dates that
+ * can't be read.<br>
+ * <br>
+ * The input is memory-mapped rather than read, and split into chunks of about the same size that
+ * end on a line break, each chunk being classified by a worker of its own. The dates are parsed
+ * straight from the mapped bytes and resolved through the {@link SignTable}, so no string is
+ * created for any record. The chunks are written out in the same order they were read, and only a
+ * fixed number of them are in flight at any time, so files larger than the memory can be classified.
+ * A chunk is mapped on its own, thus files of any size can be mapped, up to chunks of 2 GiB.<br>
+ * <br>
+ * The lines are read as ASCII, or any encoding compatible with it such as UTF-8, and follow the
+ * same rules as {@link RecordFormat#CSV}: fields are optionally quoted, and a record may not span
+ * multiple lines. Blank lines are skipped.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ClassificationPipeline {
+	// PUBLIC VARIABLES
+	/**
+	 * The default number of bytes handed to a worker at a time.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 16 << 20;
+	/**
+	 * The name of the column the signs are written to.
+	 */
+	public static final String SIGN_COLUMN = "sign";
+
+	// PRIVATE VARIABLES
+	/**
+	 * The name of each sign, indexed like {@link SignTable#SIGNS}, as it is written out.
+	 */
+	private static final byte[][] SIGN_BYTES = new byte[SignTable.SIGNS.length][];
+
+	static {
+		for (int i = 0; i < SignTable.SIGNS.length; i++)
+			SIGN_BYTES[i] = SignTable.SIGNS[i].getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private final String column;
+	private final DateCodec.Format format;
+	private final int workers;
+	private final int chunkSize;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link ClassificationPipeline} with a worker per core.
+	 *
+	 * @param column The name of the column holding the dates.
+	 * @param format The format of the dates.
+	 */
+	public ClassificationPipeline(String column, DateCodec.Format format) {
+		this(column, format, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates an instance of {@link ClassificationPipeline}.
+	 *
+	 * @param column The name of the column holding the dates.
+	 * @param format The format of the dates.
+	 * @param workers The number of threads classifying the chunks.
+	 * @param chunkSize The number of bytes handed to a worker at a time. A chunk is extended up to
+	 *                  the end of its last line.
+	 */
+	public ClassificationPipeline(String column, DateCodec.Format format, int workers, int chunkSize) {
+		if (workers < 1 || chunkSize < 1)
+			throw new IllegalArgumentException("The workers and the chunk size must be at least 1.");
+
+		this.column = column;
+		this.format = format;
+		this.workers = workers;
+		this.chunkSize = chunkSize;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Classifies every record of the input, writing them to the output with their sign. The output
+	 * is flushed, but not closed.
+	 *
+	 * @param input The CSV file, whose first line holds the names of the columns.
+	 * @param out The output to write the classified records to.
+	 *
+	 * @return Summary The number of records read, and of records without a sign.
+	 *
+	 * @throws IOException If reading or writing fails.
+	 * @throws InterruptedException If the calling thread is interrupted while waiting on the workers.
+	 * @throws IllegalArgumentException If the header has no column with the expected name.
+	 */
+	public Summary run(Path input, OutputStream out) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+
+		try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long headerEnd = ClassificationPipeline.nextLineStart(channel, 0, size);
+
+			if (headerEnd == 0)
+				return new Summary(0, 0, System.nanoTime() - start);
+
+			String header = ClassificationPipeline.read(channel, 0, headerEnd);
+			header = ClassificationPipeline.trimLineBreak(header);
+			int columnIndex = Arrays.asList(Csv.split(header)).indexOf(this.column);
+
+			if (columnIndex < 0)
+				throw new IllegalArgumentException(MessageFormat.format("The column \"{0}\" is not in the header.", this.column));
+
+			out.write((header + "," + SIGN_COLUMN + "\n").getBytes(StandardCharsets.UTF_8));
+
+			AtomicInteger threads = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(this.workers, (Runnable task) -> {
+				Thread thread = new Thread(task, "classification-worker-" + threads.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			ArrayDeque<Future<Chunk>> inFlight = new ArrayDeque<Future<Chunk>>();
+			long records = 0, unknown = 0;
+
+			try {
+				long from = headerEnd;
+
+				while (from < size || !inFlight.isEmpty()) {
+					// Keeps every worker busy, with as many chunks waiting to be written.
+					while (from < size && inFlight.size() < this.workers * 2) {
+						long to = Math.min(size, from + this.chunkSize);
+						if (to < size)
+							to = ClassificationPipeline.nextLineStart(channel, to - 1, size);
+
+						long chunkFrom = from;
+						long chunkTo = to;
+						inFlight.add(executor.submit(() -> this.classify(channel, chunkFrom, chunkTo, columnIndex)));
+						from = to;
+					}
+
+					Chunk chunk = ClassificationPipeline.await(inFlight.poll());
+					out.write(chunk.output, 0, chunk.length);
+					records += chunk.records;
+					unknown += chunk.unknown;
+				}
+			}
+			finally {
+				for (Future<Chunk> chunk : inFlight)
+					chunk.cancel(true);
+				executor.shutdownNow();
+			}
+
+			out.flush();
+			return new Summary(records, unknown, System.nanoTime() - start);
+		}
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Classifies the lines of a chunk of the file.
+	 */
+	private Chunk classify(FileChannel channel, long from, long to, int columnIndex) throws IOException {
+		MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+		ByteChars chars = new ByteChars(bytes);
+		ByteBuffer lines = bytes.duplicate();
+		int limit = bytes.limit();
+
+		// Each line grows by a comma and the longest sign at most, which a few extra bytes cover.
+		Chunk chunk = new Chunk(limit + limit / 8 + 64);
+		int lineStart = 0;
+
+		while (lineStart < limit) {
+			int lineEnd = lineStart;
+			while (lineEnd < limit && bytes.get(lineEnd) != '\n')
+				lineEnd++;
+
+			int next = lineEnd + 1;
+			if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r')
+				lineEnd--;
+
+			if (lineEnd > lineStart) {
+				int sign = this.signOf(bytes, chars, lineStart, lineEnd, columnIndex);
+
+				lines.limit(lineEnd).position(lineStart);
+				chunk.append(lines, lineEnd - lineStart);
+				chunk.append((byte) ',');
+
+				if (sign == SignTable.UNKNOWN)
+					chunk.unknown++;
+				else
+					chunk.append(SIGN_BYTES[sign]);
+
+				chunk.append((byte) '\n');
+				chunk.records++;
+			}
+
+			lineStart = next;
+		}
+
+		return chunk;
+	}
+
+	/**
+	 * Finds the date of a line and resolves its sign.
+	 *
+	 * @return int The index of the sign in {@link SignTable#SIGNS}, or {@link SignTable#UNKNOWN}.
+	 */
+	private int signOf(ByteBuffer bytes, CharSequence chars, int lineStart, int lineEnd, int columnIndex) {
+		int pos = lineStart;
+
+		for (int field = 0; ; field++) {
+			int fieldStart = pos, fieldEnd;
+
+			if (pos < lineEnd && bytes.get(pos) == '"') {
+				// A quoted date can't hold any quote, so the first quote ends it.
+				fieldStart = ++pos;
+				while (pos < lineEnd && bytes.get(pos) != '"')
+					pos++;
+
+				fieldEnd = pos;
+				while (pos < lineEnd && bytes.get(pos) != ',')
+					pos++;
+			}
+			else {
+				while (pos < lineEnd && bytes.get(pos) != ',')
+					pos++;
+
+				fieldEnd = pos;
+			}
+
+			if (field == columnIndex) {
+				int date = this.format.parse(chars, fieldStart, fieldEnd);
+				return date == DateCodec.INVALID ? SignTable.UNKNOWN : SignClassifier.signOfPacked(date);
+			}
+
+			if (pos >= lineEnd)
+				return SignTable.UNKNOWN;
+
+			// Skips the comma.
+			pos++;
+		}
+	}
+
+	/**
+	 * Finds the start of the line after the given position.
+	 *
+	 * @return long The position right after the first line break at or after the given position,
+	 * or the size of the file if there is none.
+	 */
+	private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long pos = from;
+
+		while (pos < size) {
+			buffer.clear();
+			int read = channel.read(buffer, pos);
+			if (read <= 0)
+				break;
+
+			for (int i = 0; i < read; i++)
+				if (buffer.get(i) == '\n')
+					return pos + i + 1;
+
+			pos += read;
+		}
+
+		return size;
+	}
+
+	private static String read(FileChannel channel, long from, long to) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+
+		while (buffer.hasRemaining())
+			if (channel.read(buffer, from + buffer.position()) < 0)
+				break;
+
+		return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+	}
+
+	private static String trimLineBreak(String line) {
+		int end = line.length();
+
+		while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r'))
+			end--;
+
+		return line.substring(0, end);
+	}
+
+	private static Chunk await(Future<Chunk> chunk) throws IOException, InterruptedException {
+		try {
+			return chunk.get();
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+
+			throw new IOException(cause);
+		}
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The outcome of a run of the pipeline.
+	 */
+	public static final class Summary {
+		private final long records;
+		private final long unknown;
+		private final long elapsedNanos;
+
+		private Summary(long records, long unknown, long elapsedNanos) {
+			this.records = records;
+			this.unknown = unknown;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * @return long The number of records read.
+		 */
+		public long records() {
+			return this.records;
+		}
+
+		/**
+		 * @return long The number of records whose date couldn't be read, and thus have no sign.
+		 */
+		public long unknown() {
+			return this.unknown;
+		}
+
+		/**
+		 * @return long The time the run took, in nanoseconds.
+		 */
+		public long elapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		/**
+		 * @return double The number of records classified per second.
+		 */
+		public double recordsPerSecond() {
+			return this.elapsedNanos == 0 ? 0 : this.records * 1e9 / this.elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "%,d records, %,d without a sign in %.3f s (%,.0f records/s)", this.records, this.unknown, this.elapsedNanos / 1e9, this.recordsPerSecond());
+		}
+	}
+
+	/**
+	 * The classified lines of a chunk, as they are written out.
+	 */
+	private static final class Chunk {
+		private byte[] output;
+		private int length;
+		private long records;
+		private long unknown;
+
+		private Chunk(int capacity) {
+			this.output = new byte[capacity];
+		}
+
+		private void append(ByteBuffer bytes, int count) {
+			this.ensureCapacity(count);
+			bytes.get(this.output, this.length, count);
+			this.length += count;
+		}
+
+		private void append(byte[] bytes) {
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.output, this.length, bytes.length);
+			this.length += bytes.length;
+		}
+
+		private void append(byte b) {
+			this.ensureCapacity(1);
+			this.output[this.length++] = b;
+		}
+
+		private void ensureCapacity(int count) {
+			if (this.length + count > this.output.length)
+				this.output = Arrays.copyOf(this.output, Math.max(this.output.length * 2, this.length + count));
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A minimal CSV reader and writer following RFC 4180 (comma separated, fields optionally quoted
+ * with {@code "}, and quotes escaped by doubling them), with the exception that a record may not
+ * span multiple lines.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class Csv {
+	// CONSTRUCTORS
+	private Csv() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Splits a line into its fields.
+	 *
+	 * @param line A single CSV line, without the line terminator.
+	 *
+	 * @return String[] The unquoted fields of the line.
+	 *
+	 * @throws IllegalArgumentException If a quoted field is not terminated or is followed by
+	 *                                  something other than a comma.
+	 */
+	static String[] split(String line) {
+		List<String> fields = new ArrayList<String>();
+		int pos = 0;
+
+		while (true) {
+			if (pos < line.length() && line.charAt(pos) == '"') {
+				StringBuilder field = new StringBuilder();
+				int start = pos++;
+
+				while (true) {
+					if (pos >= line.length())
+						throw new IllegalArgumentException(MessageFormat.format("Unterminated quoted field starting at column {0}.", String.valueOf(start + 1)));
+
+					char c = line.charAt(pos++);
+					if (c != '"') {
+						field.append(c);
+					}
+					else if (pos < line.length() && line.charAt(pos) == '"') {
+						field.append('"');
+						pos++;
+					}
+					else {
+						break;
+					}
+				}
+
+				fields.add(field.toString());
+
+				if (pos < line.length() && line.charAt(pos) != ',')
+					throw new IllegalArgumentException(MessageFormat.format("Unexpected character after a quoted field at column {0}.", String.valueOf(pos + 1)));
+			}
+			else {
+				int end = line.indexOf(',', pos);
+
+				if (end < 0)
+					end = line.length();
+
+				fields.add(line.substring(pos, end));
+				pos = end;
+			}
+
+			if (pos >= line.length())
+				return fields.toArray(new String[0]);
+
+			// Skips the comma.
+			pos++;
+		}
+	}
+
+	/**
+	 * Writes the given value as a CSV field, quoting it only when needed.
+	 *
+	 * @param out The builder the field is written to.
+	 * @param value The value of the field.
+	 */
+	static void appendField(StringBuilder out, String value) {
+		boolean quote = false;
+
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+
+		if (!quote) {
+			out.append(value);
+			return;
+		}
+
+		out.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			if (c == '"')
+				out.append('"');
+			out.append(c);
+		}
+		out.append('"');
+	}
+}
@@ -0,0 +1,821 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.SignTable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates synthetic records of people, each with a birth date and the later date they signed up
+ * on, to feed the batch tools and the benchmarks with realistic input at scale.<br>
+ * <br>
+ * The birth dates follow a {@link Distribution} over the days of the year, within a range of years.
+ * A share of the records can be malformed, their birth date being rejected by a rule of
+ * {@code validation.rules}:
+ * <ul>
+ *     <li>an empty date, rejected by {@code Required};</li>
+ *     <li>a day that doesn't exist, such as {@code 02/30/1990}, rejected by {@code Date};</li>
+ *     <li>a date in another format, such as {@code 1990-03-21}, rejected by {@code Date};</li>
+ *     <li>a value that isn't a date at all, such as {@code n/a}, rejected by {@code Date},
+ *     {@code Numeric} and {@code Boolean};</li>
+ *     <li>a date after the sign up date, rejected by {@code Before:signup_date}.</li>
+ * </ul>
+ * The rows are generated in blocks of a fixed number of rows, by a pool of workers, and written out
+ * in order. Each block draws from a random generator of its own, seeded from the seed of the run
+ * and the index of the block, so a seed always generates the same file, whatever the number of
+ * workers. Every date is formatted only once, when the generator is built, so a row is only a few
+ * random draws and array copies.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class DatasetGenerator {
+	// PUBLIC VARIABLES
+	/**
+	 * The default number of rows handed to a worker at a time.
+	 */
+	public static final int DEFAULT_BLOCK_ROWS = 1 << 16;
+
+	/**
+	 * The names of the columns, in order.
+	 */
+	public static final String[] COLUMNS = new String[] {"id", "birth_date", "signup_date"};
+
+	// PRIVATE VARIABLES
+	/**
+	 * The number of years after the last birth year the sign up dates are drawn from.
+	 */
+	private static final int SIGNUP_YEARS = 10;
+
+	/**
+	 * The days of a leap year, plus the days following them, which is also a day of a leap year.
+	 */
+	private static final int DAYS = 366;
+
+	/**
+	 * Month and day combinations that don't exist in any year.
+	 */
+	private static final int[][] IMPOSSIBLE_DAYS = new int[][] {
+		{2, 30}, {2, 31}, {4, 31}, {6, 31}, {9, 31}, {11, 31}, {13, 1}, {0, 10}, {1, 32}
+	};
+
+	private static final byte[][] GARBAGE = DatasetGenerator.bytesOf("n/a", "unknown", "tbd", "??/??/????");
+
+	private static final Malformation[] MALFORMATIONS = Malformation.values();
+
+	private static final byte[] JSON_ID = "{\"id\":".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] JSON_BIRTH_DATE = ",\"birth_date\":\"".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] JSON_SIGNUP_DATE = "\",\"signup_date\":\"".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] JSON_END = "\"}\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] COMMA = new byte[] {','};
+	private static final byte[] NEW_LINE = new byte[] {'\n'};
+
+	private final long rows;
+	private final FileFormat fileFormat;
+	private final Distribution distribution;
+	private final double malformed;
+	private final long seed;
+	private final DateCodec.Format dateFormat;
+	private final int fromYear;
+	private final int toYear;
+	private final int workers;
+	private final int blockRows;
+
+	/**
+	 * The packed date of each day of each year, indexed by {@code (year - fromYear) * 366} plus the
+	 * day of the leap year, or {@link DateCodec#INVALID} for February 29th of the other years.
+	 */
+	private final int[] packed;
+	/**
+	 * The formatted dates, indexed like {@link #packed}.
+	 */
+	private final byte[][] formatted;
+	/**
+	 * The same dates in the ISO format, which none of the supported formats read.
+	 */
+	private final byte[][] isoFormatted;
+	/**
+	 * Dates that don't exist in the format of the dataset, for each year.
+	 */
+	private final byte[][] impossible;
+	/**
+	 * The cumulated weights of the days of a leap year, drawn from by the {@link #distribution}.
+	 */
+	private final double[] cumulatedWeights;
+
+	// CONSTRUCTORS
+	private DatasetGenerator(Builder builder) {
+		this.rows = builder.rows;
+		this.fileFormat = builder.fileFormat;
+		this.distribution = builder.distribution;
+		this.malformed = builder.malformed;
+		this.seed = builder.seed;
+		this.dateFormat = builder.dateFormat;
+		this.fromYear = builder.fromYear;
+		this.toYear = builder.toYear;
+		this.workers = builder.workers;
+		this.blockRows = builder.blockRows;
+
+		// The birth years, the sign up years, and the year after those, for the late birth dates.
+		int years = this.toYear - this.fromYear + 1 + DatasetGenerator.SIGNUP_YEARS + 1;
+		this.packed = new int[years * DAYS];
+		this.formatted = new byte[years * DAYS][];
+		this.isoFormatted = new byte[years * DAYS][];
+		this.impossible = new byte[years * IMPOSSIBLE_DAYS.length][];
+
+		for (int y = 0; y < years; y++) {
+			int year = this.fromYear + y;
+
+			for (int month = 1; month <= 12; month++) {
+				for (int day = 1; day <= 31; day++) {
+					int dayOfYear = SignTable.dayOfLeapYear(month, day);
+					if (dayOfYear == SignTable.UNKNOWN)
+						continue;
+
+					int date = DateCodec.pack(year, month, day);
+					int index = y * DAYS + dayOfYear;
+
+					this.packed[index] = date;
+					if (date != DateCodec.INVALID) {
+						this.formatted[index] = this.dateFormat.format(date).getBytes(StandardCharsets.US_ASCII);
+						this.isoFormatted[index] = String.format(Locale.ROOT, "%04d-%02d-%02d", year, month, day).getBytes(StandardCharsets.US_ASCII);
+					}
+				}
+			}
+
+			for (int i = 0; i < IMPOSSIBLE_DAYS.length; i++)
+				this.impossible[y * IMPOSSIBLE_DAYS.length + i] = DatasetGenerator.format(
+					this.dateFormat.getPattern(), year, IMPOSSIBLE_DAYS[i][0], IMPOSSIBLE_DAYS[i][1]
+				).getBytes(StandardCharsets.US_ASCII);
+		}
+
+		this.cumulatedWeights = new double[DAYS];
+		double total = 0;
+
+		for (LocalDate day = LocalDate.of(2024, 1, 1); day.getYear() == 2024; day = day.plusDays(1)) {
+			total += this.distribution.weightOf(day);
+			this.cumulatedWeights[day.getDayOfYear() - 1] = total;
+		}
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return Builder A builder of a generator, which generates a million uniform CSV rows by default.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Generates the dataset. The output is flushed, but not closed.
+	 *
+	 * @param out Where the dataset is written.
+	 *
+	 * @return Summary The number of rows, malformed rows and bytes written.
+	 *
+	 * @throws IOException If writing fails.
+	 * @throws InterruptedException If the calling thread is interrupted while waiting on the workers.
+	 */
+	public Summary run(OutputStream out) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		long bytes = 0, malformed = 0;
+
+		if (this.fileFormat == FileFormat.CSV) {
+			byte[] header = (String.join(",", COLUMNS) + "\n").getBytes(StandardCharsets.US_ASCII);
+
+			out.write(header);
+			bytes += header.length;
+		}
+
+		AtomicInteger threads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(this.workers, (Runnable task) -> {
+			Thread thread = new Thread(task, "generator-worker-" + threads.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		ArrayDeque<Future<Block>> inFlight = new ArrayDeque<Future<Block>>();
+		long blocks = (this.rows + this.blockRows - 1) / this.blockRows;
+
+		try {
+			long next = 0;
+
+			while (next < blocks || !inFlight.isEmpty()) {
+				// Keeps every worker busy, with as many blocks waiting to be written.
+				while (next < blocks && inFlight.size() < this.workers * 2) {
+					long block = next++;
+					inFlight.add(executor.submit(() -> this.generate(block)));
+				}
+
+				Block block = DatasetGenerator.await(inFlight.poll());
+				out.write(block.output, 0, block.length);
+				bytes += block.length;
+				malformed += block.malformed;
+			}
+		}
+		finally {
+			for (Future<Block> block : inFlight)
+				block.cancel(true);
+			executor.shutdownNow();
+		}
+
+		out.flush();
+		return new Summary(this.rows, malformed, bytes, System.nanoTime() - start);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Generates the rows of a block.
+	 */
+	private Block generate(long index) {
+		long first = index * this.blockRows;
+		int count = (int) Math.min(this.blockRows, this.rows - first);
+		SplittableRandom random = new SplittableRandom(DatasetGenerator.seedOf(this.seed, index));
+		Block block = new Block(count * this.fileFormat.estimatedRowSize);
+
+		for (int i = 0; i < count; i++) {
+			long id = first + i + 1;
+			int signUp = this.signUpDate(random);
+			int birth = this.birthDate(random);
+			Malformation malformation = null;
+
+			if (this.malformed > 0 && random.nextDouble() < this.malformed) {
+				malformation = MALFORMATIONS[random.nextInt(MALFORMATIONS.length)];
+				block.malformed++;
+			}
+
+			if (this.fileFormat == FileFormat.BINARY)
+				this.appendBinary(block, random, birth, signUp, malformation);
+			else
+				this.appendText(block, random, id, birth, signUp, malformation);
+		}
+
+		return block;
+	}
+
+	private void appendText(Block block, SplittableRandom random, long id, int birth, int signUp, Malformation malformation) {
+		boolean json = this.fileFormat == FileFormat.NDJSON;
+
+		if (json) {
+			block.append(JSON_ID);
+			block.append(id);
+			block.append(JSON_BIRTH_DATE);
+		}
+		else {
+			block.append(id);
+			block.append((byte) ',');
+		}
+
+		if (malformation == null) {
+			block.append(this.formatted[birth]);
+		}
+		else {
+			switch (malformation) {
+				case EMPTY: break;
+				case IMPOSSIBLE: block.append(this.impossible[this.impossibleOf(random, birth)]); break;
+				case WRONG_FORMAT: block.append(this.isoFormatted[birth]); break;
+				case GARBAGE: block.append(GARBAGE[random.nextInt(GARBAGE.length)]); break;
+				case AFTER_SIGN_UP: block.append(this.formatted[this.afterSignUp(signUp)]); break;
+			}
+		}
+
+		block.append(json ? JSON_SIGNUP_DATE : COMMA);
+		block.append(this.formatted[signUp]);
+		block.append(json ? JSON_END : NEW_LINE);
+	}
+
+	/**
+	 * Appends a row as two big-endian {@code int}s: the packed birth date, then the packed sign up
+	 * date. A malformed birth date that isn't late is either {@link DateCodec#INVALID} when empty,
+	 * or a packed day that doesn't exist.
+	 */
+	private void appendBinary(Block block, SplittableRandom random, int birth, int signUp, Malformation malformation) {
+		int date;
+
+		if (malformation == null) {
+			date = this.packed[birth];
+		}
+		else if (malformation == Malformation.EMPTY) {
+			date = DateCodec.INVALID;
+		}
+		else if (malformation == Malformation.AFTER_SIGN_UP) {
+			date = this.packed[this.afterSignUp(signUp)];
+		}
+		else {
+			int[] day = IMPOSSIBLE_DAYS[random.nextInt(IMPOSSIBLE_DAYS.length)];
+			date = DateCodec.year(this.packed[birth]) * 10000 + day[0] * 100 + day[1];
+		}
+
+		block.appendInt(date);
+		block.appendInt(this.packed[signUp]);
+	}
+
+	/**
+	 * Draws a birth date from the distribution.
+	 *
+	 * @return int The index of the date in {@link #packed}.
+	 */
+	private int birthDate(SplittableRandom random) {
+		while (true) {
+			int year = random.nextInt(this.toYear - this.fromYear + 1);
+			int day = Arrays.binarySearch(this.cumulatedWeights, random.nextDouble() * this.cumulatedWeights[DAYS - 1]);
+			int index = year * DAYS + (day < 0 ? -day - 1 : day);
+
+			// Draws again on February 29th of the years without it.
+			if (this.packed[index] != DateCodec.INVALID)
+				return index;
+		}
+	}
+
+	/**
+	 * Draws a sign up date, uniformly over the years after the last birth year.
+	 *
+	 * @return int The index of the date in {@link #packed}.
+	 */
+	private int signUpDate(SplittableRandom random) {
+		int firstYear = this.toYear - this.fromYear + 1;
+
+		while (true) {
+			int index = (firstYear + random.nextInt(DatasetGenerator.SIGNUP_YEARS)) * DAYS + random.nextInt(DAYS);
+
+			if (this.packed[index] != DateCodec.INVALID)
+				return index;
+		}
+	}
+
+	/**
+	 * @return int The index of a year after the given sign up date, in {@link #packed}.
+	 */
+	private int afterSignUp(int signUp) {
+		int index = signUp + DAYS;
+
+		// February 29th is followed by March 1st, which always exists.
+		return this.packed[index] != DateCodec.INVALID ? index : index + 1;
+	}
+
+	/**
+	 * @return int The index of a day that doesn't exist, in the year of the given birth date, in {@link #impossible}.
+	 */
+	private int impossibleOf(SplittableRandom random, int birth) {
+		return (birth / DAYS) * IMPOSSIBLE_DAYS.length + random.nextInt(IMPOSSIBLE_DAYS.length);
+	}
+
+	/**
+	 * Formats a date field by field, following a pattern of {@link DateCodec}, even if it doesn't exist.
+	 */
+	private static String format(String pattern, int year, int month, int day) {
+		String date = pattern.contains("yyyy")
+			? pattern.replace("yyyy", String.format(Locale.ROOT, "%04d", year))
+			: pattern.replace("yy", String.format(Locale.ROOT, "%02d", year % 100));
+
+		return date
+			.replace("MM", String.format(Locale.ROOT, "%02d", month))
+			.replace("dd", String.format(Locale.ROOT, "%02d", day));
+	}
+
+	/**
+	 * Mixes the seed of a run with the index of a block, such that close indices give unrelated seeds.
+	 */
+	private static long seedOf(long seed, long block) {
+		long z = seed + (block + 1) * 0x9E3779B97F4A7C15L;
+
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static byte[][] bytesOf(String... values) {
+		byte[][] bytes = new byte[values.length][];
+
+		for (int i = 0; i < values.length; i++)
+			bytes[i] = values[i].getBytes(StandardCharsets.US_ASCII);
+
+		return bytes;
+	}
+
+	private static Block await(Future<Block> block) throws IOException, InterruptedException {
+		try {
+			return block.get();
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+
+			throw new IOException(cause);
+		}
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The formats a dataset can be written in.
+	 */
+	public enum FileFormat {
+		/**
+		 * Comma separated values, with the names of the columns on the first line.
+		 */
+		CSV(32),
+		/**
+		 * Newline delimited JSON, one object per line.
+		 */
+		NDJSON(72),
+		/**
+		 * Two big-endian {@code int}s per row, the birth date then the sign up date, both packed as
+		 * {@code yyyymmdd}, without any header. The ids are the positions of the rows.
+		 */
+		BINARY(8);
+
+		private final int estimatedRowSize;
+
+		FileFormat(int estimatedRowSize) {
+			this.estimatedRowSize = estimatedRowSize;
+		}
+
+		/**
+		 * Fetches the format with the given name, ignoring the case.
+		 *
+		 * @param name The name of the format, such as {@code "csv"}.
+		 *
+		 * @return FileFormat The matching format.
+		 *
+		 * @throws IllegalArgumentException If there's no such format.
+		 */
+		public static FileFormat of(String name) {
+			try {
+				return FileFormat.valueOf(name.toUpperCase(Locale.ROOT));
+			}
+			catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException(MessageFormat.format("Unknown format \"{0}\".", name));
+			}
+		}
+
+		/**
+		 * Guesses the format of a file from its extension, defaulting to {@link #CSV}.
+		 *
+		 * @param fileName The name of the file.
+		 *
+		 * @return FileFormat The format of the file.
+		 */
+		public static FileFormat forFile(String fileName) {
+			String name = fileName.toLowerCase(Locale.ROOT);
+
+			if (name.endsWith(".ndjson") || name.endsWith(".jsonl"))
+				return FileFormat.NDJSON;
+			if (name.endsWith(".bin"))
+				return FileFormat.BINARY;
+
+			return FileFormat.CSV;
+		}
+	}
+
+	/**
+	 * How the birth dates are spread over the days of the year.
+	 */
+	public enum Distribution {
+		/**
+		 * Every day is as likely.
+		 */
+		UNIFORM {
+			@Override
+			double weightOf(LocalDate day) {
+				return 1;
+			}
+		},
+		/**
+		 * Follows the seasonality of real births: more births in late summer and early autumn, and
+		 * fewer on the major holidays, when fewer births are scheduled.
+		 */
+		SEASONAL {
+			/**
+			 * The relative number of births per day of each month.
+			 */
+			private final double[] monthRates = new double[] {
+				0.95, 0.97, 0.98, 0.96, 0.98, 1.00, 1.05, 1.08, 1.08, 1.02, 0.97, 0.99
+			};
+
+			@Override
+			double weightOf(LocalDate day) {
+				double weight = this.monthRates[day.getMonthValue() - 1];
+
+				switch (day.getMonthValue() * 100 + day.getDayOfMonth()) {
+					case 101: return weight * 0.75;
+					case 704: return weight * 0.80;
+					case 1224: return weight * 0.80;
+					case 1225: return weight * 0.65;
+					case 1226: return weight * 0.85;
+					default: return weight;
+				}
+			}
+		},
+		/**
+		 * The days on either side of a change of sign are ten times as likely as the others, to
+		 * stress the boundaries of the signs.
+		 */
+		CUSP {
+			@Override
+			double weightOf(LocalDate day) {
+				int sign = SignTable.signOf(day.getMonthValue(), day.getDayOfMonth());
+				LocalDate before = day.minusDays(1), after = day.plusDays(1);
+
+				boolean cusp = sign != SignTable.signOf(before.getMonthValue(), before.getDayOfMonth())
+					|| sign != SignTable.signOf(after.getMonthValue(), after.getDayOfMonth());
+
+				return cusp ? 10 : 1;
+			}
+		};
+
+		/**
+		 * @param day A day of a leap year.
+		 *
+		 * @return double How likely the day is, relative to the other days.
+		 */
+		abstract double weightOf(LocalDate day);
+
+		/**
+		 * Fetches the distribution with the given name, ignoring the case.
+		 *
+		 * @param name The name of the distribution, such as {@code "seasonal"}.
+		 *
+		 * @return Distribution The matching distribution.
+		 *
+		 * @throws IllegalArgumentException If there's no such distribution.
+		 */
+		public static Distribution of(String name) {
+			try {
+				return Distribution.valueOf(name.toUpperCase(Locale.ROOT));
+			}
+			catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException(MessageFormat.format("Unknown distribution \"{0}\".", name));
+			}
+		}
+	}
+
+	/**
+	 * The ways a birth date is malformed, each rejected by a rule.
+	 */
+	private enum Malformation {
+		EMPTY,
+		IMPOSSIBLE,
+		WRONG_FORMAT,
+		GARBAGE,
+		AFTER_SIGN_UP
+	}
+
+	/**
+	 * Builds a {@link DatasetGenerator}.
+	 */
+	public static final class Builder {
+		private long rows = 1_000_000;
+		private FileFormat fileFormat = FileFormat.CSV;
+		private Distribution distribution = Distribution.UNIFORM;
+		private double malformed;
+		private long seed;
+		private DateCodec.Format dateFormat = DateCodec.forPattern("MM/dd/yyyy");
+		private int fromYear = 1950;
+		private int toYear = 2010;
+		private int workers = Runtime.getRuntime().availableProcessors();
+		private int blockRows = DEFAULT_BLOCK_ROWS;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param rows The number of rows to generate.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder rows(long rows) {
+			this.rows = rows;
+			return this;
+		}
+
+		/**
+		 * @param fileFormat The format the rows are written in.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder fileFormat(FileFormat fileFormat) {
+			this.fileFormat = fileFormat;
+			return this;
+		}
+
+		/**
+		 * @param distribution How the birth dates are spread over the year.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder distribution(Distribution distribution) {
+			this.distribution = distribution;
+			return this;
+		}
+
+		/**
+		 * @param malformed The share of the rows whose birth date is malformed, from {@code 0} to {@code 1}.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder malformed(double malformed) {
+			this.malformed = malformed;
+			return this;
+		}
+
+		/**
+		 * @param seed The seed of the random draws. The same seed always generates the same rows.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder seed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		/**
+		 * @param dateFormat The format the dates are written in, unless the file is binary.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder dateFormat(DateCodec.Format dateFormat) {
+			this.dateFormat = dateFormat;
+			return this;
+		}
+
+		/**
+		 * @param fromYear The first year of the birth dates.
+		 * @param toYear The last year of the birth dates. The sign up dates are within the ten years after it.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder years(int fromYear, int toYear) {
+			this.fromYear = fromYear;
+			this.toYear = toYear;
+			return this;
+		}
+
+		/**
+		 * @param workers The number of threads generating the blocks.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder workers(int workers) {
+			this.workers = workers;
+			return this;
+		}
+
+		/**
+		 * @param blockRows The number of rows handed to a worker at a time. Changing it changes the rows generated.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder blockRows(int blockRows) {
+			this.blockRows = blockRows;
+			return this;
+		}
+
+		/**
+		 * @return DatasetGenerator The generator.
+		 *
+		 * @throws IllegalArgumentException When an option is out of its range.
+		 */
+		public DatasetGenerator build() {
+			if (this.rows < 0)
+				throw new IllegalArgumentException("The number of rows can't be negative.");
+			if (!(this.malformed >= 0 && this.malformed <= 1))
+				throw new IllegalArgumentException("The share of malformed rows must be from 0 to 1.");
+			if (this.fromYear < 1 || this.toYear < this.fromYear || this.toYear + SIGNUP_YEARS + 1 > 9999)
+				throw new IllegalArgumentException("The years must be an ascending range from 1 to 9988.");
+			if (this.workers < 1 || this.blockRows < 1)
+				throw new IllegalArgumentException("The workers and the block size must be at least 1.");
+
+			return new DatasetGenerator(this);
+		}
+	}
+
+	/**
+	 * The outcome of a run of the generator.
+	 */
+	public static final class Summary {
+		private final long rows;
+		private final long malformed;
+		private final long bytes;
+		private final long elapsedNanos;
+
+		private Summary(long rows, long malformed, long bytes, long elapsedNanos) {
+			this.rows = rows;
+			this.malformed = malformed;
+			this.bytes = bytes;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * @return long The number of rows written.
+		 */
+		public long rows() {
+			return this.rows;
+		}
+
+		/**
+		 * @return long The number of rows whose birth date is malformed.
+		 */
+		public long malformed() {
+			return this.malformed;
+		}
+
+		/**
+		 * @return long The number of bytes written.
+		 */
+		public long bytes() {
+			return this.bytes;
+		}
+
+		/**
+		 * @return long The time the run took, in nanoseconds.
+		 */
+		public long elapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		/**
+		 * @return double The number of rows generated per second.
+		 */
+		public double rowsPerSecond() {
+			return this.elapsedNanos == 0 ? 0 : this.rows * 1e9 / this.elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "%,d rows, %,d malformed, %,d bytes in %.3f s (%,.0f rows/s)", this.rows, this.malformed, this.bytes, this.elapsedNanos / 1e9, this.rowsPerSecond());
+		}
+	}
+
+	/**
+	 * The generated rows of a block, as they are written out.
+	 */
+	private static final class Block {
+		private byte[] output;
+		private int length;
+		private long malformed;
+
+		private Block(int capacity) {
+			this.output = new byte[Math.max(capacity, 16)];
+		}
+
+		private void append(byte[] bytes) {
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.output, this.length, bytes.length);
+			this.length += bytes.length;
+		}
+
+		private void append(byte b) {
+			this.ensureCapacity(1);
+			this.output[this.length++] = b;
+		}
+
+		/**
+		 * Appends the decimal digits of a positive number.
+		 */
+		private void append(long value) {
+			this.ensureCapacity(20);
+
+			int digits = 1;
+			for (long v = value; v >= 10; v /= 10)
+				digits++;
+
+			for (int i = this.length + digits - 1; i >= this.length; i--, value /= 10)
+				this.output[i] = (byte) ('0' + value % 10);
+
+			this.length += digits;
+		}
+
+		private void appendInt(int value) {
+			this.ensureCapacity(4);
+			this.output[this.length++] = (byte) (value >>> 24);
+			this.output[this.length++] = (byte) (value >>> 16);
+			this.output[this.length++] = (byte) (value >>> 8);
+			this.output[this.length++] = (byte) value;
+		}
+
+		private void ensureCapacity(int count) {
+			if (this.length + count > this.output.length)
+				this.output = Arrays.copyOf(this.output, Math.max(this.output.length * 2, this.length + count));
+		}
+	}
+}
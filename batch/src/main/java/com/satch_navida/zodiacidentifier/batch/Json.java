@@ -0,0 +1,345 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.validation.MessageBag;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON reader and writer, only covering what the batch tools need: reading a single
+ * record from a line of NDJSON and writing strings and error bags back out.<br>
+ * <br>
+ * Objects are read into a {@link LinkedHashMap} (keeping the order of the fields), arrays into a
+ * {@link List}, integers into a {@link Long} and every other number into a {@link Double}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class Json {
+	// PRIVATE VARIABLES
+	/**
+	 * The deepest nesting of objects and arrays read, such that a malformed line fails like any other
+	 * instead of overflowing the stack of the parser.
+	 */
+	private static final int MAX_DEPTH = 512;
+
+	// CONSTRUCTORS
+	private Json() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Reads a JSON object.
+	 *
+	 * @param text The text holding exactly one JSON object, optionally surrounded by whitespace.
+	 *
+	 * @return Map&lt;String, Object&gt; The fields of the object.
+	 *
+	 * @throws IllegalArgumentException If the text is not a valid JSON object, or is nested deeper than
+	 * 512 levels.
+	 */
+	static Map<String, Object> parseObject(String text) {
+		Parser parser = new Parser(text);
+
+		parser.skipWhitespace();
+		if (parser.peek() != '{')
+			throw parser.error("Expected an object");
+
+		Map<String, Object> object = parser.readObject();
+
+		parser.skipWhitespace();
+		if (parser.pos != text.length())
+			throw parser.error("Unexpected trailing content");
+
+		return object;
+	}
+
+	/**
+	 * Writes the given string as a quoted JSON string.
+	 *
+	 * @param out The builder the string is written to.
+	 * @param value The string to write.
+	 */
+	static void appendString(StringBuilder out, String value) {
+		out.append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			switch (c) {
+				case '"': out.append("\\\""); break;
+				case '\\': out.append("\\\\"); break;
+				case '\n': out.append("\\n"); break;
+				case '\r': out.append("\\r"); break;
+				case '\t': out.append("\\t"); break;
+				default:
+					if (c < 0x20)
+						out.append(String.format("\\u%04x", (int) c));
+					else
+						out.append(c);
+			}
+		}
+
+		out.append('"');
+	}
+
+	/**
+	 * Writes the messages of the given bag as a JSON object of objects, such as
+	 * <code>{"birth_date": {"Required": "The birth date is required."}}</code>.
+	 *
+	 * @param out The builder the messages are written to.
+	 * @param messages The messages to write.
+	 */
+	static void appendMessages(StringBuilder out, MessageBag messages) {
+		boolean firstKey = true;
+
+		out.append('{');
+		for (String key : messages.keys()) {
+			Map<String, String> keyMessages = messages.get(key);
+
+			if (!firstKey)
+				out.append(',');
+			firstKey = false;
+
+			Json.appendString(out, key);
+			out.append(":{");
+
+			boolean firstRule = true;
+			for (Map.Entry<String, String> message : keyMessages.entrySet()) {
+				if (!firstRule)
+					out.append(',');
+				firstRule = false;
+
+				Json.appendString(out, message.getKey());
+				out.append(':');
+				Json.appendString(out, message.getValue());
+			}
+
+			out.append('}');
+		}
+		out.append('}');
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * A recursive descent parser over a single string.
+	 */
+	private static final class Parser {
+		private final String text;
+		private int pos;
+		private int depth;
+
+		private Parser(String text) {
+			this.text = text;
+		}
+
+		private Object readValue() {
+			this.skipWhitespace();
+
+			switch (this.peek()) {
+				case '{': case '[': return this.readNested();
+				case '"': return this.readString();
+				case 't': return this.readLiteral("true", Boolean.TRUE);
+				case 'f': return this.readLiteral("false", Boolean.FALSE);
+				case 'n': return this.readLiteral("null", null);
+				default: return this.readNumber();
+			}
+		}
+
+		private Object readNested() {
+			if (++this.depth > Json.MAX_DEPTH)
+				throw this.error("Too deeply nested");
+
+			Object value = this.peek() == '{' ? this.readObject() : this.readArray();
+
+			this.depth--;
+			return value;
+		}
+
+		private Map<String, Object> readObject() {
+			Map<String, Object> object = new LinkedHashMap<String, Object>();
+
+			this.pos++;
+			this.skipWhitespace();
+			if (this.peek() == '}') {
+				this.pos++;
+				return object;
+			}
+
+			while (true) {
+				this.skipWhitespace();
+				if (this.peek() != '"')
+					throw this.error("Expected a field name");
+
+				String key = this.readString();
+
+				this.skipWhitespace();
+				this.expect(':');
+				object.put(key, this.readValue());
+				this.skipWhitespace();
+
+				if (this.peek() == ',') {
+					this.pos++;
+					continue;
+				}
+
+				this.expect('}');
+				return object;
+			}
+		}
+
+		private List<Object> readArray() {
+			List<Object> array = new ArrayList<Object>();
+
+			this.pos++;
+			this.skipWhitespace();
+			if (this.peek() == ']') {
+				this.pos++;
+				return array;
+			}
+
+			while (true) {
+				array.add(this.readValue());
+				this.skipWhitespace();
+
+				if (this.peek() == ',') {
+					this.pos++;
+					continue;
+				}
+
+				this.expect(']');
+				return array;
+			}
+		}
+
+		private String readString() {
+			int start = ++this.pos;
+
+			// Fast path: strings without escapes are cut straight out of the text.
+			while (this.pos < this.text.length()) {
+				char c = this.text.charAt(this.pos);
+
+				if (c == '"')
+					return this.text.substring(start, this.pos++);
+				if (c == '\\')
+					break;
+
+				this.pos++;
+			}
+
+			StringBuilder value = new StringBuilder(this.text.substring(start, this.pos));
+			while (this.pos < this.text.length()) {
+				char c = this.text.charAt(this.pos++);
+
+				if (c == '"')
+					return value.toString();
+
+				if (c != '\\') {
+					value.append(c);
+					continue;
+				}
+
+				if (this.pos >= this.text.length())
+					break;
+
+				char escaped = this.text.charAt(this.pos++);
+				switch (escaped) {
+					case '"': case '\\': case '/': value.append(escaped); break;
+					case 'b': value.append('\b'); break;
+					case 'f': value.append('\f'); break;
+					case 'n': value.append('\n'); break;
+					case 'r': value.append('\r'); break;
+					case 't': value.append('\t'); break;
+					case 'u':
+						if (this.pos + 4 > this.text.length())
+							throw this.error("Incomplete unicode escape");
+
+						try {
+							value.append((char) Integer.parseInt(this.text.substring(this.pos, this.pos + 4), 16));
+						}
+						catch (NumberFormatException e) {
+							throw this.error("Invalid unicode escape");
+						}
+
+						this.pos += 4;
+						break;
+					default:
+						this.pos--;
+						throw this.error("Invalid escape");
+				}
+			}
+
+			throw this.error("Unterminated string");
+		}
+
+		private Object readLiteral(String literal, Object value) {
+			if (!this.text.startsWith(literal, this.pos))
+				throw this.error("Unexpected character");
+
+			this.pos += literal.length();
+			return value;
+		}
+
+		private Object readNumber() {
+			int start = this.pos;
+			boolean integral = true;
+
+			while (this.pos < this.text.length()) {
+				char c = this.text.charAt(this.pos);
+
+				if (c == '.' || c == 'e' || c == 'E')
+					integral = false;
+				else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9')))
+					break;
+
+				this.pos++;
+			}
+
+			if (start == this.pos)
+				throw this.error("Unexpected character");
+
+			String number = this.text.substring(start, this.pos);
+			try {
+				if (integral) {
+					try {
+						return Long.parseLong(number);
+					}
+					catch (NumberFormatException e) {
+						// Too large for a long; falls through to a double.
+					}
+				}
+
+				return Double.parseDouble(number);
+			}
+			catch (NumberFormatException e) {
+				this.pos = start;
+				throw this.error("Invalid number");
+			}
+		}
+
+		private void expect(char c) {
+			if (this.peek() != c)
+				throw this.error(MessageFormat.format("Expected ''{0}''", c));
+
+			this.pos++;
+		}
+
+		private char peek() {
+			return this.pos < this.text.length() ? this.text.charAt(this.pos) : '\0';
+		}
+
+		private void skipWhitespace() {
+			while (this.pos < this.text.length() && Character.isWhitespace(this.text.charAt(this.pos)))
+				this.pos++;
+		}
+
+		private IllegalArgumentException error(String reason) {
+			return new IllegalArgumentException(MessageFormat.format("{0} at column {1}.", reason, String.valueOf(this.pos + 1)));
+		}
+	}
+}
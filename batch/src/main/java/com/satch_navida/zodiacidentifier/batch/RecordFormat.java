@@ -0,0 +1,184 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.validation.MessageBag;
+
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The line based formats the batch tools can read records from, each knowing how to turn a line
+ * into a record and how to write a failing record back out along with its errors.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public enum RecordFormat {
+	/**
+	 * Newline delimited JSON, one object per line. A failing record is written as
+	 * <code>{"line": 12, "record": {...}, "errors": {"birth_date": {"Required": "..."}}}</code>,
+	 * where {@code record} holds the line as it was read, or the line as a string if it could not
+	 * be read as an object.
+	 */
+	NDJSON {
+		@Override
+		public Map<String, Object> parse(String line, String[] header) {
+			return Json.parseObject(line);
+		}
+
+		@Override
+		public void appendFailure(StringBuilder out, long lineNumber, String line, boolean parsed, MessageBag errors) {
+			out.append("{\"line\":").append(lineNumber).append(",\"record\":");
+
+			if (parsed)
+				out.append(line);
+			else
+				Json.appendString(out, line);
+
+			out.append(",\"errors\":");
+			Json.appendMessages(out, errors);
+			out.append("}\n");
+		}
+	},
+
+	/**
+	 * Comma separated values, with the field names on the first line. Failing records are written
+	 * under the same header, with the line number prepended and the errors (as a JSON object)
+	 * appended to each line.
+	 */
+	CSV {
+		@Override
+		public boolean hasHeader() {
+			return true;
+		}
+
+		@Override
+		public String[] parseHeader(String line) {
+			return Csv.split(line);
+		}
+
+		@Override
+		public String outputHeader(String line) {
+			return "line," + line + ",errors\n";
+		}
+
+		@Override
+		public Map<String, Object> parse(String line, String[] header) {
+			String[] fields = Csv.split(line);
+
+			if (fields.length != header.length)
+				throw new IllegalArgumentException(MessageFormat.format("Expected {0} fields but found {1}.", header.length, fields.length));
+
+			Map<String, Object> record = new LinkedHashMap<String, Object>();
+			for (int i = 0; i < fields.length; i++)
+				record.put(header[i], fields[i]);
+
+			return record;
+		}
+
+		@Override
+		public void appendFailure(StringBuilder out, long lineNumber, String line, boolean parsed, MessageBag errors) {
+			StringBuilder json = new StringBuilder();
+			Json.appendMessages(json, errors);
+
+			out.append(lineNumber).append(',');
+
+			// A line that could not be split is quoted as a whole so it can't swallow the errors.
+			if (parsed)
+				out.append(line);
+			else
+				Csv.appendField(out, line);
+
+			out.append(',');
+			Csv.appendField(out, json.toString());
+			out.append('\n');
+		}
+	};
+
+	// PUBLIC METHODS
+
+	/**
+	 * Identifies whether the first line of the input holds the field names instead of a record.
+	 *
+	 * @return boolean {@code true} if the format has a header line.
+	 */
+	public boolean hasHeader() {
+		return false;
+	}
+
+	/**
+	 * Reads the field names from the header line.
+	 *
+	 * @param line The first line of the input.
+	 *
+	 * @return String[] The field names, in the order of the fields of each record.
+	 */
+	public String[] parseHeader(String line) {
+		throw new UnsupportedOperationException(MessageFormat.format("{0} has no header.", this.name()));
+	}
+
+	/**
+	 * Creates the header written before the failing records.
+	 *
+	 * @param line The header line of the input.
+	 *
+	 * @return String The header line of the output, including the line terminator.
+	 */
+	public String outputHeader(String line) {
+		throw new UnsupportedOperationException(MessageFormat.format("{0} has no header.", this.name()));
+	}
+
+	/**
+	 * Reads a record from a line.
+	 *
+	 * @param line The line to read.
+	 * @param header The field names read through {@link #parseHeader(String)}, or {@code null} if the
+	 *               format has no header.
+	 *
+	 * @return Map&lt;String, Object&gt; The fields of the record.
+	 *
+	 * @throws IllegalArgumentException If the line is malformed.
+	 */
+	public abstract Map<String, Object> parse(String line, String[] header);
+
+	/**
+	 * Writes a failing record along with its errors.
+	 *
+	 * @param out The builder the record is written to.
+	 * @param lineNumber The line number (starting at 1) of the record in the input.
+	 * @param line The line as it was read.
+	 * @param parsed Whether the line was successfully read as a record.
+	 * @param errors The errors of the record.
+	 */
+	public abstract void appendFailure(StringBuilder out, long lineNumber, String line, boolean parsed, MessageBag errors);
+
+	/**
+	 * Fetches the format with the given name, ignoring the case.
+	 *
+	 * @param name The name of the format, such as {@code "ndjson"} or {@code "csv"}.
+	 *
+	 * @return RecordFormat The matching format.
+	 *
+	 * @throws IllegalArgumentException If there's no such format.
+	 */
+	public static RecordFormat of(String name) {
+		try {
+			return RecordFormat.valueOf(name.toUpperCase(Locale.ROOT));
+		}
+		catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(MessageFormat.format("Unknown format \"{0}\".", name));
+		}
+	}
+
+	/**
+	 * Guesses the format of a file from its extension, defaulting to {@link #NDJSON}.
+	 *
+	 * @param fileName The name of the file.
+	 *
+	 * @return RecordFormat The format of the file.
+	 */
+	public static RecordFormat forFile(String fileName) {
+		return fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? RecordFormat.CSV : RecordFormat.NDJSON;
+	}
+}
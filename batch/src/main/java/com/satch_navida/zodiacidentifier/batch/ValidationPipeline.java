@@ -0,0 +1,411 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.validation.MessageBag;
+import com.satch_navida.zodiacidentifier.validation.ValidationSchema;
+import com.satch_navida.zodiacidentifier.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams records through a {@link ValidationSchema}, writing out only the records that failed
+ * along with their errors. The input is never loaded as a whole, so files of any size can be
+ * validated with the same amount of memory.<br>
+ * <br>
+ * The pipeline is made of three stages:
+ * <ol>
+ *     <li>The reader (the thread calling {@link #run(BufferedReader, Writer)}) cuts the input into
+ *     blocks of lines.</li>
+ *     <li>The workers parse each line of a block into a record and validate it, rendering the
+ *     failing records right away.</li>
+ *     <li>The writer writes the rendered blocks out in the same order they were read.</li>
+ * </ol>
+ * The stages are connected by bounded queues, and the reader can only have a fixed number of
+ * blocks in flight, so a slow writer holds the reader back instead of filling up the memory.<br>
+ * <br>
+ * Records that can't be parsed are reported as failures, with the error under the
+ * {@value #RECORD_KEY} key.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationPipeline {
+	// PUBLIC VARIABLES
+	/**
+	 * The default number of lines handed to a worker at a time.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+	/**
+	 * The key the error of a record that can't be parsed is reported under.
+	 */
+	public static final String RECORD_KEY = "_record";
+
+	// PRIVATE VARIABLES
+	private static final Block END = new Block(-1, new String[0], new long[0], 0);
+
+	private final ValidationSchema schema;
+	private final RecordFormat format;
+	private final int workers;
+	private final int blockSize;
+	private final int maxBlocksInFlight;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link ValidationPipeline} with a worker per core.
+	 *
+	 * @param schema The compiled rules every record will be validated against.
+	 * @param format The format of the input and output.
+	 */
+	public ValidationPipeline(ValidationSchema schema, RecordFormat format) {
+		this(schema, format, Runtime.getRuntime().availableProcessors(), DEFAULT_BLOCK_SIZE, Runtime.getRuntime().availableProcessors() * 4);
+	}
+
+	/**
+	 * Creates an instance of {@link ValidationPipeline}.
+	 *
+	 * @param schema The compiled rules every record will be validated against.
+	 * @param format The format of the input and output.
+	 * @param workers The number of threads parsing and validating the records.
+	 * @param blockSize The number of lines handed to a worker at a time.
+	 * @param maxBlocksInFlight The maximum number of blocks read but not yet written. Reading blocks
+	 *                          until a block is written once the limit is reached.
+	 */
+	public ValidationPipeline(ValidationSchema schema, RecordFormat format, int workers, int blockSize, int maxBlocksInFlight) {
+		if (workers < 1 || blockSize < 1 || maxBlocksInFlight < 1)
+			throw new IllegalArgumentException("The workers, block size and maximum blocks in flight must be at least 1.");
+
+		this.schema = schema;
+		this.format = format;
+		this.workers = workers;
+		this.blockSize = blockSize;
+		this.maxBlocksInFlight = maxBlocksInFlight;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Validates every record of the input, writing the failing ones to the output. Blank lines are
+	 * skipped, but still counted in the line numbers. The output is flushed, but not closed.
+	 *
+	 * @param in The input to read the records from.
+	 * @param out The output to write the failing records to.
+	 *
+	 * @return Summary The number of records read and failed.
+	 *
+	 * @throws IOException If reading or writing fails.
+	 * @throws InterruptedException If the calling thread is interrupted while waiting on the other
+	 *                              stages.
+	 */
+	public Summary run(BufferedReader in, Writer out) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		long lineNumber = 0;
+		String[] header = null;
+		String line = null;
+
+		if (this.format.hasHeader()) {
+			while ((line = in.readLine()) != null) {
+				lineNumber++;
+
+				if (!line.isEmpty())
+					break;
+			}
+
+			if (line == null)
+				return new Summary(0, 0, System.nanoTime() - start);
+
+			header = this.format.parseHeader(line);
+			out.write(this.format.outputHeader(line));
+		}
+
+		Execution execution = new Execution(header, out);
+		execution.start();
+
+		try {
+			String[] lines = new String[this.blockSize];
+			long[] lineNumbers = new long[this.blockSize];
+			int count = 0;
+			long sequence = 0;
+
+			while (execution.failure.get() == null && (line = in.readLine()) != null) {
+				lineNumber++;
+
+				if (line.isEmpty())
+					continue;
+
+				lines[count] = line;
+				lineNumbers[count] = lineNumber;
+
+				if (++count == this.blockSize) {
+					execution.submit(new Block(sequence++, lines, lineNumbers, count));
+
+					lines = new String[this.blockSize];
+					lineNumbers = new long[this.blockSize];
+					count = 0;
+				}
+			}
+
+			if (count > 0 && execution.failure.get() == null)
+				execution.submit(new Block(sequence, lines, lineNumbers, count));
+		}
+		finally {
+			execution.finish();
+		}
+
+		execution.rethrow();
+		return new Summary(execution.records, execution.failed, System.nanoTime() - start);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The outcome of a run of the pipeline.
+	 */
+	public static final class Summary {
+		private final long records;
+		private final long failed;
+		private final long elapsedNanos;
+
+		private Summary(long records, long failed, long elapsedNanos) {
+			this.records = records;
+			this.failed = failed;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * @return long The number of records read.
+		 */
+		public long records() {
+			return this.records;
+		}
+
+		/**
+		 * @return long The number of records that passed.
+		 */
+		public long passed() {
+			return this.records - this.failed;
+		}
+
+		/**
+		 * @return long The number of records that failed, including those that could not be parsed.
+		 */
+		public long failed() {
+			return this.failed;
+		}
+
+		/**
+		 * @return long The time the run took, in nanoseconds.
+		 */
+		public long elapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		/**
+		 * @return double The number of records validated per second.
+		 */
+		public double recordsPerSecond() {
+			return this.elapsedNanos == 0 ? 0 : this.records * 1e9 / this.elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "%,d records, %,d failed in %.3f s (%,.0f records/s)", this.records, this.failed, this.elapsedNanos / 1e9, this.recordsPerSecond());
+		}
+	}
+
+	/**
+	 * A run of lines, and once validated, the failing records rendered in the output format.
+	 */
+	private static final class Block {
+		private final long sequence;
+		private final String[] lines;
+		private final long[] lineNumbers;
+		private final int count;
+		private String output = "";
+		private int failed;
+
+		private Block(long sequence, String[] lines, long[] lineNumbers, int count) {
+			this.sequence = sequence;
+			this.lines = lines;
+			this.lineNumbers = lineNumbers;
+			this.count = count;
+		}
+	}
+
+	/**
+	 * The state of a single run, shared by the reader, the workers and the writer.
+	 */
+	private final class Execution {
+		private final String[] header;
+		private final Writer out;
+		private final BlockingQueue<Block> input = new ArrayBlockingQueue<Block>(ValidationPipeline.this.maxBlocksInFlight);
+		private final BlockingQueue<Block> output = new ArrayBlockingQueue<Block>(ValidationPipeline.this.maxBlocksInFlight + 1);
+		private final Semaphore inFlight = new Semaphore(ValidationPipeline.this.maxBlocksInFlight);
+		private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		private final Thread[] workerThreads = new Thread[ValidationPipeline.this.workers];
+		private final Thread writerThread;
+
+		// Only touched by the writer, and read by the reader once the writer is done.
+		private long records;
+		private long failed;
+
+		private Execution(String[] header, Writer out) {
+			this.header = header;
+			this.out = out;
+
+			for (int i = 0; i < this.workerThreads.length; i++)
+				this.workerThreads[i] = this.newThread(this::work, "validation-worker-" + i);
+			this.writerThread = this.newThread(this::write, "validation-writer");
+		}
+
+		private void start() {
+			for (Thread worker : this.workerThreads)
+				worker.start();
+			this.writerThread.start();
+		}
+
+		private void submit(Block block) throws InterruptedException {
+			this.inFlight.acquire();
+			this.input.put(block);
+		}
+
+		/**
+		 * Lets the workers and then the writer drain what is left, and waits for them to finish.
+		 */
+		private void finish() throws InterruptedException {
+			try {
+				for (int i = 0; i < this.workerThreads.length; i++)
+					this.input.put(END);
+				for (Thread worker : this.workerThreads)
+					worker.join();
+
+				this.output.put(END);
+				this.writerThread.join();
+			}
+			catch (InterruptedException e) {
+				for (Thread worker : this.workerThreads)
+					worker.interrupt();
+				this.writerThread.interrupt();
+
+				throw e;
+			}
+		}
+
+		private void rethrow() throws IOException {
+			Throwable failure = this.failure.get();
+
+			if (failure instanceof IOException)
+				throw (IOException) failure;
+			if (failure instanceof RuntimeException)
+				throw (RuntimeException) failure;
+			if (failure instanceof Error)
+				throw (Error) failure;
+		}
+
+		private void work() {
+			try {
+				Block block;
+
+				while ((block = this.input.take()) != END) {
+					if (this.failure.get() == null) {
+						try {
+							this.validate(block);
+						}
+						catch (RuntimeException | Error e) {
+							this.failure.compareAndSet(null, e);
+						}
+					}
+
+					this.output.put(block);
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void validate(Block block) {
+			RecordFormat format = ValidationPipeline.this.format;
+			StringBuilder rendered = new StringBuilder();
+
+			for (int i = 0; i < block.count; i++) {
+				String line = block.lines[i];
+				Map<String, Object> record;
+
+				try {
+					record = format.parse(line, this.header);
+				}
+				catch (IllegalArgumentException e) {
+					MessageBag errors = new MessageBag().add(RECORD_KEY + ".Parse", e.getMessage());
+
+					format.appendFailure(rendered, block.lineNumbers[i], line, false, errors);
+					block.failed++;
+					continue;
+				}
+
+				Validator validator = new Validator(record, ValidationPipeline.this.schema);
+
+				if (validator.fails()) {
+					format.appendFailure(rendered, block.lineNumbers[i], line, true, validator.errors());
+					block.failed++;
+				}
+			}
+
+			block.output = rendered.toString();
+		}
+
+		private void write() {
+			Map<Long, Block> pending = new HashMap<Long, Block>();
+			long next = 0;
+
+			try {
+				Block block;
+
+				while ((block = this.output.take()) != END) {
+					pending.put(block.sequence, block);
+
+					while ((block = pending.remove(next)) != null) {
+						next++;
+
+						if (this.failure.get() == null) {
+							try {
+								this.out.write(block.output);
+							}
+							catch (IOException e) {
+								this.failure.compareAndSet(null, e);
+							}
+						}
+
+						this.records += block.count;
+						this.failed += block.failed;
+						this.inFlight.release();
+					}
+				}
+
+				if (this.failure.get() == null)
+					this.out.flush();
+			}
+			catch (IOException e) {
+				this.failure.compareAndSet(null, e);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private Thread newThread(Runnable task, String name) {
+			Thread thread = new Thread(task, name);
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.SignTable;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the {@link ClassificationPipeline} appends the right sign to every line, in order,
+ * no matter how the file is split into chunks.
+ */
+public class ClassificationPipelineTest {
+	private static final DateCodec.Format FORMAT = DateCodec.forPattern("MM/dd/yyyy");
+
+	@Test
+	public void run_appendsTheSignOfEveryLineInOrder() throws Exception {
+		StringBuilder input = new StringBuilder("id,birth_date,name\r\n");
+		StringBuilder expected = new StringBuilder("id,birth_date,name,sign\n");
+		LocalDate start = LocalDate.of(1999, 12, 25);
+		int unknown = 0;
+
+		for (int i = 0; i < 5000; i++) {
+			LocalDate date = start.plusDays(i * 7L);
+			String birthDate = String.format("%02d/%02d/%04d", date.getMonthValue(), date.getDayOfMonth(), date.getYear());
+			String sign = SignTable.nameOf(SignTable.signOf(date.getMonthValue(), date.getDayOfMonth()));
+
+			if (i % 101 == 0) {
+				birthDate = "02/30/2001";
+				sign = "";
+				unknown++;
+			}
+
+			String line = i % 3 == 0
+				? String.format("%d,\"%s\",\"Doe, Jane\"", i, birthDate)
+				: String.format("%d,%s,John", i, birthDate);
+
+			input.append(line).append(i % 2 == 0 ? "\r\n" : "\n");
+			if (i % 500 == 0)
+				input.append('\n');
+
+			expected.append(line).append(',').append(sign).append('\n');
+		}
+
+		Path file = Files.createTempFile("classify", ".csv");
+
+		try {
+			Files.write(file, input.toString().getBytes(StandardCharsets.UTF_8));
+
+			for (int chunkSize : new int[] {1, 100, 4096, ClassificationPipeline.DEFAULT_CHUNK_SIZE}) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				ClassificationPipeline.Summary summary = new ClassificationPipeline("birth_date", FORMAT, 3, chunkSize).run(file, out);
+
+				assertEquals("Chunks of " + chunkSize + " bytes", expected.toString(), out.toString("UTF-8"));
+				assertEquals(5000, summary.records());
+				assertEquals(unknown, summary.unknown());
+			}
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void run_rejectsAMissingColumn() throws Exception {
+		Path file = Files.createTempFile("classify", ".csv");
+
+		try {
+			Files.write(file, "id,date\n1,01/01/2000\n".getBytes(StandardCharsets.UTF_8));
+			new ClassificationPipeline("birth_date", FORMAT).run(file, new ByteArrayOutputStream());
+			fail("A missing column should be rejected.");
+		}
+		catch (IllegalArgumentException e) {
+			assertEquals("The column \"birth_date\" is not in the header.", e.getMessage());
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+}
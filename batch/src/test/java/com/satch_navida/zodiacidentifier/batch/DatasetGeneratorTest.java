@@ -0,0 +1,118 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.SignTable;
+import com.satch_navida.zodiacidentifier.validation.ValidationSchema;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the {@link DatasetGenerator} is reproducible, and that its malformed rows are exactly
+ * the ones the rules reject.
+ */
+public class DatasetGeneratorTest {
+	private static final DateCodec.Format FORMAT = DateCodec.forPattern("MM/dd/yyyy");
+
+	@Test
+	public void run_generatesTheSameRowsForTheSameSeed() throws Exception {
+		for (DatasetGenerator.FileFormat format : DatasetGenerator.FileFormat.values()) {
+			byte[] expected = DatasetGeneratorTest.generate(DatasetGenerator.builder()
+				.rows(10_000).fileFormat(format).malformed(0.1).seed(42).workers(1).blockRows(1000));
+
+			for (int workers : new int[] {2, 5}) {
+				byte[] actual = DatasetGeneratorTest.generate(DatasetGenerator.builder()
+					.rows(10_000).fileFormat(format).malformed(0.1).seed(42).workers(workers).blockRows(1000));
+
+				assertArrayEquals(format.toString(), expected, actual);
+			}
+
+			byte[] reseeded = DatasetGeneratorTest.generate(DatasetGenerator.builder()
+				.rows(10_000).fileFormat(format).malformed(0.1).seed(43).workers(2).blockRows(1000));
+
+			assertFalse(format.toString(), Arrays.equals(expected, reseeded));
+		}
+
+		assertEquals(10_000 * 8, DatasetGeneratorTest.generate(DatasetGenerator.builder()
+			.rows(10_000).fileFormat(DatasetGenerator.FileFormat.BINARY).workers(2).blockRows(999)).length);
+	}
+
+	@Test
+	public void run_onlyMalformsTheRowsTheRulesReject() throws Exception {
+		for (DatasetGenerator.FileFormat format : new DatasetGenerator.FileFormat[] {DatasetGenerator.FileFormat.CSV, DatasetGenerator.FileFormat.NDJSON}) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			DatasetGenerator.Summary generated = DatasetGenerator.builder()
+				.rows(20_000).fileFormat(format).malformed(0.2).seed(7).workers(3).blockRows(777)
+				.build()
+				.run(out);
+
+			assertEquals(20_000, generated.rows());
+			assertTrue(generated.malformed() > 3000 && generated.malformed() < 5000);
+
+			Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+			rules.put("birth_date", new String[] {"Required", "Date:MM/dd/yyyy", "Before:signup_date:MM/dd/yyyy"});
+			rules.put("signup_date", new String[] {"Required", "Date:MM/dd/yyyy"});
+
+			ValidationPipeline pipeline = new ValidationPipeline(
+				ValidationSchema.compile(rules, Collections.<String, String>emptyMap()).stopOnFirstFailure(),
+				format == DatasetGenerator.FileFormat.CSV ? RecordFormat.CSV : RecordFormat.NDJSON
+			);
+			ValidationPipeline.Summary validated = pipeline.run(
+				new BufferedReader(new StringReader(new String(out.toByteArray(), StandardCharsets.US_ASCII))),
+				new StringWriter()
+			);
+
+			assertEquals(format.toString(), generated.rows(), validated.records());
+			assertEquals(format.toString(), generated.malformed(), validated.failed());
+		}
+	}
+
+	@Test
+	public void run_favoursTheCuspsWithTheCuspDistribution() throws Exception {
+		double uniform = DatasetGeneratorTest.cuspShare(DatasetGenerator.Distribution.UNIFORM);
+		double cusp = DatasetGeneratorTest.cuspShare(DatasetGenerator.Distribution.CUSP);
+
+		// 24 of the 366 days are on either side of a change of sign.
+		assertEquals(24 / 366.0, uniform, 0.01);
+		assertTrue(cusp > uniform * 4);
+	}
+
+	private static byte[] generate(DatasetGenerator.Builder builder) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		builder.build().run(out);
+		return out.toByteArray();
+	}
+
+	private static double cuspShare(DatasetGenerator.Distribution distribution) throws Exception {
+		String[] lines = new String(DatasetGeneratorTest.generate(DatasetGenerator.builder()
+			.rows(50_000).distribution(distribution).seed(1).workers(2)), StandardCharsets.US_ASCII).split("\n");
+		int cusps = 0;
+
+		for (int i = 1; i < lines.length; i++) {
+			int date = FORMAT.parse(lines[i].split(",")[1]);
+			LocalDate day = LocalDate.of(DateCodec.year(date), DateCodec.month(date), DateCodec.day(date));
+			int sign = DatasetGeneratorTest.signOf(day);
+
+			if (sign != DatasetGeneratorTest.signOf(day.minusDays(1)) || sign != DatasetGeneratorTest.signOf(day.plusDays(1)))
+				cusps++;
+		}
+
+		return cusps / (double) (lines.length - 1);
+	}
+
+	private static int signOf(LocalDate day) {
+		return SignTable.signOf(day.getMonthValue(), day.getDayOfMonth());
+	}
+}
@@ -0,0 +1,161 @@
+package com.satch_navida.zodiacidentifier.batch;
+
+import com.satch_navida.zodiacidentifier.validation.ValidationSchema;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the {@link ValidationPipeline} writes out exactly the failing records, in order.
+ */
+public class ValidationPipelineTest {
+	private static final ValidationSchema SCHEMA = ValidationSchema.compile(
+			Collections.singletonMap("birth_date", new String[] {"Required", "Date:MM/dd/yyyy"})
+	);
+
+	@Test
+	public void run_ndjson_writesOnlyFailingRecordsInOrder() throws Exception {
+		StringBuilder input = new StringBuilder();
+		StringBuilder expected = new StringBuilder();
+		int expectedFailures = 0;
+
+		for (int i = 1; i <= 20_000; i++) {
+			String line = i % 97 == 0
+				? "{\"birth_date\": 02/30/2001}"
+				: String.format("{\"birth_date\": \"%s\"}", i % 13 == 0 ? "02/30/2001" : i % 11 == 0 ? "" : "03/21/1990");
+
+			input.append(line).append('\n');
+			if (i % 97 == 0 || i % 13 == 0 || i % 11 == 0) {
+				expected.append(i).append(',');
+				expectedFailures++;
+			}
+		}
+
+		StringWriter out = new StringWriter();
+		ValidationPipeline.Summary summary = new ValidationPipeline(SCHEMA, RecordFormat.NDJSON, 4, 100, 3)
+			.run(new BufferedReader(new StringReader(input.toString())), out);
+
+		StringBuilder actual = new StringBuilder();
+		for (String line : out.toString().split("\n")) {
+			assertTrue(line, line.startsWith("{\"line\":"));
+			actual.append(line, 8, line.indexOf(',')).append(',');
+		}
+
+		assertEquals(expected.toString(), actual.toString());
+		assertEquals(20_000, summary.records());
+		assertEquals(expectedFailures, summary.failed());
+	}
+
+	@Test
+	public void run_ndjson_reportsErrorsAndMalformedRecords() throws Exception {
+		String input = "{\"birth_date\": \"03/21/1990\"}\n"
+			+ "\n"
+			+ "{\"birth_date\": \"\"}\n"
+			+ "not json\n";
+
+		StringWriter out = new StringWriter();
+		ValidationPipeline.Summary summary = new ValidationPipeline(SCHEMA, RecordFormat.NDJSON)
+			.run(new BufferedReader(new StringReader(input)), out);
+
+		String[] lines = out.toString().split("\n");
+
+		assertEquals(2, lines.length);
+		assertTrue(lines[0], lines[0].startsWith("{\"line\":3,\"record\":{\"birth_date\": \"\"},\"errors\":{\"birth_date\":{\"Required\":"));
+		assertTrue(lines[1], lines[1].startsWith("{\"line\":4,\"record\":\"not json\",\"errors\":{\"_record\":{\"Parse\":"));
+		assertEquals(3, summary.records());
+		assertEquals(2, summary.failed());
+	}
+
+	@Test
+	public void run_ndjson_reportsDeeplyNestedRecordsAsMalformed() throws Exception {
+		StringBuilder nested = new StringBuilder("{\"birth_date\": \"03/21/1990\", \"tags\": ");
+		for (int i = 0; i < 200_000; i++)
+			nested.append('[');
+
+		String input = nested + "\n{\"birth_date\": \"\"}\n";
+
+		StringWriter out = new StringWriter();
+		ValidationPipeline.Summary summary = new ValidationPipeline(SCHEMA, RecordFormat.NDJSON)
+			.run(new BufferedReader(new StringReader(input)), out);
+
+		String[] lines = out.toString().split("\n");
+
+		assertEquals(2, lines.length);
+		assertTrue(lines[0], lines[0].startsWith("{\"line\":1,") && lines[0].contains("{\"_record\":{\"Parse\":\"Too deeply nested"));
+		assertTrue(lines[1], lines[1].startsWith("{\"line\":2,"));
+		assertEquals(2, summary.records());
+		assertEquals(2, summary.failed());
+	}
+
+	@Test
+	public void run_csv_keepsHeaderAndQuotesErrors() throws Exception {
+		String input = "name,birth_date\n"
+			+ "\"Doe, Jane\",03/21/1990\n"
+			+ "John,13/01/1990\n"
+			+ "Extra,03/21/1990,field\n";
+
+		StringWriter out = new StringWriter();
+		ValidationPipeline.Summary summary = new ValidationPipeline(SCHEMA, RecordFormat.CSV, 2, 1, 1)
+			.run(new BufferedReader(new StringReader(input)), out);
+
+		String[] lines = out.toString().split("\n");
+
+		assertEquals("line,name,birth_date,errors", lines[0]);
+		assertTrue(lines[1], lines[1].startsWith("3,John,13/01/1990,\"{\"\"birth_date\"\":{\"\"Date\"\":"));
+		assertTrue(lines[2], lines[2].startsWith("4,\"Extra,03/21/1990,field\",\"{\"\"_record\"\":{\"\"Parse\"\":"));
+		assertEquals(3, summary.records());
+		assertEquals(2, summary.failed());
+	}
+
+	@Test
+	public void run_writerFailure_stopsAndRethrows() {
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 10_000; i++)
+			input.append("{\"birth_date\": \"\"}\n");
+
+		Writer broken = new Writer() {
+			@Override
+			public void write(char[] buffer, int offset, int length) throws IOException {
+				throw new IOException("Disk full");
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		try {
+			new ValidationPipeline(SCHEMA, RecordFormat.NDJSON, 2, 10, 2).run(new BufferedReader(new StringReader(input.toString())), broken);
+			fail("Expected the writer's exception to be rethrown.");
+		}
+		catch (IOException e) {
+			assertEquals("Disk full", e.getMessage());
+		}
+		catch (InterruptedException e) {
+			fail(e.toString());
+		}
+	}
+
+	@Test
+	public void json_parseObject_readsNestedValues() {
+		Map<String, Object> record = Json.parseObject("{\"a\": \"x\\\"y\\u0041\", \"b\": [1, 2.5, true, null], \"c\": {\"d\": -3}}");
+
+		assertEquals("x\"yA", record.get("a"));
+		assertEquals(Arrays.asList(1L, 2.5, true, null), record.get("b"));
+		assertEquals(Collections.singletonMap("d", -3L), record.get("c"));
+	}
+}
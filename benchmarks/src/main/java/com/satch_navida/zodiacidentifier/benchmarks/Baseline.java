@@ -0,0 +1,347 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The results of a run of the benchmarks with a given number of threads, kept as JSON such that
+ * they can be committed and compared against by later runs.<br>
+ * <br>
+ * Each benchmark, keyed by its class, method and parameters, is written on a line of its own with
+ * its average time, the error of that time, and the bytes it allocates per operation as measured by
+ * the GC profiler. The benchmarks are sorted by key, such that the changes between two baselines
+ * read as a plain diff.<br>
+ * <br>
+ * A baseline is only as good as its error: a benchmark whose error is larger than the tolerance of
+ * the comparison can regress by more than that tolerance unnoticed. Such baselines are reported as
+ * {@code NOISY}, and should be measured again.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class Baseline {
+	// PRIVATE VARIABLES
+	/**
+	 * The label of the bytes allocated per operation, as given by the GC profiler.
+	 */
+	private static final String ALLOCATED = "gc.alloc.rate.norm";
+
+	/**
+	 * The slack of the bytes allocated per operation, absorbing the rounding of the profiler.
+	 */
+	private static final double ALLOCATED_SLACK = 8;
+
+	private static final Pattern THREADS = Pattern.compile("^\\s*\"threads\"\\s*:\\s*(\\d+)");
+	private static final Pattern ENTRY = Pattern.compile(
+		"^\\s*\"([^\"]+)\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([^,]+),\\s*\"error\"\\s*:\\s*([^,]+),"
+			+ "\\s*\"unit\"\\s*:\\s*\"([^\"]*)\",\\s*\"allocated\"\\s*:\\s*([^}]+)}"
+	);
+
+	private final int threads;
+	private final Map<String, Entry> entries;
+
+	// CONSTRUCTORS
+	Baseline(int threads, Map<String, Entry> entries) {
+		this.threads = threads;
+		this.entries = new TreeMap<String, Entry>(entries);
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Keeps the results of a run of JMH.
+	 *
+	 * @param threads The number of threads the benchmarks were run with.
+	 * @param results The results of the run.
+	 *
+	 * @return Baseline The results, keyed by benchmark.
+	 */
+	static Baseline of(int threads, Collection<RunResult> results) {
+		Map<String, Entry> entries = new TreeMap<String, Entry>();
+
+		for (RunResult result : results) {
+			Result<?> primary = result.getPrimaryResult();
+			Result<?> allocated = result.getSecondaryResults().get(Baseline.ALLOCATED);
+
+			entries.put(Baseline.keyOf(result.getParams()), new Entry(
+				primary.getScore(),
+				primary.getScoreError(),
+				primary.getScoreUnit(),
+				allocated == null ? Double.NaN : allocated.getScore()
+			));
+		}
+
+		return new Baseline(threads, entries);
+	}
+
+	/**
+	 * Reads a baseline written by {@link #write(Path)}.
+	 *
+	 * @param file The baseline.
+	 *
+	 * @return Baseline The results it holds.
+	 *
+	 * @throws IOException When the file could not be read.
+	 * @throws IllegalArgumentException When the file is not a baseline.
+	 */
+	static Baseline read(Path file) throws IOException {
+		Map<String, Entry> entries = new TreeMap<String, Entry>();
+		int threads = -1;
+
+		for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			Matcher matcher = Baseline.ENTRY.matcher(line);
+
+			if (matcher.find()) {
+				entries.put(matcher.group(1), new Entry(
+					Baseline.parseNumber(matcher.group(2)),
+					Baseline.parseNumber(matcher.group(3)),
+					matcher.group(4),
+					Baseline.parseNumber(matcher.group(5))
+				));
+				continue;
+			}
+
+			matcher = Baseline.THREADS.matcher(line);
+			if (matcher.find())
+				threads = Integer.parseInt(matcher.group(1));
+		}
+
+		if (threads < 0)
+			throw new IllegalArgumentException(MessageFormat.format("The file \"{0}\" is not a baseline.", file));
+
+		return new Baseline(threads, entries);
+	}
+
+	/**
+	 * Writes this baseline as JSON.
+	 *
+	 * @param file Where the baseline is written, replacing any existing file.
+	 *
+	 * @throws IOException When the file could not be written.
+	 */
+	void write(Path file) throws IOException {
+		StringBuilder json = new StringBuilder(this.entries.size() * 128);
+
+		json.append("{\n")
+			.append("\t\"threads\": ").append(this.threads).append(",\n")
+			.append("\t\"jvm\": \"").append(System.getProperty("java.vm.version")).append("\",\n")
+			.append("\t\"results\": {\n");
+
+		int remaining = this.entries.size();
+		for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+			Entry value = entry.getValue();
+
+			json.append(String.format(
+				Locale.ROOT,
+				"\t\t\"%s\": {\"score\": %s, \"error\": %s, \"unit\": \"%s\", \"allocated\": %s}%s\n",
+				entry.getKey(),
+				Baseline.formatNumber(value.score),
+				Baseline.formatNumber(value.error),
+				value.unit,
+				Baseline.formatNumber(value.allocated),
+				--remaining > 0 ? "," : ""
+			));
+		}
+
+		json.append("\t}\n}\n");
+
+		if (file.getParent() != null)
+			Files.createDirectories(file.getParent());
+
+		Files.write(file, json.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Compares these results against a baseline, printing a line per benchmark. A benchmark
+	 * regressed when it is slower than its baseline by more than the tolerance, beyond the error of
+	 * both, or when it allocates more than the tolerance allows. Baselines too noisy to tell a
+	 * regression of the tolerance are reported, but not counted as regressions.
+	 *
+	 * @param baseline The results compared against.
+	 * @param tolerance The share by which a benchmark may be slower, or allocate more, such as
+	 *                  {@code 0.25} for 25%.
+	 * @param out Where the comparison is printed.
+	 *
+	 * @return int The number of benchmarks that regressed.
+	 */
+	int compare(Baseline baseline, double tolerance, PrintStream out) {
+		int regressions = 0;
+		int noisy = 0;
+
+		out.println(MessageFormat.format("Threads: {0}", this.threads));
+
+		for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+			Entry current = entry.getValue();
+			Entry base = baseline.entries.get(entry.getKey());
+
+			if (base == null) {
+				out.println(String.format(Locale.ROOT, "  NEW        %-60s %12.3f %s", entry.getKey(), current.score, current.unit));
+				continue;
+			}
+
+			boolean slower = current.score > base.score * (1 + tolerance)
+				&& current.score - Baseline.orZero(current.error) > base.score + Baseline.orZero(base.error);
+			boolean allocates = !Double.isNaN(current.allocated) && !Double.isNaN(base.allocated)
+				&& current.allocated > base.allocated * (1 + tolerance) + Baseline.ALLOCATED_SLACK;
+
+			if (slower || allocates)
+				regressions++;
+			if (base.isNoisy(tolerance))
+				noisy++;
+
+			out.println(String.format(
+				Locale.ROOT,
+				"  %-10s %-60s %12.3f -> %12.3f %s (%+.0f%%), %s -> %s B/op",
+				slower ? "SLOWER" : allocates ? "ALLOCATES" : base.isNoisy(tolerance) ? "NOISY" : "ok",
+				entry.getKey(),
+				base.score,
+				current.score,
+				current.unit,
+				(current.score / base.score - 1) * 100,
+				Baseline.formatNumber(base.allocated),
+				Baseline.formatNumber(current.allocated)
+			));
+		}
+
+		for (String key : baseline.entries.keySet())
+			if (!this.entries.containsKey(key))
+				out.println(String.format(Locale.ROOT, "  MISSING    %s", key));
+
+		if (noisy > 0)
+			out.println(Baseline.noisyWarning(noisy, tolerance, "baselines"));
+
+		return regressions;
+	}
+
+	/**
+	 * Counts the benchmarks whose error is larger than the given tolerance allows.
+	 *
+	 * @param tolerance The share by which a benchmark may be slower, such as {@code 0.25} for 25%.
+	 *
+	 * @return int The number of noisy benchmarks.
+	 */
+	int countNoisy(double tolerance) {
+		int noisy = 0;
+
+		for (Entry entry : this.entries.values())
+			if (entry.isNoisy(tolerance))
+				noisy++;
+
+		return noisy;
+	}
+
+	/**
+	 * @return String A warning about the given number of noisy benchmarks or baselines.
+	 */
+	static String noisyWarning(int noisy, double tolerance, String what) {
+		return String.format(
+			Locale.ROOT,
+			"Warning: %d %s have an error above %.0f%% of their score, hiding regressions of that size. Measure them again on a quieter machine.",
+			noisy,
+			what,
+			tolerance * 100
+		);
+	}
+
+	/**
+	 * @return int The number of threads the benchmarks were run with.
+	 */
+	int threads() {
+		return this.threads;
+	}
+
+	/**
+	 * @return Map&lt;String, Entry&gt; The results, sorted by benchmark.
+	 */
+	Map<String, Entry> entries() {
+		return this.entries;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * @return String The benchmark without its package, followed by its parameters, such as
+	 * {@code ValidatorBenchmark.validate [input=valid]}.
+	 */
+	private static String keyOf(BenchmarkParams params) {
+		String benchmark = params.getBenchmark();
+		StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+
+		if (!params.getParamsKeys().isEmpty()) {
+			key.append(" [");
+
+			for (String param : params.getParamsKeys())
+				key.append(param).append('=').append(params.getParam(param)).append(", ");
+
+			key.setLength(key.length() - 2);
+			key.append(']');
+		}
+
+		return key.toString();
+	}
+
+	private static String formatNumber(double value) {
+		return Double.isNaN(value) ? "null" : String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	private static double parseNumber(String value) {
+		value = value.trim();
+		return value.equals("null") ? Double.NaN : Double.parseDouble(value);
+	}
+
+	private static double orZero(double value) {
+		return Double.isNaN(value) ? 0 : value;
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The result of a single benchmark.
+	 */
+	static final class Entry {
+		/**
+		 * The average time of an operation.
+		 */
+		final double score;
+		/**
+		 * The error of {@link #score}, or {@code NaN} if there were too few iterations to tell.
+		 */
+		final double error;
+		/**
+		 * The unit of {@link #score}, such as {@code ns/op}.
+		 */
+		final String unit;
+		/**
+		 * The bytes allocated per operation, or {@code NaN} if the GC profiler wasn't run.
+		 */
+		final double allocated;
+
+		Entry(double score, double error, String unit, double allocated) {
+			this.score = score;
+			this.error = error;
+			this.unit = unit;
+			this.allocated = allocated;
+		}
+
+		/**
+		 * @return boolean Returns {@code true} if the error is larger than the given share of the score.
+		 */
+		boolean isNoisy(double tolerance) {
+			return this.error > this.score * tolerance;
+		}
+	}
+}
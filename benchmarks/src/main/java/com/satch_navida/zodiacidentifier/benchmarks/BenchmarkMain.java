@@ -0,0 +1,157 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import com.satch_navida.zodiacidentifier.cli.Arguments;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.Collection;
+
+/**
+ * The command line entry point of the benchmarks, running the whole suite through JMH with the GC
+ * profiler, once per number of threads, then comparing the results against the committed baselines.<br>
+ * <br>
+ * Usage:
+ * <pre>
+ * benchmarks [options]
+ *     --threads n,n             The numbers of threads to run the suite with, "1,4" by default.
+ *     --include regex           Only runs the benchmarks matching the expression.
+ *     --baselines dir           Where the baselines are kept, "baselines" by default.
+ *     --output dir              Where the results are written, "build/benchmarks" by default.
+ *     --tolerance n             The slowdown, in percent, allowed before failing, 25 by default.
+ *     --update                  Replaces the baselines by the results instead of comparing them.
+ * </pre>
+ * The results of each number of threads are written to {@code threads-N.json}, in the format of
+ * {@link Baseline}. The exit code is {@code 0} if no benchmark regressed (or the baselines were
+ * updated), {@code 1} if some did and {@code 2} if the benchmarks could not be run. Baselines are
+ * only comparable on the machine and JVM they were measured on.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BenchmarkMain {
+	// PRIVATE VARIABLES
+	private static final int EXIT_PASSED = 0;
+	private static final int EXIT_FAILED = 1;
+	private static final int EXIT_USAGE = 2;
+
+	private static final String USAGE = String.join("\n",
+		"Usage: benchmarks [options]",
+		"",
+		"Options:",
+		"  --threads n,n",
+		"  --include regex",
+		"  --baselines dir",
+		"  --output dir",
+		"  --tolerance n",
+		"  --update"
+	);
+
+	// CONSTRUCTORS
+	private BenchmarkMain() {
+	}
+
+	// PUBLIC METHODS
+	public static void main(String[] args) {
+		System.exit(BenchmarkMain.run(args, System.err));
+	}
+
+	/**
+	 * Runs the benchmarks without exiting the JVM.
+	 *
+	 * @param args The options.
+	 * @param err Where the comparisons and the errors are printed.
+	 *
+	 * @return int The exit code.
+	 */
+	public static int run(String[] args, PrintStream err) {
+		int[] threads = {1, 4};
+		String include = null;
+		Path baselines = Paths.get("baselines");
+		Path output = Paths.get("build", "benchmarks");
+		double tolerance = 0.25;
+		boolean update = false;
+
+		try {
+			Arguments arguments = new Arguments(args, 0);
+
+			while (arguments.hasNext()) {
+				String arg = arguments.next();
+
+				switch (arg) {
+					case "--threads": threads = arguments.intValues(arg); break;
+					case "--include": include = arguments.value(arg); break;
+					case "--baselines": baselines = Paths.get(arguments.value(arg)); break;
+					case "--output": output = Paths.get(arguments.value(arg)); break;
+					case "--tolerance": tolerance = arguments.intValue(arg) / 100.0; break;
+					case "--update": update = true; break;
+					default:
+						throw new IllegalArgumentException(MessageFormat.format("Unknown option \"{0}\".", arg));
+				}
+			}
+
+			int regressions = 0;
+
+			for (int threadCount : threads) {
+				String name = MessageFormat.format("threads-{0}.json", threadCount);
+				Baseline results = Baseline.of(threadCount, BenchmarkMain.runSuite(threadCount, include));
+
+				results.write(output.resolve(name));
+
+				if (update) {
+					results.write(baselines.resolve(name));
+					err.println(MessageFormat.format("Updated {0}", baselines.resolve(name)));
+
+					int noisy = results.countNoisy(tolerance);
+					if (noisy > 0)
+						err.println(Baseline.noisyWarning(noisy, tolerance, "benchmarks"));
+				}
+				else if (Files.exists(baselines.resolve(name))) {
+					regressions += results.compare(Baseline.read(baselines.resolve(name)), tolerance, err);
+				}
+				else {
+					err.println(MessageFormat.format("No baseline at {0}, run with --update to create it.", baselines.resolve(name)));
+				}
+			}
+
+			return regressions == 0 ? EXIT_PASSED : EXIT_FAILED;
+		}
+		catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+		catch (IOException e) {
+			err.println(MessageFormat.format("I/O error: {0}", e.getMessage()));
+			return EXIT_USAGE;
+		}
+		catch (RunnerException e) {
+			err.println(MessageFormat.format("The benchmarks failed: {0}", e.getMessage()));
+			return EXIT_USAGE;
+		}
+	}
+
+	// PRIVATE METHODS
+	private static Collection<RunResult> runSuite(int threads, String include) throws RunnerException {
+		ChainedOptionsBuilder options = new OptionsBuilder()
+			.threads(threads)
+			.addProfiler(GCProfiler.class)
+			.jvmArgsAppend("-Xms1g", "-Xmx1g")
+			.shouldFailOnError(true);
+
+		if (include != null)
+			options.include(include);
+
+		return new Runner(options.build()).run();
+	}
+}
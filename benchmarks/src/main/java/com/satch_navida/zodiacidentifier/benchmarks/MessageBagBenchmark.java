@@ -0,0 +1,78 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import com.satch_navida.zodiacidentifier.validation.MessageBag;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling, reading and merging {@link MessageBag}s the size of the errors of a form. The
+ * bags read and merged are shared by every thread, such that running with several threads also
+ * measures waiting on their locks.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MessageBagBenchmark {
+	// PRIVATE VARIABLES
+	private MessageBag birthDate;
+	private MessageBag signUpDate;
+
+	// PUBLIC METHODS
+	@Setup
+	public void setUp() {
+		this.birthDate = MessageBagBenchmark.errors("birth_date");
+		this.signUpDate = MessageBagBenchmark.errors("signup_date");
+	}
+
+	/**
+	 * Fills a new bag with the messages of a failing field, one of them only rendered once read.
+	 */
+	@Benchmark
+	public MessageBag add() {
+		return new MessageBag()
+			.add("birth_date.Required", "The birth date is required.")
+			.add("birth_date.Date", () -> "Birth date should be a date.")
+			.add("birth_date.Before", "The birth date must be a date before today.");
+	}
+
+	/**
+	 * Reads the first message of a field, as shown below its input.
+	 */
+	@Benchmark
+	public String first() {
+		return this.birthDate.first("birth_date");
+	}
+
+	/**
+	 * Merges the messages of two fields into a new bag.
+	 */
+	@Benchmark
+	public MessageBag merge() {
+		return new MessageBag().merge(this.birthDate, this.signUpDate);
+	}
+
+	// PRIVATE METHODS
+	private static MessageBag errors(String field) {
+		return new MessageBag()
+			.add(field + ".Required", "The " + field + " is required.")
+			.add(field + ".Date", "The " + field + " should be a date.")
+			.add(field + ".Before", "The " + field + " must be a date before today.");
+	}
+}
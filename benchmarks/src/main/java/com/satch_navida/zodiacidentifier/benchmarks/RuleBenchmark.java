@@ -0,0 +1,122 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import com.satch_navida.zodiacidentifier.validation.RuleRegistry;
+import com.satch_navida.zodiacidentifier.validation.rules.Rule;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleContext;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures testing a single value against each built-in rule, with its parameters compiled once as
+ * a schema does. Each rule is measured on a value it passes, and on a value taking its other branch:
+ * failing the rule, or stopping the other rules for {@code Nullable} and {@code Sometimes}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RuleBenchmark {
+	// PUBLIC VARIABLES
+	@Param({"Required", "Nullable", "Sometimes", "Boolean", "Numeric", "Min", "Max", "Between", "Date", "Before", "After", "RequiredIf"})
+	public String rule;
+
+	@Param({"pass", "fail"})
+	public String outcome;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The other field read by the rules comparing fields, such as {@code Before}.
+	 */
+	private static final String OTHER = "other";
+
+	private Rule instance;
+	private Object[] params;
+	private Object value;
+	private RuleContext context;
+
+	// PUBLIC METHODS
+	@Setup
+	public void setUp() {
+		Object other = "06/15/2000";
+		Object[] params = null;
+		Object passing, failing;
+
+		switch (this.rule) {
+			case "Required": passing = "value"; failing = ""; break;
+			case "Nullable":
+			case "Sometimes": passing = "value"; failing = null; break;
+			case "Boolean": passing = "true"; failing = "maybe"; break;
+			case "Numeric": passing = "42.5"; failing = "forty"; break;
+			case "Min": params = new Object[] {"18"}; passing = "42"; failing = "12"; break;
+			case "Max": params = new Object[] {"100"}; passing = "42"; failing = "120"; break;
+			case "Between": params = new Object[] {"18", "100"}; passing = "42"; failing = "120"; break;
+			case "Date": params = new Object[] {"MM/dd/yyyy"}; passing = "03/21/1990"; failing = "02/30/1990"; break;
+			case "Before": params = new Object[] {RuleBenchmark.OTHER, "MM/dd/yyyy"}; passing = "03/21/1990"; failing = "03/21/2010"; break;
+			case "After": params = new Object[] {RuleBenchmark.OTHER, "MM/dd/yyyy"}; passing = "03/21/2010"; failing = "03/21/1990"; break;
+			case "RequiredIf": params = new Object[] {RuleBenchmark.OTHER, "yes"}; other = "yes"; passing = "value"; failing = ""; break;
+			default:
+				throw new IllegalStateException("Unknown rule " + this.rule);
+		}
+
+		this.instance = RuleRegistry.defaults().get(this.rule);
+		this.params = this.instance.compileParams(params);
+		this.value = this.outcome.equals("pass") ? passing : failing;
+		this.context = new Context(Collections.singletonMap(RuleBenchmark.OTHER, other));
+	}
+
+	/**
+	 * Tests the value against the rule.
+	 */
+	@Benchmark
+	public RuleResult test() {
+		return this.instance.test(this.value, this.params, this.context);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The context of the value, as given by a validator.
+	 */
+	private static final class Context implements RuleContext {
+		private final Map<String, Object> values;
+
+		private Context(Map<String, Object> values) {
+			this.values = values;
+		}
+
+		@Override
+		public String getKey() {
+			return "value";
+		}
+
+		@Override
+		public String getMessage() {
+			return null;
+		}
+
+		@Override
+		public Object getValue(String field) {
+			return this.values.get(field);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import com.satch_navida.zodiacidentifier.validation.ValidationSchema;
+import com.satch_navida.zodiacidentifier.validation.Validator;
+import com.satch_navida.zodiacidentifier.validation.rules.Date;
+import com.satch_navida.zodiacidentifier.validation.rules.Required;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validating the birth date form the way {@code MainActivity.onSubmit} does, with the same
+ * rules as its generated {@code BirthDateFormSchema}. The schema is shared by every thread, as it is
+ * in the app.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+	// PUBLIC VARIABLES
+	/**
+	 * The picked date: a valid one, none at all (failing {@code Required}), or one that doesn't exist
+	 * (failing {@code Date}).
+	 */
+	@Param({"valid", "empty", "invalid"})
+	public String input;
+
+	// PRIVATE VARIABLES
+	private static final String FIELD = "birth_date_value";
+
+	/**
+	 * The rules of the birth date form, as generated from the annotations of {@code BirthDateForm}.
+	 */
+	private static final ValidationSchema SCHEMA = ValidationSchema.builder()
+		.field(ValidatorBenchmark.FIELD)
+		.bail()
+		.rule("Required", new Required())
+		.message("The birth date is required.")
+		.rule("Date", new Date(), "MM/dd/yyyy")
+		.message("Birth date should be a date.")
+		.build();
+
+	private Map<String, Object> values;
+
+	// PUBLIC METHODS
+	@Setup
+	public void setUp() {
+		this.values = new LinkedHashMap<String, Object>(4);
+
+		switch (this.input) {
+			case "valid": this.values.put(ValidatorBenchmark.FIELD, "03/21/1990"); break;
+			case "empty": this.values.put(ValidatorBenchmark.FIELD, ""); break;
+			default: this.values.put(ValidatorBenchmark.FIELD, "02/30/1990");
+		}
+	}
+
+	/**
+	 * Validates the form.
+	 */
+	@Benchmark
+	public Map<String, Object> validate() {
+		return new Validator(this.values, ValidatorBenchmark.SCHEMA).validate();
+	}
+
+	/**
+	 * Validates the form, then reads the first message of the field if it failed, as shown below the
+	 * input by {@code MainActivity.onSubmit}.
+	 */
+	@Benchmark
+	public String validateAndShowError() {
+		Validator validator = new Validator(this.values, ValidatorBenchmark.SCHEMA);
+		validator.validate();
+
+		return validator.fails() ? validator.errors().first(ValidatorBenchmark.FIELD) : null;
+	}
+}
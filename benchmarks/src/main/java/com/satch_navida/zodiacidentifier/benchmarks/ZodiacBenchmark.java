@@ -0,0 +1,76 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.SignTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what creating a {@code Zodiac} does once the app is past its Android types: parsing the
+ * picked date, then resolving its sign through the {@link SignTable}. The dates cycle through every
+ * day of a leap year, such that every entry of the table is read.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class ZodiacBenchmark {
+	// PRIVATE VARIABLES
+	private static final DateCodec.Format FORMAT = DateCodec.forPattern("MM/dd/yyyy");
+
+	private String[] dates;
+	private int next;
+
+	// PUBLIC METHODS
+	@Setup
+	public void setUp() {
+		this.dates = new String[366];
+
+		LocalDate day = LocalDate.of(2024, 1, 1);
+		for (int i = 0; i < this.dates.length; i++, day = day.plusDays(1))
+			this.dates[i] = ZodiacBenchmark.FORMAT.format(DateCodec.pack(day.getYear(), day.getMonthValue(), day.getDayOfMonth()));
+	}
+
+	/**
+	 * Parses a date and resolves its sign, as done by the constructor of {@code Zodiac}.
+	 */
+	@Benchmark
+	public int sign() {
+		int date = ZodiacBenchmark.FORMAT.parse(this.nextDate());
+		return SignTable.signOf(DateCodec.month(date), DateCodec.day(date));
+	}
+
+	/**
+	 * Parses a date and resolves the name of its sign, as done by {@code Zodiac.getSign()}.
+	 */
+	@Benchmark
+	public String signName() {
+		int date = ZodiacBenchmark.FORMAT.parse(this.nextDate());
+		return SignTable.nameOf(SignTable.signOf(DateCodec.month(date), DateCodec.day(date)));
+	}
+
+	// PRIVATE METHODS
+	private String nextDate() {
+		if (this.next == this.dates.length)
+			this.next = 0;
+
+		return this.dates[this.next++];
+	}
+}
@@ -0,0 +1,79 @@
+package com.satch_navida.zodiacidentifier.benchmarks;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that a {@link Baseline} reads back what it writes, and only flags actual regressions.
+ */
+public class BaselineTest {
+	@Test
+	public void write_readsBackTheSameResults() throws Exception {
+		Map<String, Baseline.Entry> entries = new LinkedHashMap<String, Baseline.Entry>();
+		entries.put("ValidatorBenchmark.validate [input=valid]", new Baseline.Entry(123.456, 1.5, "ns/op", 48));
+		entries.put("MessageBagBenchmark.first", new Baseline.Entry(10.0, Double.NaN, "ns/op", Double.NaN));
+
+		Path file = Files.createTempFile("threads-4", ".json");
+
+		try {
+			new Baseline(4, entries).write(file);
+			Baseline read = Baseline.read(file);
+
+			assertEquals(4, read.threads());
+			assertEquals(entries.keySet(), read.entries().keySet());
+
+			Baseline.Entry validate = read.entries().get("ValidatorBenchmark.validate [input=valid]");
+			assertEquals(123.456, validate.score, 0);
+			assertEquals(1.5, validate.error, 0);
+			assertEquals("ns/op", validate.unit);
+			assertEquals(48, validate.allocated, 0);
+
+			Baseline.Entry first = read.entries().get("MessageBagBenchmark.first");
+			assertTrue(Double.isNaN(first.error));
+			assertTrue(Double.isNaN(first.allocated));
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void compare_onlyFlagsSlowdownsAndAllocationsBeyondTheTolerance() {
+		Map<String, Baseline.Entry> before = new LinkedHashMap<String, Baseline.Entry>();
+		before.put("a", new Baseline.Entry(100, 1, "ns/op", 48));
+		before.put("b", new Baseline.Entry(100, 1, "ns/op", 48));
+		before.put("c", new Baseline.Entry(100, 30, "ns/op", 48));
+		before.put("d", new Baseline.Entry(100, 1, "ns/op", 48));
+
+		Map<String, Baseline.Entry> after = new LinkedHashMap<String, Baseline.Entry>();
+		after.put("a", new Baseline.Entry(120, 1, "ns/op", 48));
+		after.put("b", new Baseline.Entry(150, 1, "ns/op", 48));
+		after.put("c", new Baseline.Entry(150, 30, "ns/op", 48));
+		after.put("d", new Baseline.Entry(90, 1, "ns/op", 120));
+		after.put("e", new Baseline.Entry(10, 1, "ns/op", 0));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int regressions = new Baseline(1, after).compare(new Baseline(1, before), 0.25, new PrintStream(out, true));
+
+		// "b" is slower, "d" allocates more, while "a" is within the tolerance and "c" within its error.
+		assertEquals(2, regressions);
+
+		String report = out.toString();
+		assertTrue(report, report.contains("SLOWER"));
+		assertTrue(report, report.contains("ALLOCATES"));
+		assertTrue(report, report.contains("NEW"));
+
+		// The error of "c" is larger than the tolerance, hiding a regression of that size.
+		assertTrue(report, report.contains("NOISY"));
+		assertTrue(report, report.contains("Warning: 1 baselines"));
+		assertEquals(1, new Baseline(1, before).countNoisy(0.25));
+	}
+}
@@ -0,0 +1,377 @@
+package com.satch_navida.zodiacidentifier;
+
+import java.util.Arrays;
+
+/**
+ * Answers questions about the compatibility of every pair of people in a group, such as a team or
+ * the attendees of an event, without comparing each pair.<br>
+ * <br>
+ * Since the score of a pair only depends on both signs, the group is collapsed into a histogram of
+ * its signs when built, which takes a single pass over the group. The aggregates, such as the
+ * distribution of the scores or the best matches of a sign, are then computed from the 144 pairs of
+ * signs, whatever the size of the group. The individual pairs are still available through
+ * {@link #pairs(int)}, which streams them without holding them.<br>
+ * <br>
+ * The pairs are unordered and never pair a person with themselves, so a group of {@code n} people
+ * has {@code n * (n - 1) / 2} pairs. People whose sign is {@link SignTable#UNKNOWN} are left out.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class CompatibilityEngine {
+	// PRIVATE VARIABLES
+	private static final int SIGNS = SignTable.SIGNS.length;
+
+	/**
+	 * The sign of each person, as given.
+	 */
+	private final byte[] signs;
+	/**
+	 * The number of people of each sign.
+	 */
+	private final long[] counts = new long[SIGNS];
+	private final long size;
+
+	// CONSTRUCTORS
+	/**
+	 * Builds the histogram of a group.
+	 *
+	 * @param signs The sign of each person, as filled by {@link SignClassifier#classify(int[], byte[])}.
+	 *              The people are identified by their index in it. It must not be modified while the
+	 *              engine is in use.
+	 */
+	public CompatibilityEngine(byte[] signs) {
+		this.signs = signs;
+
+		for (byte sign : signs)
+			if (sign >= 0 && sign < SIGNS)
+				this.counts[sign]++;
+
+		long size = 0;
+		for (long count : this.counts)
+			size += count;
+
+		this.size = size;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return long The number of people whose sign is known.
+	 */
+	public long size() {
+		return this.size;
+	}
+
+	/**
+	 * @return long The number of people left out, as their sign is unknown.
+	 */
+	public long unknown() {
+		return this.signs.length - this.size;
+	}
+
+	/**
+	 * @param sign The index of a sign.
+	 *
+	 * @return long The number of people of the given sign.
+	 */
+	public long countOf(int sign) {
+		return this.counts[sign];
+	}
+
+	/**
+	 * @return long The number of pairs in the group.
+	 */
+	public long pairs() {
+		return this.size * (this.size - 1) / 2;
+	}
+
+	/**
+	 * @param sign The index of a sign.
+	 * @param other The index of the other sign.
+	 *
+	 * @return long The number of pairs made of a person of each sign.
+	 */
+	public long pairsOf(int sign, int other) {
+		return sign == other
+			? this.counts[sign] * (this.counts[sign] - 1) / 2
+			: this.counts[sign] * this.counts[other];
+	}
+
+	/**
+	 * Counts the pairs of the group by score.
+	 *
+	 * @return long[] The number of pairs of each score, indexed by the score, from {@code 0} to
+	 * {@link CompatibilityTable#MAX_SCORE}.
+	 */
+	public long[] scoreDistribution() {
+		long[] distribution = new long[CompatibilityTable.MAX_SCORE + 1];
+
+		for (int sign = 0; sign < SIGNS; sign++)
+			for (int other = sign; other < SIGNS; other++)
+				distribution[CompatibilityTable.scoreOf(sign, other)] += this.pairsOf(sign, other);
+
+		return distribution;
+	}
+
+	/**
+	 * Counts the scores of a person of the given sign with everyone else of the group, the person
+	 * being assumed to be part of it.
+	 *
+	 * @param sign The index of the sign of the person.
+	 *
+	 * @return long[] The number of people of each score, indexed by the score, from {@code 0} to
+	 * {@link CompatibilityTable#MAX_SCORE}.
+	 */
+	public long[] scoreDistributionOf(int sign) {
+		long[] distribution = new long[CompatibilityTable.MAX_SCORE + 1];
+
+		for (int other = 0; other < SIGNS; other++)
+			distribution[CompatibilityTable.scoreOf(sign, other)] += this.countOf(sign, other);
+
+		return distribution;
+	}
+
+	/**
+	 * @return double The average score of the pairs of the group, or {@code NaN} if there are none.
+	 */
+	public double averageScore() {
+		long[] distribution = this.scoreDistribution();
+		double total = 0;
+
+		for (int score = 0; score < distribution.length; score++)
+			total += (double) score * distribution[score];
+
+		return total / this.pairs();
+	}
+
+	/**
+	 * Ranks the signs a person of the given sign is the most compatible with, leaving out the signs
+	 * nobody else of the group has. Signs of the same score are ranked in the order of
+	 * {@link SignTable#SIGNS}.
+	 *
+	 * @param sign The index of the sign of the person.
+	 * @param k The maximum number of matches.
+	 *
+	 * @return Match[] Up to {@code k} matches, the best first.
+	 */
+	public Match[] topMatches(int sign, int k) {
+		Match[] matches = new Match[SIGNS];
+		int found = 0;
+
+		for (int other = 0; other < SIGNS; other++) {
+			long count = this.countOf(sign, other);
+
+			if (count > 0)
+				matches[found++] = new Match(other, CompatibilityTable.scoreOf(sign, other), count);
+		}
+
+		// A stable sort, keeping the signs of the same score in order.
+		for (int i = 1; i < found; i++) {
+			Match match = matches[i];
+			int j = i;
+
+			for (; j > 0 && matches[j - 1].score < match.score; j--)
+				matches[j] = matches[j - 1];
+
+			matches[j] = match;
+		}
+
+		return Arrays.copyOf(matches, Math.min(k, found));
+	}
+
+	/**
+	 * Streams the pairs of the group scoring at least the given score. Only the pairs of signs that
+	 * score enough are visited, the best first, so a high score skips most of the group.
+	 *
+	 * @param minScore The lowest score of the pairs, {@code 0} for every pair.
+	 *
+	 * @return PairCursor A cursor over the pairs, positioned before the first one.
+	 */
+	public PairCursor pairs(int minScore) {
+		return new PairCursor(minScore);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * @return long The number of people of the other sign a person of the given sign can be paired with.
+	 */
+	private long countOf(int sign, int other) {
+		return sign == other ? Math.max(this.counts[sign] - 1, 0) : this.counts[other];
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * A sign a person is compatible with, within a group.
+	 */
+	public static final class Match {
+		private final int sign;
+		private final int score;
+		private final long count;
+
+		private Match(int sign, int score, long count) {
+			this.sign = sign;
+			this.score = score;
+			this.count = count;
+		}
+
+		/**
+		 * @return int The index of the matching sign.
+		 */
+		public int sign() {
+			return this.sign;
+		}
+
+		/**
+		 * @return int The score of both signs.
+		 */
+		public int score() {
+			return this.score;
+		}
+
+		/**
+		 * @return long The number of people of the group of the matching sign, other than the person.
+		 */
+		public long count() {
+			return this.count;
+		}
+
+		@Override
+		public String toString() {
+			return SignTable.nameOf(this.sign) + " (" + this.score + ", " + this.count + ")";
+		}
+	}
+
+	/**
+	 * A cursor over the pairs of a group, which doesn't allocate once created.<br>
+	 * <br>
+	 * The people are first sorted by sign, in a single pass. The pairs of signs scoring enough are
+	 * then visited from the highest score to the lowest, and the pairs of people of both signs in
+	 * the order of the group.
+	 */
+	public final class PairCursor {
+		/**
+		 * The indices of the people, sorted by sign.
+		 */
+		private final int[] people;
+		/**
+		 * Where the people of each sign start in {@link #people}, followed by where the last ends.
+		 */
+		private final int[] offsets = new int[SIGNS + 1];
+		/**
+		 * The pairs of signs to visit, in order, as {@code sign * 12 + other}.
+		 */
+		private final int[] signPairs;
+
+		private int signPair;
+		private int i;
+		private int j;
+
+		private int first = -1;
+		private int second = -1;
+		private int score = SignTable.UNKNOWN;
+
+		private PairCursor(int minScore) {
+			CompatibilityEngine engine = CompatibilityEngine.this;
+
+			// Orders the pairs of signs by descending score, then by sign, through a single sortable key.
+			int[] keys = new int[SIGNS * (SIGNS + 1) / 2];
+			int count = 0;
+
+			for (int sign = 0; sign < SIGNS; sign++) {
+				for (int other = sign; other < SIGNS; other++) {
+					int score = CompatibilityTable.scoreOf(sign, other);
+
+					if (score >= minScore && engine.pairsOf(sign, other) > 0)
+						keys[count++] = (CompatibilityTable.MAX_SCORE - score) * SIGNS * SIGNS + sign * SIGNS + other;
+				}
+			}
+
+			Arrays.sort(keys, 0, count);
+			this.signPairs = new int[count];
+
+			for (int k = 0; k < count; k++)
+				this.signPairs[k] = keys[k] % (SIGNS * SIGNS);
+
+			// Sorts the people by sign, keeping the order of the group within each sign.
+			this.people = new int[(int) engine.size];
+
+			for (int sign = 0; sign < SIGNS; sign++)
+				this.offsets[sign + 1] = this.offsets[sign] + (int) engine.counts[sign];
+
+			int[] next = Arrays.copyOf(this.offsets, SIGNS);
+			for (int person = 0; person < engine.signs.length; person++) {
+				int sign = engine.signs[person];
+
+				if (sign >= 0 && sign < SIGNS)
+					this.people[next[sign]++] = person;
+			}
+
+			if (count > 0)
+				this.start();
+		}
+
+		/**
+		 * Moves to the next pair.
+		 *
+		 * @return boolean Returns {@code true} if there is a next pair, {@code false} once every pair was visited.
+		 */
+		public boolean next() {
+			while (this.signPair < this.signPairs.length) {
+				int sign = this.signPairs[this.signPair] / SIGNS;
+				int other = this.signPairs[this.signPair] % SIGNS;
+
+				while (this.i < this.offsets[sign + 1]) {
+					if (this.j < this.offsets[other + 1]) {
+						this.first = this.people[this.i];
+						this.second = this.people[this.j++];
+						this.score = CompatibilityTable.scoreOf(sign, other);
+						return true;
+					}
+
+					this.i++;
+					this.j = sign == other ? this.i + 1 : this.offsets[other];
+				}
+
+				if (++this.signPair < this.signPairs.length)
+					this.start();
+			}
+
+			return false;
+		}
+
+		/**
+		 * @return int The index of the first person of the current pair, in the signs of the group.
+		 */
+		public int first() {
+			return this.first;
+		}
+
+		/**
+		 * @return int The index of the second person of the current pair, in the signs of the group.
+		 */
+		public int second() {
+			return this.second;
+		}
+
+		/**
+		 * @return int The score of the current pair.
+		 */
+		public int score() {
+			return this.score;
+		}
+
+		/**
+		 * Positions the cursor on the first pair of people of the current pair of signs.
+		 */
+		private void start() {
+			int sign = this.signPairs[this.signPair] / SIGNS;
+			int other = this.signPairs[this.signPair] % SIGNS;
+
+			this.i = this.offsets[sign];
+			this.j = sign == other ? this.i + 1 : this.offsets[other];
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.satch_navida.zodiacidentifier;
+
+/**
+ * A precomputed table of the compatibility of every pair of Zodiac signs, as a score from
+ * {@code 0} to {@link #MAX_SCORE}. The table holds the 144 ordered pairs of signs, so that scoring a
+ * pair is just an array read.<br>
+ * <br>
+ * The score follows the aspect between both signs, that is how far apart they are on the wheel of
+ * the Zodiac: signs of the same element (a trine) score the highest, followed by signs of
+ * complementary elements (a sextile), the same sign, and opposite signs. Signs next to each other,
+ * or at a square or a quincunx, score the lowest. The table is symmetric.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class CompatibilityTable {
+	// PUBLIC VARIABLES
+	/**
+	 * The highest score of a pair of signs.
+	 */
+	public static final int MAX_SCORE = 100;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The score of two signs by the number of signs between them on the wheel, from {@code 0} (the
+	 * same sign) to {@code 6} (opposite signs).
+	 */
+	private static final int[] SCORE_BY_DISTANCE = new int[] {80, 45, 85, 35, 95, 40, 60};
+
+	/**
+	 * The score of each pair of signs, indexed by {@code sign * 12 + other}.
+	 */
+	private static final byte[] TABLE = new byte[SignTable.SIGNS.length * SignTable.SIGNS.length];
+
+	static {
+		int signs = SignTable.SIGNS.length;
+
+		for (int sign = 0; sign < signs; sign++) {
+			for (int other = 0; other < signs; other++) {
+				int distance = Math.abs(sign - other);
+				TABLE[sign * signs + other] = (byte) SCORE_BY_DISTANCE[Math.min(distance, signs - distance)];
+			}
+		}
+	}
+
+	// CONSTRUCTORS
+	private CompatibilityTable() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Scores the compatibility of two signs.
+	 *
+	 * @param sign The index of a sign, as returned by {@link SignTable#signOf(int, int)}.
+	 * @param other The index of the other sign.
+	 *
+	 * @return int The score, from {@code 0} to {@link #MAX_SCORE}, or {@link SignTable#UNKNOWN} if
+	 * either sign is unknown.
+	 */
+	public static int scoreOf(int sign, int other) {
+		if (sign < 0 || sign >= SignTable.SIGNS.length || other < 0 || other >= SignTable.SIGNS.length)
+			return SignTable.UNKNOWN;
+
+		return TABLE[sign * SignTable.SIGNS.length + other];
+	}
+}
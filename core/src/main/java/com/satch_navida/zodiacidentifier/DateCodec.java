@@ -0,0 +1,355 @@
+package com.satch_navida.zodiacidentifier;
+
+import com.satch_navida.zodiacidentifier.validation.rules.Date;
+
+import java.text.DateFormatSymbols;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe codec for the date formats listed in {@link Date#FORMATS}. Dates are parsed straight
+ * from a {@link CharSequence} into a packed {@code yyyymmdd} integer (or an epoch day), without
+ * creating any intermediate object along the way, unlike {@link java.text.SimpleDateFormat}.<br>
+ * <br>
+ * Parsing is strict: a date that does not exist (such as {@code 02/30/2023}) is rejected instead of
+ * being rolled over to the next month. Two-digit years are resolved the same way
+ * {@link java.text.SimpleDateFormat} does, within 80 years before and 20 years after the current year.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class DateCodec {
+	// PUBLIC VARIABLES
+	/**
+	 * Returned by the parse methods when the value is not a valid date of the expected format.
+	 */
+	public static final int INVALID = -1;
+
+	/**
+	 * Returned by {@link Format#parseEpochDay(CharSequence)} when the value is not a valid date of the
+	 * expected format.
+	 */
+	public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+
+	// PRIVATE VARIABLES
+	/**
+	 * The compiled formats, keyed by their pattern.
+	 */
+	private static final Map<String, Format> FORMATS = new HashMap<String, Format>();
+
+	/**
+	 * The first year of the century window used for two-digit years.
+	 */
+	private static final int TWO_DIGIT_YEAR_START = LocalDate.now().getYear() - 80;
+
+	/**
+	 * The full month names of the default locale, used by {@link #toDisplayString(int)}.
+	 */
+	private static final String[] MONTH_NAMES = DateFormatSymbols.getInstance().getMonths();
+
+	static {
+		for (String pattern : Date.FORMATS)
+			DateCodec.FORMATS.put(pattern, new Format(pattern));
+	}
+
+	// CONSTRUCTORS
+	private DateCodec() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the compiled format of the given pattern.
+	 *
+	 * @param pattern One of the patterns in {@link Date#FORMATS}.
+	 *
+	 * @return Format The compiled format, or {@code null} if the pattern is not supported.
+	 */
+	public static Format forPattern(String pattern) {
+		return DateCodec.FORMATS.get(pattern);
+	}
+
+	/**
+	 * Packs the given date into a {@code yyyymmdd} integer.
+	 *
+	 * @param year The year.
+	 * @param month The month, from {@code 1} to {@code 12}.
+	 * @param dayOfMonth The day of the month, starting from {@code 1}.
+	 *
+	 * @return int The packed date, or {@link #INVALID} if the date does not exist.
+	 */
+	public static int pack(int year, int month, int dayOfMonth) {
+		if (year < 0 || year > 9999 || month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > DateCodec.lengthOfMonth(year, month))
+			return INVALID;
+
+		return year * 10000 + month * 100 + dayOfMonth;
+	}
+
+	/**
+	 * @return int Today's date, packed as a {@code yyyymmdd} integer.
+	 */
+	public static int today() {
+		LocalDate now = LocalDate.now();
+		return DateCodec.pack(now.getYear(), now.getMonthValue(), now.getDayOfMonth());
+	}
+
+	/**
+	 * @param packed A packed {@code yyyymmdd} date.
+	 *
+	 * @return int The year of the date.
+	 */
+	public static int year(int packed) {
+		return packed / 10000;
+	}
+
+	/**
+	 * @param packed A packed {@code yyyymmdd} date.
+	 *
+	 * @return int The month of the date, from {@code 1} to {@code 12}.
+	 */
+	public static int month(int packed) {
+		return (packed / 100) % 100;
+	}
+
+	/**
+	 * @param packed A packed {@code yyyymmdd} date.
+	 *
+	 * @return int The day of the month of the date.
+	 */
+	public static int day(int packed) {
+		return packed % 100;
+	}
+
+	/**
+	 * Converts a packed date into the number of days since {@code 1970-01-01}.
+	 *
+	 * @param packed A packed {@code yyyymmdd} date.
+	 *
+	 * @return long The epoch day of the date.
+	 */
+	public static long toEpochDay(int packed) {
+		int year = DateCodec.year(packed);
+		int month = DateCodec.month(packed);
+		int day = DateCodec.day(packed);
+
+		// Counts the years from March 1st, so that the leap day is always the last day of the year.
+		year -= month <= 2 ? 1 : 0;
+		long era = Math.floorDiv(year, 400);
+		int yoe = (int) (year - era * 400);
+		int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+
+		return era * 146097 + doe - 719468;
+	}
+
+	/**
+	 * Formats a packed date into a human readable date using the default locale's month names, such
+	 * as {@code "February 29, 2024"}.
+	 *
+	 * @param packed A packed {@code yyyymmdd} date.
+	 *
+	 * @return String The formatted date.
+	 */
+	public static String toDisplayString(int packed) {
+		StringBuilder sb = new StringBuilder(24)
+				.append(DateCodec.MONTH_NAMES[DateCodec.month(packed) - 1])
+				.append(' ');
+
+		DateCodec.appendDigits(sb, DateCodec.day(packed), 2);
+		return sb.append(", ")
+				.append(DateCodec.year(packed))
+				.toString();
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * @param year The year.
+	 *
+	 * @return boolean Returns {@code true} if the year has a February 29th.
+	 */
+	static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	// PRIVATE METHODS
+	private static int lengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return DateCodec.isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	private static void appendDigits(StringBuilder sb, int value, int width) {
+		for (int divisor = (int) Math.pow(10, width - 1); divisor > 0; divisor /= 10)
+			sb.append((char) ('0' + (value / divisor) % 10));
+	}
+
+	private static int resolveTwoDigitYear(int year) {
+		int resolved = (DateCodec.TWO_DIGIT_YEAR_START / 100) * 100 + year;
+		return resolved < DateCodec.TWO_DIGIT_YEAR_START ? resolved + 100 : resolved;
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * A compiled date pattern. Instances are immutable, and thus can be shared across threads.
+	 */
+	public static final class Format {
+		private static final char MONTH = 'M', DAY = 'd', YEAR = 'y';
+
+		private final String pattern;
+		/**
+		 * The order of the fields in the pattern.
+		 */
+		private final char[] fields = new char[3];
+		private final char separator;
+		private final int yearDigits;
+
+		private Format(String pattern) {
+			this.pattern = pattern;
+			this.separator = pattern.replaceAll("[a-zA-Z]", "").charAt(0);
+
+			String[] parts = pattern.split(String.valueOf(this.separator));
+			for (int i = 0; i < parts.length; i++)
+				this.fields[i] = parts[i].charAt(0);
+
+			this.yearDigits = pattern.length() - pattern.replace("y", "").length();
+		}
+
+		/**
+		 * @return String The pattern of this format, such as {@code "MM/dd/yyyy"}.
+		 */
+		public String getPattern() {
+			return this.pattern;
+		}
+
+		/**
+		 * Parses the given value into a packed {@code yyyymmdd} integer. Months and days may have one
+		 * or two digits, while years must have exactly as many digits as the pattern.
+		 *
+		 * @param value The value to parse.
+		 *
+		 * @return int The packed date, or {@link DateCodec#INVALID} if the value is not a valid date.
+		 */
+		public int parse(CharSequence value) {
+			return this.parse(value, 0, value.length());
+		}
+
+		/**
+		 * Parses the given range of the value into a packed {@code yyyymmdd} integer.
+		 *
+		 * @param value The value containing the date.
+		 * @param from The index of the first character of the date, inclusive.
+		 * @param to The index of the last character of the date, exclusive.
+		 *
+		 * @return int The packed date, or {@link DateCodec#INVALID} if the range is not a valid date.
+		 *
+		 * @see #parse(CharSequence)
+		 */
+		public int parse(CharSequence value, int from, int to) {
+			int year = -1, month = -1, day = -1;
+			int at = from;
+
+			for (int f = 0; f < 3; f++) {
+				if (f > 0) {
+					if (at >= to || value.charAt(at) != this.separator)
+						return INVALID;
+					at++;
+				}
+
+				int start = at, number = 0;
+				while (at < to && at - start < 4) {
+					char c = value.charAt(at);
+					if (c < '0' || c > '9')
+						break;
+
+					number = number * 10 + (c - '0');
+					at++;
+				}
+
+				int digits = at - start;
+				switch (this.fields[f]) {
+					case MONTH:
+						if (digits < 1 || digits > 2)
+							return INVALID;
+						month = number;
+						break;
+					case DAY:
+						if (digits < 1 || digits > 2)
+							return INVALID;
+						day = number;
+						break;
+					case YEAR:
+						if (digits != this.yearDigits)
+							return INVALID;
+						year = this.yearDigits == 2 ? DateCodec.resolveTwoDigitYear(number) : number;
+						break;
+				}
+			}
+
+			if (at != to)
+				return INVALID;
+
+			return DateCodec.pack(year, month, day);
+		}
+
+		/**
+		 * Parses the given value into the number of days since {@code 1970-01-01}.
+		 *
+		 * @param value The value to parse.
+		 *
+		 * @return long The epoch day, or {@link DateCodec#INVALID_EPOCH_DAY} if the value is not a valid date.
+		 */
+		public long parseEpochDay(CharSequence value) {
+			int packed = this.parse(value);
+			return packed == INVALID ? INVALID_EPOCH_DAY : DateCodec.toEpochDay(packed);
+		}
+
+		/**
+		 * Formats a packed date using this pattern.
+		 *
+		 * @param packed A packed {@code yyyymmdd} date.
+		 *
+		 * @return String The formatted date.
+		 */
+		public String format(int packed) {
+			StringBuilder sb = new StringBuilder(this.pattern.length());
+
+			for (int f = 0; f < 3; f++) {
+				if (f > 0)
+					sb.append(this.separator);
+
+				switch (this.fields[f]) {
+					case MONTH:
+						DateCodec.appendDigits(sb, DateCodec.month(packed), 2);
+						break;
+					case DAY:
+						DateCodec.appendDigits(sb, DateCodec.day(packed), 2);
+						break;
+					case YEAR:
+						DateCodec.appendDigits(sb, DateCodec.year(packed), this.yearDigits);
+						break;
+				}
+			}
+
+			return sb.toString();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return this.pattern;
+		}
+	}
+}
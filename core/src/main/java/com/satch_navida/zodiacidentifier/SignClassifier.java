@@ -0,0 +1,214 @@
+package com.satch_navida.zodiacidentifier;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Classifies dates into their Zodiac signs in bulk. Dates are given as primitive arrays, either
+ * packed as {@code yyyymmdd} integers or as epoch days, and the signs are written into a {@code byte}
+ * array using the indexes of {@link SignTable#SIGNS}. Dates that does not point to an existing day
+ * are written as {@link SignTable#UNKNOWN}.<br>
+ * <br>
+ * Inputs larger than {@link #THRESHOLD} are split across a {@link ForkJoinPool}. Each record is a
+ * handful of arithmetic operations and a single table read, with the target being at least
+ * <b>50 million records per second per core</b> for either input on a modern desktop or server
+ * CPU. The throughput can be checked, including how it scales with the number of cores, through
+ * the {@code SignClassifierBenchmark} in the unit tests.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class SignClassifier {
+	// PUBLIC VARIABLES
+	/**
+	 * The number of records under which a slice is classified in the calling thread instead of being
+	 * split further.
+	 */
+	public static final int THRESHOLD = 1 << 16;
+
+	// CONSTRUCTORS
+	private SignClassifier() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Classifies dates packed as {@code yyyymmdd} integers using the common {@link ForkJoinPool}.
+	 *
+	 * @param dates The packed dates, such as {@code 20240229}.
+	 * @param signs The array where the signs are written into, with at least the same length as {@code dates}.
+	 */
+	public static void classify(int[] dates, byte[] signs) {
+		SignClassifier.classify(dates, signs, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Classifies dates packed as {@code yyyymmdd} integers using the given {@link ForkJoinPool}.
+	 *
+	 * @param dates The packed dates, such as {@code 20240229}.
+	 * @param signs The array where the signs are written into, with at least the same length as {@code dates}.
+	 * @param pool The pool where the work will be split across.
+	 */
+	public static void classify(int[] dates, byte[] signs, ForkJoinPool pool) {
+		SignClassifier.checkLength(dates.length, signs.length);
+
+		if (dates.length <= THRESHOLD)
+			SignClassifier.classifyPacked(dates, signs, 0, dates.length);
+		else
+			pool.invoke(new PackedTask(dates, signs, 0, dates.length));
+	}
+
+	/**
+	 * Classifies dates given as epoch days (days since {@code 1970-01-01}) using the common
+	 * {@link ForkJoinPool}.
+	 *
+	 * @param epochDays The dates as epoch days.
+	 * @param signs The array where the signs are written into, with at least the same length as {@code epochDays}.
+	 */
+	public static void classify(long[] epochDays, byte[] signs) {
+		SignClassifier.classify(epochDays, signs, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Classifies dates given as epoch days (days since {@code 1970-01-01}) using the given
+	 * {@link ForkJoinPool}.
+	 *
+	 * @param epochDays The dates as epoch days.
+	 * @param signs The array where the signs are written into, with at least the same length as {@code epochDays}.
+	 * @param pool The pool where the work will be split across.
+	 */
+	public static void classify(long[] epochDays, byte[] signs, ForkJoinPool pool) {
+		SignClassifier.checkLength(epochDays.length, signs.length);
+
+		if (epochDays.length <= THRESHOLD)
+			SignClassifier.classifyEpochDays(epochDays, signs, 0, epochDays.length);
+		else
+			pool.invoke(new EpochDayTask(epochDays, signs, 0, epochDays.length));
+	}
+
+	/**
+	 * Resolves the sign of a single date packed as a {@code yyyymmdd} integer.
+	 *
+	 * @param date The packed date.
+	 *
+	 * @return int The index of the sign in {@link SignTable#SIGNS}, or {@link SignTable#UNKNOWN}.
+	 */
+	public static int signOfPacked(int date) {
+		int month = (date / 100) % 100;
+		int day = date % 100;
+
+		// The table has a February 29th for every year, as the sign doesn't depend on the year.
+		if (month == 2 && day == 29 && !DateCodec.isLeapYear(date / 10000))
+			return SignTable.UNKNOWN;
+
+		return SignTable.signOf(month, day);
+	}
+
+	/**
+	 * Resolves the sign of a single date given as an epoch day.
+	 *
+	 * @param epochDay The number of days since {@code 1970-01-01}.
+	 *
+	 * @return int The index of the sign in {@link SignTable#SIGNS}.
+	 */
+	public static int signOfEpochDay(long epochDay) {
+		// Converts the epoch day into a civil date using a year that starts on March 1st, so that
+		// the leap day is always the last day of the year.
+		long z = epochDay + 719468;
+		long era = Math.floorDiv(z, 146097);
+		int doe = (int) (z - era * 146097);
+		int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		int mp = (5 * doy + 2) / 153;
+		int day = doy - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+
+		return SignTable.signOf(month, day);
+	}
+
+	// PRIVATE METHODS
+	private static void checkLength(int inputLength, int outputLength) {
+		if (outputLength < inputLength)
+			throw new IllegalArgumentException(String.format(
+					"The output array is too small: Needs %1$d, only %2$d available.",
+					inputLength,
+					outputLength
+			));
+	}
+
+	private static void classifyPacked(int[] dates, byte[] signs, int from, int to) {
+		for (int i = from; i < to; i++)
+			signs[i] = (byte) SignClassifier.signOfPacked(dates[i]);
+	}
+
+	private static void classifyEpochDays(long[] epochDays, byte[] signs, int from, int to) {
+		for (int i = from; i < to; i++)
+			signs[i] = (byte) SignClassifier.signOfEpochDay(epochDays[i]);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Splits the classification of packed dates in halves until it is below {@link #THRESHOLD}.
+	 */
+	private static final class PackedTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] dates;
+		private final byte[] signs;
+		private final int from, to;
+
+		PackedTask(int[] dates, byte[] signs, int from, int to) {
+			this.dates = dates;
+			this.signs = signs;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= THRESHOLD) {
+				SignClassifier.classifyPacked(this.dates, this.signs, this.from, this.to);
+				return;
+			}
+
+			int mid = (this.from + this.to) >>> 1;
+			RecursiveAction.invokeAll(
+					new PackedTask(this.dates, this.signs, this.from, mid),
+					new PackedTask(this.dates, this.signs, mid, this.to)
+			);
+		}
+	}
+
+	/**
+	 * Splits the classification of epoch days in halves until it is below {@link #THRESHOLD}.
+	 */
+	private static final class EpochDayTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] epochDays;
+		private final byte[] signs;
+		private final int from, to;
+
+		EpochDayTask(long[] epochDays, byte[] signs, int from, int to) {
+			this.epochDays = epochDays;
+			this.signs = signs;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= THRESHOLD) {
+				SignClassifier.classifyEpochDays(this.epochDays, this.signs, this.from, this.to);
+				return;
+			}
+
+			int mid = (this.from + this.to) >>> 1;
+			RecursiveAction.invokeAll(
+					new EpochDayTask(this.epochDays, this.signs, this.from, mid),
+					new EpochDayTask(this.epochDays, this.signs, mid, this.to)
+			);
+		}
+	}
+}
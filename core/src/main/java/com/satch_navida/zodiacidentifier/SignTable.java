@@ -0,0 +1,124 @@
+package com.satch_navida.zodiacidentifier;
+
+/**
+ * A precomputed lookup table that resolves a calendar day into its Zodiac sign. The table is built
+ * once, holding an entry for each of the 366 days of a leap year, so that resolving a sign is just
+ * an array read with no allocation nor boxing involved.<br>
+ * <br>
+ * Signs are identified by their index in {@link #SIGNS}, starting with {@code Aries}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class SignTable {
+	// PUBLIC VARIABLES
+	/**
+	 * Identifies an invalid month and day combination.
+	 */
+	public static final int UNKNOWN = -1;
+
+	/**
+	 * The names of all the Zodiac signs, indexed by the values returned by {@link #signOf(int, int)}.
+	 */
+	public static final String[] SIGNS = new String[] {
+			"Aries",
+			"Taurus",
+			"Gemini",
+			"Cancer",
+			"Leo",
+			"Virgo",
+			"Libra",
+			"Scorpio",
+			"Sagittarius",
+			"Capricorn",
+			"Aquarius",
+			"Pisces"
+	};
+
+	// PRIVATE VARIABLES
+	/**
+	 * The number of days for each month of a leap year.
+	 */
+	private static final int[] DAYS_IN_MONTH = new int[] {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+	/**
+	 * The day of the month wherein the next sign starts, for each month.
+	 */
+	private static final int[] CUSP_DAY = new int[] {20, 18, 20, 20, 21, 21, 22, 23, 23, 23, 22, 21};
+
+	/**
+	 * The zero-based day of the (leap) year where each month starts.
+	 */
+	private static final int[] MONTH_OFFSET = new int[12];
+
+	/**
+	 * The sign for each zero-based day of a leap year.
+	 */
+	private static final byte[] TABLE = new byte[366];
+
+	static {
+		int offset = 0;
+		for (int month = 0; month < 12; month++) {
+			MONTH_OFFSET[month] = offset;
+
+			// The sign that ends within this month, and the sign that starts at its cusp.
+			byte before = (byte) ((month + 9) % 12);
+			byte after = (byte) ((month + 10) % 12);
+
+			for (int day = 1; day <= DAYS_IN_MONTH[month]; day++)
+				TABLE[offset + day - 1] = day >= CUSP_DAY[month] ? after : before;
+
+			offset += DAYS_IN_MONTH[month];
+		}
+	}
+
+	// CONSTRUCTORS
+	private SignTable() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Resolves the sign of the given month and day.
+	 *
+	 * @param month The month, from {@code 1} (January) to {@code 12} (December).
+	 * @param dayOfMonth The day of the month, starting from {@code 1}.
+	 *
+	 * @return int The index of the sign in {@link #SIGNS}, or {@link #UNKNOWN} if the month and day
+	 * does not point to an existing day.
+	 */
+	public static int signOf(int month, int dayOfMonth) {
+		if (month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > DAYS_IN_MONTH[month - 1])
+			return UNKNOWN;
+
+		return TABLE[MONTH_OFFSET[month - 1] + dayOfMonth - 1];
+	}
+
+	/**
+	 * Resolves the zero-based day of a leap year of the given month and day, which is the same for
+	 * every year, as February 29th is counted even when the year has none.
+	 *
+	 * @param month The month, from {@code 1} (January) to {@code 12} (December).
+	 * @param dayOfMonth The day of the month, starting from {@code 1}.
+	 *
+	 * @return int The day, from {@code 0} to {@code 365}, or {@link #UNKNOWN} if the month and day
+	 * does not point to an existing day.
+	 */
+	public static int dayOfLeapYear(int month, int dayOfMonth) {
+		if (month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > DAYS_IN_MONTH[month - 1])
+			return UNKNOWN;
+
+		return MONTH_OFFSET[month - 1] + dayOfMonth - 1;
+	}
+
+	/**
+	 * Fetches the name of the given sign.
+	 *
+	 * @param sign The index of the sign, as returned by {@link #signOf(int, int)}.
+	 *
+	 * @return String The name of the sign, or {@code null} if the sign is {@link #UNKNOWN}.
+	 */
+	public static String nameOf(int sign) {
+		return sign == UNKNOWN ? null : SIGNS[sign];
+	}
+}
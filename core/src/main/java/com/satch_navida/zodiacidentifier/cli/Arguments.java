@@ -0,0 +1,151 @@
+package com.satch_navida.zodiacidentifier.cli;
+
+import java.text.MessageFormat;
+
+/**
+ * A cursor over the arguments of a command line, shared by the command line entry points of the
+ * modules running on the JVM.<br>
+ * <br>
+ * Options are read in order, each followed by its value when it takes one, such as
+ * {@code --workers 4}. A missing or malformed value throws an {@link IllegalArgumentException}
+ * naming the option, which the entry points print along with their usage.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class Arguments {
+	// PRIVATE VARIABLES
+	private final String[] args;
+	private int pos;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates a cursor over the given arguments.
+	 *
+	 * @param args The arguments, as given to {@code main}.
+	 * @param pos The position of the first argument to read, such as {@code 1} to skip the command.
+	 */
+	public Arguments(String[] args, int pos) {
+		this.args = args;
+		this.pos = pos;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return boolean Returns {@code true} if there are arguments left.
+	 */
+	public boolean hasNext() {
+		return this.pos < this.args.length;
+	}
+
+	/**
+	 * @return String The next argument, moving past it.
+	 */
+	public String next() {
+		return this.args[this.pos++];
+	}
+
+	/**
+	 * Reads the value of an option.
+	 *
+	 * @param option The option the value belongs to, such as {@code "--output"}.
+	 *
+	 * @return String The value.
+	 *
+	 * @throws IllegalArgumentException When there are no arguments left.
+	 */
+	public String value(String option) {
+		if (!this.hasNext())
+			throw new IllegalArgumentException(MessageFormat.format("Missing value for {0}.", option));
+
+		return this.next();
+	}
+
+	/**
+	 * Reads the value of an option as an {@code int}.
+	 *
+	 * @param option The option the value belongs to, such as {@code "--workers"}.
+	 *
+	 * @return int The value.
+	 *
+	 * @throws IllegalArgumentException When the value is missing or not a number.
+	 */
+	public int intValue(String option) {
+		return Arguments.parseInt(option, this.value(option));
+	}
+
+	/**
+	 * Reads the value of an option as comma separated {@code int}s, such as {@code 1,4}.
+	 *
+	 * @param option The option the value belongs to, such as {@code "--threads"}.
+	 *
+	 * @return int[] The values, in order.
+	 *
+	 * @throws IllegalArgumentException When the value is missing or one of its parts is not a number.
+	 */
+	public int[] intValues(String option) {
+		String[] parts = this.value(option).split(",");
+		int[] values = new int[parts.length];
+
+		for (int i = 0; i < parts.length; i++)
+			values[i] = Arguments.parseInt(option, parts[i].trim());
+
+		return values;
+	}
+
+	/**
+	 * Reads the value of an option as a {@code long}.
+	 *
+	 * @param option The option the value belongs to, such as {@code "--rows"}.
+	 *
+	 * @return long The value.
+	 *
+	 * @throws IllegalArgumentException When the value is missing or not a number.
+	 */
+	public long longValue(String option) {
+		String value = this.value(option);
+
+		try {
+			return Long.parseLong(value);
+		}
+		catch (NumberFormatException e) {
+			throw Arguments.notANumber(option, value);
+		}
+	}
+
+	/**
+	 * Reads the value of an option as a {@code double}.
+	 *
+	 * @param option The option the value belongs to, such as {@code "--malformed"}.
+	 *
+	 * @return double The value.
+	 *
+	 * @throws IllegalArgumentException When the value is missing or not a number.
+	 */
+	public double doubleValue(String option) {
+		String value = this.value(option);
+
+		try {
+			return Double.parseDouble(value);
+		}
+		catch (NumberFormatException e) {
+			throw Arguments.notANumber(option, value);
+		}
+	}
+
+	// PRIVATE METHODS
+	private static int parseInt(String option, String value) {
+		try {
+			return Integer.parseInt(value);
+		}
+		catch (NumberFormatException e) {
+			throw Arguments.notANumber(option, value);
+		}
+	}
+
+	private static IllegalArgumentException notANumber(String option, String value) {
+		return new IllegalArgumentException(MessageFormat.format("Expected {0} to be a number, but got \"{1}\".", option, value));
+	}
+}
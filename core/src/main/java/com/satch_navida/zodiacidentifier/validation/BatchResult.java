@@ -0,0 +1,121 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The aggregated outcome of a {@link BatchValidator} run: how many records passed or failed, and how
+ * many times each field and each rule failed.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BatchResult {
+	// PRIVATE VARIABLES
+	private final long total;
+	private final long failed;
+	/**
+	 * The number of failures of each field, keyed by the field name.
+	 */
+	private final Map<String, Long> fieldFailures;
+	/**
+	 * The number of failures of each rule, keyed by {@code field.Rule}.
+	 */
+	private final Map<String, Long> ruleFailures;
+
+	// CONSTRUCTORS
+	BatchResult(ValidationSchema schema, long total, long failed, long[] fieldCounts, long[] ruleCounts) {
+		this.total = total;
+		this.failed = failed;
+
+		Map<String, Long> fields = new LinkedHashMap<String, Long>();
+		String[] fieldNames = schema.fieldNames();
+		for (int i = 0; i < fieldNames.length; i++)
+			fields.put(fieldNames[i], fieldCounts[i]);
+
+		Map<String, Long> rules = new LinkedHashMap<String, Long>();
+		ValidationSchema.CompiledRule[] compiled = schema.rules();
+		for (int i = 0; i < compiled.length; i++)
+			rules.put(compiled[i].msgKey, ruleCounts[i]);
+
+		this.fieldFailures = Collections.unmodifiableMap(fields);
+		this.ruleFailures = Collections.unmodifiableMap(rules);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return long The number of records validated.
+	 */
+	public long total() {
+		return this.total;
+	}
+
+	/**
+	 * @return long The number of records that passed every rule.
+	 */
+	public long passed() {
+		return this.total - this.failed;
+	}
+
+	/**
+	 * @return long The number of records that failed at least one rule.
+	 */
+	public long failed() {
+		return this.failed;
+	}
+
+	/**
+	 * Fetches the number of records wherein the given field failed at least one rule.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return long The number of failures, or {@code 0} if the field is not part of the schema.
+	 */
+	public long failuresOf(String field) {
+		Long count = this.fieldFailures.get(field);
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * Fetches the number of records wherein the given field failed the given rule.
+	 *
+	 * @param field The name of the field.
+	 * @param rule The name of the rule, such as {@code "Required"}.
+	 *
+	 * @return long The number of failures, or {@code 0} if the rule is not part of the schema.
+	 */
+	public long failuresOf(String field, String rule) {
+		Long count = this.ruleFailures.get(String.format("%1$s.%2$s", field, rule));
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * @return Map<String, Long> An unmodifiable map of the failures of each field.
+	 */
+	public Map<String, Long> fieldFailures() {
+		return this.fieldFailures;
+	}
+
+	/**
+	 * @return Map<String, Long> An unmodifiable map of the failures of each rule, keyed by {@code field.Rule}.
+	 */
+	public Map<String, Long> ruleFailures() {
+		return this.ruleFailures;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[BatchResult]: {total: %1$d, passed: %2$d, failed: %3$d, ruleFailures: %4$s}",
+				this.total,
+				this.passed(),
+				this.failed,
+				this.ruleFailures
+		);
+	}
+}
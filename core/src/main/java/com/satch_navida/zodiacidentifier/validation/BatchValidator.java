@@ -0,0 +1,316 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Validates a collection of records against a single {@link ValidationSchema}, spreading the work
+ * across all cores. Instead of creating a {@link Validator} per record, records are read in chunks
+ * and each chunk is validated by a worker, which only counts the failures of each field and rule.<br>
+ * <br>
+ * Records are read from their source in the calling thread, and only a bounded number of chunks are
+ * in flight at any time, so the memory used stays the same no matter how many records there are.
+ * The outcome of each record can be observed through a {@link RecordListener}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class BatchValidator {
+	// PUBLIC VARIABLES
+	/**
+	 * The default number of records validated by a worker at a time.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+	// PRIVATE VARIABLES
+	private final ValidationSchema schema;
+	private final Executor executor;
+	private final int chunkSize;
+	private final int maxChunksInFlight;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link BatchValidator} running on the common {@link ForkJoinPool}.
+	 *
+	 * @param schema The compiled rules every record will be validated against.
+	 */
+	public BatchValidator(ValidationSchema schema) {
+		this(schema, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 2);
+	}
+
+	/**
+	 * Creates an instance of {@link BatchValidator}.
+	 *
+	 * @param schema The compiled rules every record will be validated against.
+	 * @param executor The executor running the workers.
+	 * @param chunkSize The number of records validated by a worker at a time.
+	 * @param maxChunksInFlight The maximum number of chunks read but not yet validated. Reading
+	 *                          blocks until a chunk is done once the limit is reached.
+	 */
+	public BatchValidator(ValidationSchema schema, Executor executor, int chunkSize, int maxChunksInFlight) {
+		if (chunkSize < 1 || maxChunksInFlight < 1)
+			throw new IllegalArgumentException("The chunk size and the maximum chunks in flight must be at least 1.");
+
+		this.schema = schema;
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+		this.maxChunksInFlight = maxChunksInFlight;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Validates all the given records.
+	 *
+	 * @param records The records, such as a {@link java.util.List}.
+	 *
+	 * @return BatchResult The aggregated outcome of all the records.
+	 */
+	public BatchResult validate(Iterable<? extends Map<String, Object>> records) {
+		return this.validate(records.spliterator(), null);
+	}
+
+	/**
+	 * Validates all the given records, reporting the outcome of each record to the listener.
+	 *
+	 * @param records The records, such as a {@link java.util.List}.
+	 * @param listener Receives the outcome of each record. May be {@code null}.
+	 *
+	 * @return BatchResult The aggregated outcome of all the records.
+	 */
+	public BatchResult validate(Iterable<? extends Map<String, Object>> records, RecordListener listener) {
+		return this.validate(records.spliterator(), listener);
+	}
+
+	/**
+	 * Validates all the remaining records of the given iterator.
+	 *
+	 * @param records The records.
+	 * @param listener Receives the outcome of each record. May be {@code null}.
+	 *
+	 * @return BatchResult The aggregated outcome of all the records.
+	 */
+	public BatchResult validate(Iterator<? extends Map<String, Object>> records, RecordListener listener) {
+		return this.validate(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), listener);
+	}
+
+	/**
+	 * Validates all the remaining records of the given spliterator.
+	 *
+	 * @param records The records.
+	 * @param listener Receives the outcome of each record. May be {@code null}.
+	 *
+	 * @return BatchResult The aggregated outcome of all the records.
+	 *
+	 * @throws RuntimeException The first exception thrown by a rule, if any, or the exception of the
+	 * executor if it rejected a chunk. The chunks already handed to the executor are done, or
+	 * skipped after a rule threw, before it is thrown.
+	 */
+	public BatchResult validate(Spliterator<? extends Map<String, Object>> records, RecordListener listener) {
+		Totals totals = new Totals(this.schema);
+		Semaphore inFlight = new Semaphore(this.maxChunksInFlight);
+		AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+		Reader reader = new Reader();
+		long index = 0;
+
+		while (error.get() == null) {
+			// Reads the next chunk in the calling thread.
+			List<Map<String, Object>> chunk = new ArrayList<Map<String, Object>>(this.chunkSize);
+			while (chunk.size() < this.chunkSize && records.tryAdvance(reader))
+				chunk.add(reader.record);
+
+			int size = chunk.size();
+			if (size == 0)
+				break;
+
+			inFlight.acquireUninterruptibly();
+
+			Chunk task = new Chunk(this.schema, totals, listener, chunk, index);
+			index += size;
+
+			try {
+				this.executor.execute(() -> {
+					try {
+						// Skips the chunk once a rule threw in another one.
+						if (error.get() == null)
+							task.run();
+					} catch (Throwable t) {
+						error.compareAndSet(null, t);
+					} finally {
+						inFlight.release();
+					}
+				});
+			} catch (RuntimeException e) {
+				inFlight.release();
+				this.awaitChunks(inFlight);
+				throw e;
+			}
+
+			if (size < this.chunkSize)
+				break;
+		}
+
+		this.awaitChunks(inFlight);
+
+		Throwable t = error.get();
+		if (t instanceof RuntimeException)
+			throw (RuntimeException) t;
+		if (t instanceof Error)
+			throw (Error) t;
+
+		return totals.toResult(this.schema, index);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Waits for every chunk handed to the executor to be done, such that no worker outlives the run.
+	 */
+	private void awaitChunks(Semaphore inFlight) {
+		inFlight.acquireUninterruptibly(this.maxChunksInFlight);
+		inFlight.release(this.maxChunksInFlight);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Receives the outcome of each record validated by a {@link BatchValidator}. It is called from
+	 * the worker threads, possibly at the same time and not in the order of the records, and thus
+	 * must be thread-safe.
+	 */
+	@FunctionalInterface
+	public interface RecordListener {
+		/**
+		 * Called once a record has been validated.
+		 *
+		 * @param index The position of the record in its source, starting from {@code 0}.
+		 * @param record The record itself.
+		 * @param valid Whether the record passed every rule.
+		 */
+		void onRecord(long index, Map<String, Object> record, boolean valid);
+	}
+
+	/**
+	 * Holds the last record read from a spliterator.
+	 */
+	private static final class Reader implements Consumer<Map<String, Object>> {
+		Map<String, Object> record;
+
+		@Override
+		public void accept(Map<String, Object> record) {
+			this.record = record;
+		}
+	}
+
+	/**
+	 * The counters shared by all the chunks of a single run.
+	 */
+	private static final class Totals {
+		final AtomicLong failed = new AtomicLong();
+		final AtomicLongArray fieldFailures;
+		final AtomicLongArray ruleFailures;
+
+		Totals(ValidationSchema schema) {
+			this.fieldFailures = new AtomicLongArray(schema.fieldNames().length);
+			this.ruleFailures = new AtomicLongArray(schema.rules().length);
+		}
+
+		BatchResult toResult(ValidationSchema schema, long total) {
+			long[] fields = new long[this.fieldFailures.length()];
+			for (int i = 0; i < fields.length; i++)
+				fields[i] = this.fieldFailures.get(i);
+
+			long[] rules = new long[this.ruleFailures.length()];
+			for (int i = 0; i < rules.length; i++)
+				rules[i] = this.ruleFailures.get(i);
+
+			return new BatchResult(schema, total, this.failed.get(), fields, rules);
+		}
+	}
+
+	/**
+	 * Validates a chunk of records, counting the failures locally before adding them to the totals
+	 * once the whole chunk is done.
+	 */
+	private static final class Chunk implements ValidationSchema.Sink {
+		private final ValidationSchema schema;
+		private final Totals totals;
+		private final RecordListener listener;
+		private final List<Map<String, Object>> records;
+		private final long firstIndex;
+
+		private final long[] fieldFailures;
+		private final long[] ruleFailures;
+		/**
+		 * The last record wherein each field failed, so a field is counted once per record.
+		 */
+		private final int[] fieldFailedAt;
+		private int current;
+
+		Chunk(ValidationSchema schema, Totals totals, RecordListener listener, List<Map<String, Object>> records, long firstIndex) {
+			this.schema = schema;
+			this.totals = totals;
+			this.listener = listener;
+			this.records = records;
+			this.firstIndex = firstIndex;
+
+			this.fieldFailures = new long[schema.fieldNames().length];
+			this.ruleFailures = new long[schema.rules().length];
+			this.fieldFailedAt = new int[this.fieldFailures.length];
+		}
+
+		void run() {
+			long failed = 0;
+
+			for (int i = 0; i < this.records.size(); i++) {
+				Map<String, Object> record = this.records.get(i);
+
+				// Records are numbered from 1, as 0 is the initial value of fieldFailedAt.
+				this.current = i + 1;
+				boolean valid = this.schema.run(record, this);
+
+				if (!valid)
+					failed++;
+
+				if (this.listener != null)
+					this.listener.onRecord(this.firstIndex + i, record, valid);
+			}
+
+			this.totals.failed.addAndGet(failed);
+			for (int i = 0; i < this.fieldFailures.length; i++)
+				if (this.fieldFailures[i] > 0)
+					this.totals.fieldFailures.addAndGet(i, this.fieldFailures[i]);
+			for (int i = 0; i < this.ruleFailures.length; i++)
+				if (this.ruleFailures[i] > 0)
+					this.totals.ruleFailures.addAndGet(i, this.ruleFailures[i]);
+		}
+
+		@Override
+		public void passed(ValidationSchema.CompiledRule rule, String key, Object value) {
+		}
+
+		@Override
+		public void failed(ValidationSchema.CompiledRule rule, String key, RuleResult result) {
+			this.ruleFailures[rule.index]++;
+
+			if (this.fieldFailedAt[rule.fieldIndex] != this.current) {
+				this.fieldFailedAt[rule.fieldIndex] = this.current;
+				this.fieldFailures[rule.fieldIndex]++;
+			}
+		}
+	}
+}
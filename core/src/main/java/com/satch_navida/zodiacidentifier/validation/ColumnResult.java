@@ -0,0 +1,133 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * The outcome of validating a column with a {@link ColumnValidator}: which rows failed, and which of
+ * the field's rules they failed.<br>
+ * <br>
+ * The messages are only built once {@link #errors()} is called, and only for the failing rows. They
+ * are keyed by {@code field.row}, such as {@code birth_date.42}, in the same form as the messages of
+ * the values of a list.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ColumnResult {
+	// PRIVATE VARIABLES
+	private final String field;
+	private final ValidationSchema.CompiledRule[] rules;
+	/**
+	 * The rows failing each rule, indexed like {@link #rules}.
+	 */
+	private final BitSet[] failedBy;
+	private final BitSet failed;
+	private final int size;
+	private final IntFunction<Object> values;
+	private volatile MessageBag errors;
+
+	// CONSTRUCTORS
+	ColumnResult(String field, ValidationSchema.CompiledRule[] rules, BitSet[] failedBy, int size, IntFunction<Object> values) {
+		this.field = field;
+		this.rules = rules;
+		this.failedBy = failedBy;
+		this.size = size;
+		this.values = values;
+		this.failed = new BitSet(size);
+
+		for (BitSet ruleFailed : failedBy)
+			this.failed.or(ruleFailed);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return int The number of rows validated.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return boolean Returns {@code true} if at least a row failed.
+	 */
+	public boolean fails() {
+		return !this.failed.isEmpty();
+	}
+
+	/**
+	 * @return int The number of rows that failed.
+	 */
+	public int failedCount() {
+		return this.failed.cardinality();
+	}
+
+	/**
+	 * @return BitSet A copy of the set of rows that failed.
+	 */
+	public BitSet failed() {
+		return (BitSet) this.failed.clone();
+	}
+
+	/**
+	 * Fetches the rows that failed the given rule.
+	 *
+	 * @param rule The name of the rule, such as {@code "Date"}.
+	 *
+	 * @return BitSet A copy of the set of rows that failed the rule, which is empty if the field has no such rule.
+	 */
+	public BitSet failed(String rule) {
+		BitSet failed = new BitSet(this.size);
+
+		for (int r = 0; r < this.rules.length; r++)
+			if (this.rules[r].name.equals(rule))
+				failed.or(this.failedBy[r]);
+
+		return failed;
+	}
+
+	/**
+	 * Builds the messages of the failing rows the first time it is called. The messages themselves
+	 * are only rendered once fetched from the bag.
+	 *
+	 * @return MessageBag The messages, keyed by {@code field.row}.
+	 */
+	public MessageBag errors() {
+		MessageBag errors = this.errors;
+
+		if (errors == null) {
+			synchronized (this) {
+				errors = this.errors;
+
+				if (errors == null) {
+					errors = new MessageBag();
+
+					for (int row = this.failed.nextSetBit(0); row >= 0; row = this.failed.nextSetBit(row + 1)) {
+						Object value = this.values.apply(row);
+
+						for (int r = 0; r < this.rules.length; r++) {
+							if (!this.failedBy[r].get(row))
+								continue;
+
+							ValidationSchema.CompiledRule rule = this.rules[r];
+							errors.add(
+									String.format("%1$s.%2$d.%3$s", this.field, row, rule.name),
+									() -> rule.rule.failure(value, rule.validatorValues, rule).getMessage()
+							);
+						}
+					}
+
+					this.errors = errors;
+				}
+			}
+		}
+
+		return errors;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$d of %2$d rows of %3$s failed", this.failedCount(), this.size, this.field);
+	}
+}
@@ -0,0 +1,160 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.DoubleColumnRule;
+import com.satch_navida.zodiacidentifier.validation.rules.LongColumnRule;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
+
+import java.text.MessageFormat;
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * Validates a whole column of values at once, such as every birth date of a dataset kept as a
+ * {@code long[]} of epoch days, against the rules of a single field of a schema.<br>
+ * <br>
+ * Rather than running every rule of the field on a value before moving to the next value, each rule
+ * is run on the whole column in turn. The rules implementing {@link LongColumnRule} or
+ * {@link DoubleColumnRule} test primitive columns in a tight loop without boxing any value; the
+ * other rules are given each value boxed. The outcome is the same as validating each value on its
+ * own: the rules skipped after a failure (when the field bails) or after a rule asking not to run
+ * the others don't fail any value.<br>
+ * <br>
+ * Validating a column returns a {@link ColumnResult} holding the failing rows, whose messages are
+ * only built once asked for. The cache and the listener of the schema are not used, and the rules
+ * reading other fields, such as {@code Before}, don't see any.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ColumnValidator {
+	// PRIVATE VARIABLES
+	private final String field;
+	private final ValidationSchema.CompiledRule[] rules;
+	private final boolean bail;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates a validator of the columns of the given field.
+	 *
+	 * @param schema The schema holding the rules of the field.
+	 * @param field The name of the field.
+	 *
+	 * @throws IllegalArgumentException When the field has no rules in the schema.
+	 */
+	public ColumnValidator(ValidationSchema schema, String field) {
+		ValidationSchema.CompiledRule[] rules = schema.rulesOf(field);
+
+		if (rules == null)
+			throw new IllegalArgumentException(MessageFormat.format("The field \"{0}\" has no rules.", field));
+
+		this.field = field;
+		this.rules = rules;
+		this.bail = rules.length > 0 && schema.bails(rules[0].fieldIndex);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Validates a column of {@code long}s.
+	 *
+	 * @param values The column. Must not be changed until the messages of the result were fetched.
+	 *
+	 * @return ColumnResult The failing rows.
+	 */
+	public ColumnResult validate(long[] values) {
+		BitSet[] failedBy = new BitSet[this.rules.length];
+		BitSet skipped = new BitSet(values.length);
+
+		for (int r = 0; r < this.rules.length; r++) {
+			ValidationSchema.CompiledRule rule = this.rules[r];
+
+			if (rule.rule instanceof LongColumnRule) {
+				failedBy[r] = new BitSet(values.length);
+				((LongColumnRule) rule.rule).testColumn(values, rule.validatorValues, failedBy[r]);
+				this.skip(failedBy[r], skipped);
+			}
+			else {
+				failedBy[r] = this.testBoxed(rule, values.length, (int row) -> values[row], skipped);
+			}
+		}
+
+		return new ColumnResult(this.field, this.rules, failedBy, values.length, (int row) -> values[row]);
+	}
+
+	/**
+	 * Validates a column of {@code double}s.
+	 *
+	 * @param values The column. Must not be changed until the messages of the result were fetched.
+	 *
+	 * @return ColumnResult The failing rows.
+	 */
+	public ColumnResult validate(double[] values) {
+		BitSet[] failedBy = new BitSet[this.rules.length];
+		BitSet skipped = new BitSet(values.length);
+
+		for (int r = 0; r < this.rules.length; r++) {
+			ValidationSchema.CompiledRule rule = this.rules[r];
+
+			if (rule.rule instanceof DoubleColumnRule) {
+				failedBy[r] = new BitSet(values.length);
+				((DoubleColumnRule) rule.rule).testColumn(values, rule.validatorValues, failedBy[r]);
+				this.skip(failedBy[r], skipped);
+			}
+			else {
+				failedBy[r] = this.testBoxed(rule, values.length, (int row) -> values[row], skipped);
+			}
+		}
+
+		return new ColumnResult(this.field, this.rules, failedBy, values.length, (int row) -> values[row]);
+	}
+
+	/**
+	 * Validates a column of any values, such as strings.
+	 *
+	 * @param values The column. Must not be changed until the messages of the result were fetched.
+	 *
+	 * @return ColumnResult The failing rows.
+	 */
+	public ColumnResult validate(Object[] values) {
+		BitSet[] failedBy = new BitSet[this.rules.length];
+		BitSet skipped = new BitSet(values.length);
+
+		for (int r = 0; r < this.rules.length; r++)
+			failedBy[r] = this.testBoxed(this.rules[r], values.length, (int row) -> values[row], skipped);
+
+		return new ColumnResult(this.field, this.rules, failedBy, values.length, (int row) -> values[row]);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Drops the failures of the rows whose rule shouldn't have run, then skips the remaining rules
+	 * of the newly failed rows if the field bails. Only used for the column rules, which never ask
+	 * not to run the others.
+	 */
+	private void skip(BitSet failed, BitSet skipped) {
+		failed.andNot(skipped);
+
+		if (this.bail)
+			skipped.or(failed);
+	}
+
+	/**
+	 * Runs a rule on every row that isn't skipped, one boxed value at a time.
+	 */
+	private BitSet testBoxed(ValidationSchema.CompiledRule rule, int size, IntFunction<Object> values, BitSet skipped) {
+		BitSet failed = new BitSet(size);
+
+		for (int row = skipped.nextClearBit(0); row < size; row = skipped.nextClearBit(row + 1)) {
+			RuleResult result = rule.test(values.apply(row));
+
+			if (!result.isValid())
+				failed.set(row);
+			if ((!result.isValid() && this.bail) || !result.shouldRunOtherValidations())
+				skipped.set(row);
+		}
+
+		return failed;
+	}
+}
@@ -0,0 +1,269 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The path of a field nested in other values, such as {@code address.city}, or of every field
+ * matched by a wildcard, such as {@code people.*.birth_date}. A path is split into its segments only
+ * once, when compiled, and then matched against the values of each record without any parsing.<br>
+ * <br>
+ * A segment reads the value of a key from a {@link Map}, or the value at an index from a
+ * {@link List} or an array. A {@value #WILDCARD} segment reads every value of the container. A value
+ * whose container exists is always matched, even when it is missing, such that {@code Required}
+ * catches it; a path whose container is missing or isn't a container matches nothing.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class FieldPath {
+	// PUBLIC VARIABLES
+	/**
+	 * The segment matching every value of a container.
+	 */
+	static final String WILDCARD = "*";
+
+	// PRIVATE VARIABLES
+	private static final String[] NOTHING_BOUND = new String[0];
+
+	private final String path;
+	private final String[] segments;
+	private final int wildcards;
+
+	// CONSTRUCTORS
+	private FieldPath(String path, String[] segments, int wildcards) {
+		this.path = path;
+		this.segments = segments;
+		this.wildcards = wildcards;
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Compiles a path, whose segments are separated by dots.
+	 *
+	 * @param path The path, such as {@code people.*.birth_date}.
+	 *
+	 * @return FieldPath The compiled path.
+	 */
+	static FieldPath compile(String path) {
+		String[] segments = path.split("\\.", -1);
+		int wildcards = 0;
+
+		for (String segment : segments)
+			if (segment.equals(FieldPath.WILDCARD))
+				wildcards++;
+
+		return new FieldPath(path, segments, wildcards);
+	}
+
+	/**
+	 * @return boolean Returns {@code true} if the path reads into other values, rather than being the
+	 * name of a value of the record.
+	 */
+	boolean isNested() {
+		return this.segments.length > 1 || this.wildcards > 0;
+	}
+
+	/**
+	 * Finds every value of the record matched by this path.
+	 *
+	 * @param values The values of the record.
+	 * @param match Receives each value, in the order of their containers.
+	 */
+	void expand(Map<String, Object> values, Match match) {
+		// A value named after the whole path, as flattened by hand, is read as is.
+		if (this.wildcards == 0 && values.containsKey(this.path)) {
+			match.found(this.path, values.get(this.path), FieldPath.NOTHING_BOUND);
+			return;
+		}
+
+		if (!this.segments[0].equals(FieldPath.WILDCARD) && !values.containsKey(this.segments[0]))
+			return;
+
+		this.expand(values, 0, "", new String[this.wildcards], 0, match);
+	}
+
+	/**
+	 * Reads the value at this path, the wildcards being replaced by the given segments in order.
+	 *
+	 * @param values The values of the record.
+	 * @param bound The segments matched by the wildcards, such as by {@link #expand(Map, Match)}.
+	 *
+	 * @return Object The value, or {@code null} if there is none, or not enough segments are bound.
+	 */
+	Object resolve(Map<String, Object> values, String[] bound) {
+		if (this.wildcards == 0 && values.containsKey(this.path))
+			return values.get(this.path);
+
+		Object value = values;
+		int wildcard = 0;
+
+		for (String segment : this.segments) {
+			if (segment.equals(FieldPath.WILDCARD)) {
+				if (wildcard >= bound.length)
+					return null;
+
+				segment = bound[wildcard++];
+			}
+
+			value = FieldPath.child(value, segment);
+			if (value == null)
+				return null;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Replaces the wildcards of this path by the given segments in order.
+	 *
+	 * @param bound The segments matched by the wildcards.
+	 *
+	 * @return String The path without wildcards, or {@code null} if not enough segments are bound.
+	 */
+	String bind(String[] bound) {
+		if (this.wildcards == 0)
+			return this.path;
+		if (bound.length < this.wildcards)
+			return null;
+
+		StringBuilder path = new StringBuilder(this.path.length() + 8);
+		int wildcard = 0;
+
+		for (String segment : this.segments) {
+			if (path.length() > 0)
+				path.append('.');
+
+			path.append(segment.equals(FieldPath.WILDCARD) ? bound[wildcard++] : segment);
+		}
+
+		return path.toString();
+	}
+
+	@Override
+	public String toString() {
+		return this.path;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Matches the segments from the given one onward against the given container.
+	 */
+	private void expand(Object container, int segment, String prefix, String[] bound, int wildcard, Match match) {
+		boolean last = segment == this.segments.length - 1;
+
+		if (!this.segments[segment].equals(FieldPath.WILDCARD)) {
+			String name = this.segments[segment];
+			Object value = FieldPath.child(container, name);
+
+			if (last) {
+				if (FieldPath.isContainer(container))
+					match.found(prefix + name, value, bound.clone());
+			}
+			else if (value != null) {
+				this.expand(value, segment + 1, prefix + name + ".", bound, wildcard, match);
+			}
+
+			return;
+		}
+
+		if (container instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) container).entrySet())
+				this.expandChild(String.valueOf(entry.getKey()), entry.getValue(), segment, prefix, bound, wildcard, match);
+		}
+		else if (container instanceof List) {
+			List<?> list = (List<?>) container;
+
+			for (int i = 0; i < list.size(); i++)
+				this.expandChild(Integer.toString(i), list.get(i), segment, prefix, bound, wildcard, match);
+		}
+		else if (container != null && container.getClass().isArray()) {
+			int length = Array.getLength(container);
+
+			for (int i = 0; i < length; i++)
+				this.expandChild(Integer.toString(i), Array.get(container, i), segment, prefix, bound, wildcard, match);
+		}
+	}
+
+	/**
+	 * Matches a value of a container against a wildcard, then the segments after it.
+	 */
+	private void expandChild(String name, Object value, int segment, String prefix, String[] bound, int wildcard, Match match) {
+		bound[wildcard] = name;
+
+		if (segment == this.segments.length - 1)
+			match.found(prefix + name, value, bound.clone());
+		else if (value != null)
+			this.expand(value, segment + 1, prefix + name + ".", bound, wildcard + 1, match);
+	}
+
+	/**
+	 * @return boolean Returns {@code true} if the value can hold other values.
+	 */
+	private static boolean isContainer(Object value) {
+		return value instanceof Map || value instanceof List || (value != null && value.getClass().isArray());
+	}
+
+	/**
+	 * Reads a value of a container.
+	 *
+	 * @return Object The value, or {@code null} if there is none or the container isn't one.
+	 */
+	private static Object child(Object container, String name) {
+		if (container instanceof Map)
+			return ((Map<?, ?>) container).get(name);
+
+		int index = FieldPath.indexOf(name);
+		if (index < 0)
+			return null;
+
+		if (container instanceof List) {
+			List<?> list = (List<?>) container;
+			return index < list.size() ? list.get(index) : null;
+		}
+
+		if (container != null && container.getClass().isArray())
+			return index < Array.getLength(container) ? Array.get(container, index) : null;
+
+		return null;
+	}
+
+	/**
+	 * @return int The index named by the segment, or {@code -1} if it isn't one.
+	 */
+	private static int indexOf(String name) {
+		if (name.isEmpty() || name.length() > 9)
+			return -1;
+
+		int index = 0;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+
+			if (c < '0' || c > '9')
+				return -1;
+
+			index = index * 10 + (c - '0');
+		}
+
+		return index;
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Receives the values matched by a path.
+	 */
+	interface Match {
+		/**
+		 * Called for each value matched.
+		 *
+		 * @param key The path of the value, such as {@code people.0.birth_date}.
+		 * @param value The value, which may be {@code null}.
+		 * @param bound The segments matched by the wildcards of the path, in order.
+		 */
+		void found(String key, Object value, String[] bound);
+	}
+}
@@ -0,0 +1,357 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A message bag is an instance of object containing various messages for different keys. It is
+ * similar to a JSON object wherein you can provide an array of messages for a single key, with
+ * multiple keys in a single instance of the object.<br>
+ * <br>
+ * The code of this {@code MessageBag} is designed to allow chain-calling and only stops when using
+ * {@code getters} or calling {@code variables} (if there are any).<br>
+ * <br>
+ * Messages can also be added as a {@link Supplier}, which is only called once the message is
+ * fetched, so a bag that is never read never builds its messages.<br>
+ * <br>
+ * Keys, and the messages of each key, are kept in the order they were first added, so
+ * {@link #first(String)} always returns the message of the first rule that failed. A bag can be
+ * safely added to and read from by several threads at once.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class MessageBag {
+	// PRIVATE VARIABLES
+	/**
+	 * A map that contains all the messages, serving as a replacement for JSONs as JSON aren't easily
+	 * traversable unlike maps in the Java context. Each message is either a {@code String} or a
+	 * {@link Supplier} of one that is yet to be rendered. Guarded by {@code this}.
+	 */
+	private final Map<String, Map<String, Object>> messages = new LinkedHashMap<String, Map<String, Object>>();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link MessageBag}, containing messages given through {@code messages}
+	 * parameter.<br>
+	 *
+	 * @param messages A map containing key-value pair whereas the {@code key} is the identifier while
+	 *                 {@code value} is a {@link Map} containing a key-value pair of {@code String}s where in this
+	 *                 context, the {@code key} is the rule while the {@code value} is the message.
+	 */
+	public MessageBag(HashMap<String, Map<String, String>> messages) {
+		messages.forEach((String key, Map<String, String> keyMessages) -> this.messages.put(key, new LinkedHashMap<String, Object>(keyMessages)));
+	}
+
+	/**
+	 * Creates an empty instance of {@link MessageBag}.
+	 */
+	public MessageBag() {
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches all the available keys in the {@link MessageBag}, in the order they were added.
+	 *
+	 * @return String[] An array of keys.
+	 */
+	public synchronized String[] keys() {
+		return this.messages.keySet().toArray(new String[0]);
+	}
+
+	/**
+	 * Identifies whether the bag holds no messages at all.
+	 *
+	 * @return boolean Returns {@code true} if there are no messages; {@code false} otherwise.
+	 */
+	public synchronized boolean isEmpty() {
+		return this.messages.isEmpty();
+	}
+
+	/**
+	 * Adds a new message to the array of messages from a key. If the key isn't present yet,
+	 * a new instance of array will be created wherein the new message will be placed.
+	 *
+	 * @param key Key identifier of the message, in the form of {@code key.Rule}. The rule is everything
+	 *            after the last dot.
+	 * @param message The new message to put for the key.
+	 *
+	 * @return MessageBag This instance of {@code MessageBag}.
+	 *
+	 * @throws IllegalArgumentException When the key has no rule.
+	 */
+	public MessageBag add(String key, String message) {
+		return this.put(key, message);
+	}
+
+	/**
+	 * Adds a new message that is only rendered once it is fetched.
+	 *
+	 * @param key Key identifier of the message.
+	 * @param message Renders the message.
+	 *
+	 * @return MessageBag This instance of {@code MessageBag}.
+	 *
+	 * @see #add(String, String)
+	 */
+	public MessageBag add(String key, Supplier<String> message) {
+		return this.put(key, message);
+	}
+
+	/**
+	 * Merge a new array of messages into this message bag.
+	 *
+	 * @param messages An instance of {@link HashMap} containing a key-value pair whereas the {@code key} is the identifier while
+	 *                  {@code value} is an {@link ArrayList} containing a list of {@code String}s.
+	 *
+	 * @return MessageBag This instance of {@code MessageBag}.
+	 */
+	public MessageBag merge(HashMap<String, Map<String, String>> messages) {
+		return this.merge(new MessageBag(messages));
+	}
+
+	/**
+	 * Merge all {@link MessageBag} into this single instance. The last parameter supplied to {@code messages}
+	 * will be used and will overwrite all messages before it if same key and rule.
+	 *
+	 * @param messages An instance of {@link MessageBag} containing all the messages that will be
+	 *                 merged with this {@code MessageBag}.
+	 *
+	 * @return MessageBag This instance of {@code MessageBag}.
+	 */
+	public MessageBag merge(MessageBag... messages) {
+		return this.merge(Arrays.asList(messages));
+	}
+
+	/**
+	 * Merge all {@link MessageBag} into this single instance, such as the bags of several workers.
+	 * The time taken grows linearly with the number of messages merged, and none of them is rendered.
+	 *
+	 * @param messages The message bags to merge, in order.
+	 *
+	 * @return MessageBag This instance of {@code MessageBag}.
+	 *
+	 * @see #merge(MessageBag...)
+	 */
+	public MessageBag merge(Iterable<MessageBag> messages) {
+		for (MessageBag m : messages) {
+			if (m == this)
+				continue;
+
+			// Copies the other bag first, so that two bags never hold each other's lock.
+			List<Map.Entry<String, Map<String, Object>>> entries = m.snapshot();
+
+			synchronized (this) {
+				for (Map.Entry<String, Map<String, Object>> entry : entries)
+					this.messages.computeIfAbsent(entry.getKey(), (String key) -> new LinkedHashMap<String, Object>())
+							.putAll(entry.getValue());
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Fetches the first message within the given {@code key}. If no such {@code key} is present, a
+	 * empty string will be returned. Likewise, if a {@code key} is present but has no existing values,
+	 * an empty string will also be returned.
+	 *
+	 * @param key Key identifier of the message.
+	 *
+	 * @return String the very first message in the list of the given key.
+	 */
+	public String first(String key) {
+		Object message;
+
+		synchronized (this) {
+			Map<String, Object> keyMessages = this.messages.get(key);
+
+			if (keyMessages == null || keyMessages.isEmpty())
+				return "";
+
+			message = keyMessages.values().iterator().next();
+		}
+
+		return MessageBag.render(message);
+	}
+
+	/**
+	 * Fetches the message at the given position within the given {@code key}.
+	 *
+	 * @param key Key identifier of the message.
+	 * @param index The position of the message, in the order they were added.
+	 *
+	 * @return String The message, or an empty string if no such {@code key} is present.
+	 *
+	 * @throws IndexOutOfBoundsException When the key has no message at the given position.
+	 */
+	public String get(String key, int index) {
+		Object message;
+
+		synchronized (this) {
+			Map<String, Object> keyMessages = this.messages.get(key);
+
+			if (keyMessages == null)
+				return "";
+
+			if (index < 0 || index >= keyMessages.size())
+				throw new IndexOutOfBoundsException("Provided index is greater than the number of messages present.");
+
+			Iterator<Object> iterator = keyMessages.values().iterator();
+			for (int i = 0; i < index; i++)
+				iterator.next();
+
+			message = iterator.next();
+		}
+
+		return MessageBag.render(message);
+	}
+
+	/**
+	 * Fetches a list of messages based on the provided key.
+	 *
+	 * @param key The key used to fetch the messages.
+	 *
+	 * @return Map<String, String> A copy of the messages keyed by their rule, in the order they were
+	 * added, or {@code null} if no such {@code key} is present.
+	 */
+	public Map<String, String> get(String key) {
+		Map<String, Object> keyMessages;
+
+		synchronized (this) {
+			keyMessages = this.messages.get(key);
+
+			if (keyMessages == null)
+				return null;
+
+			keyMessages = new LinkedHashMap<String, Object>(keyMessages);
+		}
+
+		return MessageBag.render(keyMessages);
+	}
+
+	/**
+	 * Fetches the message of a rule within the given {@code key}.
+	 *
+	 * @param key Key identifier of the message.
+	 * @param subkey The rule of the message.
+	 *
+	 * @return String The message, or an empty string if there's no such message.
+	 */
+	public String get(String key, String subkey) {
+		Object message;
+
+		synchronized (this) {
+			Map<String, Object> keyMessages = this.messages.get(key);
+			message = keyMessages == null ? null : keyMessages.get(subkey);
+		}
+
+		return message == null ? "" : MessageBag.render(message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return
+	 */
+	@Override
+	public String toString() {
+		StringBuilder toRet = new StringBuilder("{");
+
+		for (Map.Entry<String, Map<String, Object>> entry : this.snapshot()) {
+			if (toRet.length() > 1)
+				toRet.append(", ");
+
+			toRet.append(String.format("%1$s: \"%2$s\"", entry.getKey(), MessageBag.render(entry.getValue())));
+		}
+
+		return toRet.append('}').toString();
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * Fetches and clone the message's raw form (a {@link HashMap}).
+	 *
+	 * @return HashMap<String, ArrayList<String>> A clone of the original map used by the
+	 * {@link #messages} variable, with every message rendered.
+	 */
+	protected HashMap<String, Map<String, String>> get() {
+		HashMap<String, Map<String, String>> messages = new LinkedHashMap<String, Map<String, String>>();
+
+		for (Map.Entry<String, Map<String, Object>> entry : this.snapshot())
+			messages.put(entry.getKey(), MessageBag.render(entry.getValue()));
+
+		return messages;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Adds a new message, as a {@code String} or a {@link Supplier}, to the array of messages from a
+	 * key, where the key is in the form of {@code key.Rule}.
+	 */
+	private MessageBag put(String key, Object message) {
+		int separator = key.lastIndexOf('.');
+
+		if (separator < 0)
+			throw new IllegalArgumentException(MessageFormat.format("The key \"{0}\" must be in the form of key.Rule.", key));
+
+		String rule = key.substring(separator + 1);
+		key = key.substring(0, separator);
+
+		synchronized (this) {
+			Map<String, Object> currentMessages = this.messages.computeIfAbsent(key, (String k) -> new LinkedHashMap<String, Object>());
+			Object current = currentMessages.get(rule);
+
+			// Checks if the rule exists or if it is empty. If one of those was true, the message will be placed.
+			if (current == null || (current instanceof String && ((String) current).isEmpty()))
+				currentMessages.put(rule, message);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Copies the keys and their messages, without rendering them.
+	 */
+	private synchronized List<Map.Entry<String, Map<String, Object>>> snapshot() {
+		List<Map.Entry<String, Map<String, Object>>> entries = new ArrayList<Map.Entry<String, Map<String, Object>>>(this.messages.size());
+
+		for (Map.Entry<String, Map<String, Object>> entry : this.messages.entrySet())
+			entries.add(new AbstractMap.SimpleImmutableEntry<String, Map<String, Object>>(entry.getKey(), new LinkedHashMap<String, Object>(entry.getValue())));
+
+		return entries;
+	}
+
+	/**
+	 * Renders a single message.
+	 */
+	@SuppressWarnings("unchecked")
+	private static String render(Object message) {
+		if (message instanceof Supplier)
+			return ((Supplier<String>) message).get();
+
+		return (String) message;
+	}
+
+	/**
+	 * Renders all the messages of a key, keeping their order.
+	 */
+	private static Map<String, String> render(Map<String, Object> keyMessages) {
+		Map<String, String> rendered = new LinkedHashMap<String, String>();
+		keyMessages.forEach((String rule, Object message) -> rendered.put(rule, MessageBag.render(message)));
+
+		return rendered;
+	}
+}
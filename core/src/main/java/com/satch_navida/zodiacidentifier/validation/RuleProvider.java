@@ -0,0 +1,21 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+/**
+ * Provides rules of its own to the {@link RuleRegistry}, such that they can be used by name in the
+ * rule strings of a {@link ValidationSchema}, like the built-in rules are.<br>
+ * <br>
+ * Providers are found with a {@link java.util.ServiceLoader}: a provider is registered by listing
+ * its class name in a {@code META-INF/services/com.satch_navida.zodiacidentifier.validation.RuleProvider}
+ * resource, and must have a public constructor without parameters.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface RuleProvider {
+	/**
+	 * Registers the rules of this provider.
+	 *
+	 * @param registry The registry being built.
+	 */
+	void registerRules(RuleRegistry.Builder registry);
+}
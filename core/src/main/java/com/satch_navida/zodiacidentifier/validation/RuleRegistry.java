@@ -0,0 +1,247 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.After;
+import com.satch_navida.zodiacidentifier.validation.rules.Before;
+import com.satch_navida.zodiacidentifier.validation.rules.Between;
+import com.satch_navida.zodiacidentifier.validation.rules.Date;
+import com.satch_navida.zodiacidentifier.validation.rules.Max;
+import com.satch_navida.zodiacidentifier.validation.rules.Min;
+import com.satch_navida.zodiacidentifier.validation.rules.Numeric;
+import com.satch_navida.zodiacidentifier.validation.rules.Required;
+import com.satch_navida.zodiacidentifier.validation.rules.RequiredIf;
+import com.satch_navida.zodiacidentifier.validation.rules.Rule;
+import com.satch_navida.zodiacidentifier.validation.rules.Sometimes;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * The rules that can be used by name in the rule strings of a {@link ValidationSchema}, such as
+ * {@code "Date"} in {@code "Date:MM/dd/yyyy"}.<br>
+ * <br>
+ * A registry is built once, and each of its rules is created once, when it is built. Rules being
+ * stateless, a single instance of each is shared by every schema compiled with the registry, and
+ * looking up a rule by its name is a single hash lookup.<br>
+ * <br>
+ * The {@link #defaults() default registry} holds the built-in rules along with the rules of every
+ * {@link RuleProvider} found on the class path.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class RuleRegistry {
+	// PRIVATE VARIABLES
+	/**
+	 * The default registry, set by the first call to {@link #defaults()} that succeeds. It is built
+	 * outside of a class initializer, so a failure reaches every caller as it is, rather than as an
+	 * {@link ExceptionInInitializerError} the first time and a {@link NoClassDefFoundError} after.
+	 */
+	private static volatile RuleRegistry defaultRegistry;
+
+	private final Map<String, Rule> rules;
+
+	// CONSTRUCTORS
+	private RuleRegistry(Map<String, Rule> rules) {
+		this.rules = rules;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the registry of the built-in rules and of every {@link RuleProvider} found on the class
+	 * path, built the first time it is needed.
+	 *
+	 * @return RuleRegistry The default registry.
+	 *
+	 * @throws IllegalArgumentException When two rules share the same name, on every call.
+	 */
+	public static RuleRegistry defaults() {
+		RuleRegistry registry = RuleRegistry.defaultRegistry;
+
+		if (registry == null) {
+			synchronized (RuleRegistry.class) {
+				registry = RuleRegistry.defaultRegistry;
+
+				if (registry == null) {
+					registry = RuleRegistry.builder()
+						.registerBuiltIns()
+						.registerProviders(RuleRegistry.class.getClassLoader())
+						.build();
+
+					RuleRegistry.defaultRegistry = registry;
+				}
+			}
+		}
+
+		return registry;
+	}
+
+	/**
+	 * Starts building a registry, which is empty until rules are registered.
+	 *
+	 * @return Builder An empty builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Fetches the rule registered under the given name.
+	 *
+	 * @param name The name of the rule, such as {@code "Date"}.
+	 *
+	 * @return Rule The shared instance of the rule, or {@code null} if there's no such rule.
+	 */
+	public Rule get(String name) {
+		return this.rules.get(name);
+	}
+
+	/**
+	 * @return Set<String> The names of every registered rule, sorted.
+	 */
+	public Set<String> names() {
+		return Collections.unmodifiableSet(new TreeSet<String>(this.rules.keySet()));
+	}
+
+	/**
+	 * Finds the registered name closest to the given unknown name, such as to suggest a fix for a
+	 * misspelled rule.
+	 *
+	 * @param name The unknown name.
+	 *
+	 * @return String The closest name, or {@code null} if none is close enough.
+	 */
+	public String closestName(String name) {
+		String closest = null;
+		int best = Math.max(1, name.length() / 3) + 1;
+
+		for (String candidate : this.rules.keySet()) {
+			int distance = RuleRegistry.distance(name.toLowerCase(), candidate.toLowerCase());
+
+			if (distance < best || (distance == best && closest != null && candidate.compareTo(closest) < 0)) {
+				best = distance;
+				closest = candidate;
+			}
+		}
+
+		return closest;
+	}
+
+	@Override
+	public String toString() {
+		return this.names().toString();
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Computes the number of single character edits between two names.
+	 */
+	private static int distance(String a, String b) {
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+
+		for (int j = 0; j <= b.length(); j++)
+			previous[j] = j;
+
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+
+			for (int j = 1; j <= b.length(); j++) {
+				int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+				current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+			}
+
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+
+		return previous[b.length()];
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Builds a registry out of rule factories.
+	 */
+	public static final class Builder {
+		private final Map<String, Supplier<? extends Rule>> factories = new HashMap<String, Supplier<? extends Rule>>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Registers a rule.
+		 *
+		 * @param name The name of the rule, as used in the rule strings.
+		 * @param factory Creates the shared instance of the rule, once the registry is built.
+		 *
+		 * @return Builder This builder.
+		 *
+		 * @throws IllegalArgumentException When the name is invalid or already registered.
+		 */
+		public Builder register(String name, Supplier<? extends Rule> factory) {
+			if (name == null || name.isEmpty() || name.indexOf(':') >= 0 || name.indexOf('|') >= 0 || name.equals(ValidationSchema.BAIL))
+				throw new IllegalArgumentException(MessageFormat.format("Invalid rule name \"{0}\".", name));
+
+			if (this.factories.putIfAbsent(name, factory) != null)
+				throw new IllegalArgumentException(MessageFormat.format("The rule \"{0}\" is already registered.", name));
+
+			return this;
+		}
+
+		/**
+		 * Registers every built-in rule.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder registerBuiltIns() {
+			return this
+				.register("After", After::new)
+				.register("Before", Before::new)
+				.register("Between", Between::new)
+				.register("Boolean", com.satch_navida.zodiacidentifier.validation.rules.Boolean::new)
+				.register("Date", Date::new)
+				.register("Max", Max::new)
+				.register("Min", Min::new)
+				.register("Nullable", com.satch_navida.zodiacidentifier.validation.rules.Nullable::new)
+				.register("Numeric", Numeric::new)
+				.register("Required", Required::new)
+				.register("RequiredIf", RequiredIf::new)
+				.register("Sometimes", Sometimes::new);
+		}
+
+		/**
+		 * Registers the rules of every {@link RuleProvider} found by the given class loader.
+		 *
+		 * @param loader The class loader to look for providers with.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder registerProviders(ClassLoader loader) {
+			for (RuleProvider provider : ServiceLoader.load(RuleProvider.class, loader))
+				provider.registerRules(this);
+
+			return this;
+		}
+
+		/**
+		 * Creates every registered rule.
+		 *
+		 * @return RuleRegistry The registry.
+		 */
+		public RuleRegistry build() {
+			Map<String, Rule> rules = new HashMap<String, Rule>(this.factories.size() * 2);
+			this.factories.forEach((String name, Supplier<? extends Rule> factory) -> rules.put(name, factory.get()));
+
+			return new RuleRegistry(rules);
+		}
+	}
+}
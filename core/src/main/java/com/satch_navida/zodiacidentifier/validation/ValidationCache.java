@@ -0,0 +1,285 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.Rule;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of validation outcomes, keyed by the rules of a field and the value they were run
+ * against. Real data repeats itself a lot (there are only so many birthdates), so a field whose
+ * value was already seen doesn't need to run its rules again.<br>
+ * <br>
+ * Only fields whose rules are all {@link Rule#isPure() pure} are cached, and only for values that
+ * can't change, such as strings, numbers, and booleans.<br>
+ * <br>
+ * Fetching an outcome never locks, so that a cache can be shared by several threads. Once full,
+ * adding an outcome evicts one that wasn't used since the last eviction went past it (the "clock"
+ * approximation of evicting the least recently used one).<br>
+ * <br>
+ * A cache is used by creating a copy of a schema with {@link ValidationSchema#withCache(ValidationCache)}.
+ * A single cache may be shared by several schemas.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationCache {
+	// PUBLIC VARIABLES
+	/**
+	 * The number of outcomes kept by default; more than the number of dates in a century.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+	// PRIVATE VARIABLES
+	private final ConcurrentHashMap<Key, Entry> entries;
+
+	/**
+	 * The keys of the entries in the order they were added, which the clock hand goes around when
+	 * evicting. Guarded by itself, along with {@link #count} and {@link #hand}.
+	 */
+	private final Key[] ring;
+	private int count;
+	private int hand;
+
+	private final int maxEntries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates a cache keeping up to {@value #DEFAULT_MAX_ENTRIES} outcomes.
+	 */
+	public ValidationCache() {
+		this(ValidationCache.DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Creates a cache keeping up to the given number of outcomes.
+	 *
+	 * @param maxEntries The number of outcomes to keep.
+	 *
+	 * @throws IllegalArgumentException When the number of outcomes is not positive.
+	 */
+	public ValidationCache(int maxEntries) {
+		if (maxEntries < 1)
+			throw new IllegalArgumentException("The cache must keep at least one outcome.");
+
+		this.maxEntries = maxEntries;
+		this.entries = new ConcurrentHashMap<Key, Entry>(Math.min(maxEntries, 1 << 12));
+		this.ring = new Key[maxEntries];
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return long The number of times the rules of a field didn't have to be run.
+	 */
+	public long hits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return long The number of times the rules of a cacheable field had to be run.
+	 */
+	public long misses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return long The number of outcomes dropped to make room for newer ones.
+	 */
+	public long evictions() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * @return double The share of lookups that were hits, from {@code 0} to {@code 1}.
+	 */
+	public double hitRate() {
+		long hits = this.hits();
+		long total = hits + this.misses();
+
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * @return int The number of outcomes currently kept.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * @return int The maximum number of outcomes kept.
+	 */
+	public int maxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Drops every outcome and resets the counts.
+	 */
+	public void clear() {
+		synchronized (this.ring) {
+			this.entries.clear();
+			Arrays.fill(this.ring, null);
+			this.count = 0;
+			this.hand = 0;
+		}
+
+		this.hits.reset();
+		this.misses.reset();
+		this.evictions.reset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"%1$d hits, %2$d misses (%3$.1f%% hit rate), %4$d/%5$d entries, %6$d evictions",
+				this.hits(),
+				this.misses(),
+				this.hitRate() * 100,
+				this.size(),
+				this.maxEntries,
+				this.evictions()
+		);
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Identifies whether the outcomes of the given value may be cached, which is only the case for
+	 * values that can't change once validated.
+	 *
+	 * @param value The value in question.
+	 *
+	 * @return boolean Returns {@code true} if the value can be cached.
+	 */
+	static boolean isCacheable(Object value) {
+		return value == null
+				|| value instanceof String
+				|| value instanceof Long
+				|| value instanceof Integer
+				|| value instanceof Double
+				|| value instanceof Boolean
+				|| value instanceof Short
+				|| value instanceof Byte
+				|| value instanceof Float
+				|| value instanceof Character;
+	}
+
+	/**
+	 * Fetches the outcomes of the given rules for the given value, counting a hit or a miss.
+	 *
+	 * @param rules The rules of the field, as compiled by their schema.
+	 * @param value The value the rules were run against.
+	 *
+	 * @return RuleResult[] The outcome of each rule that ran, in order, or {@code null} if there's none.
+	 */
+	RuleResult[] get(ValidationSchema.CompiledRule[] rules, Object value) {
+		Entry entry = this.entries.get(new Key(rules, value));
+
+		if (entry == null) {
+			this.misses.increment();
+			return null;
+		}
+
+		// Spares the entry from the next time the clock hand goes past it.
+		if (!entry.used)
+			entry.used = true;
+
+		this.hits.increment();
+		return entry.outcomes;
+	}
+
+	/**
+	 * Keeps the outcomes of the given rules for the given value.
+	 *
+	 * @param rules The rules of the field, as compiled by their schema.
+	 * @param value The value the rules were run against.
+	 * @param outcomes The outcome of each rule that ran, in order.
+	 */
+	void put(ValidationSchema.CompiledRule[] rules, Object value, RuleResult[] outcomes) {
+		Key key = new Key(rules, value);
+
+		synchronized (this.ring) {
+			// Another thread may have run the same rules against the same value meanwhile.
+			if (this.entries.containsKey(key))
+				return;
+
+			if (this.count < this.ring.length) {
+				this.ring[this.count++] = key;
+			}
+			else {
+				// Goes around the ring, sparing once every entry used since the hand last went past it.
+				while (true) {
+					Entry entry = this.entries.get(this.ring[this.hand]);
+
+					if (!entry.used)
+						break;
+
+					entry.used = false;
+					this.hand = (this.hand + 1) % this.ring.length;
+				}
+
+				this.entries.remove(this.ring[this.hand]);
+				this.ring[this.hand] = key;
+				this.hand = (this.hand + 1) % this.ring.length;
+				this.evictions.increment();
+			}
+
+			this.entries.put(key, new Entry(outcomes));
+		}
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The rules of a field, by identity, and the value they were run against.
+	 */
+	private static final class Key {
+		private final ValidationSchema.CompiledRule[] rules;
+		private final Object value;
+		private final int hash;
+
+		private Key(ValidationSchema.CompiledRule[] rules, Object value) {
+			this.rules = rules;
+			this.value = value;
+			this.hash = 31 * System.identityHashCode(rules) + Objects.hashCode(value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key))
+				return false;
+
+			Key other = (Key) o;
+			return this.rules == other.rules && Objects.equals(this.value, other.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+
+	/**
+	 * The outcomes of a value, and whether they were used since the clock hand last went past them.
+	 */
+	private static final class Entry {
+		private final RuleResult[] outcomes;
+		private volatile boolean used;
+
+		private Entry(RuleResult[] outcomes) {
+			this.outcomes = outcomes;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+/**
+ * Observes the validations of a schema, rule by rule and field by field, such as to measure where
+ * the validation time goes. A listener is registered by creating a copy of a schema with
+ * {@link ValidationSchema#withListener(ValidationListener)}; schemas without a listener don't
+ * measure anything.<br>
+ * <br>
+ * A listener is called from every thread validating with its schema, and must thus be thread-safe.
+ * Every method does nothing by default. {@link ValidationMetrics} keeps everything in memory.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface ValidationListener {
+	/**
+	 * Called after a rule ran.
+	 *
+	 * @param field The name of the field.
+	 * @param rule The name of the rule, such as {@code "Date"}.
+	 * @param passed Whether the value passed the rule.
+	 * @param nanos The time the rule took, in nanoseconds.
+	 */
+	default void ruleValidated(String field, String rule, boolean passed, long nanos) {
+	}
+
+	/**
+	 * Called after the rules of a field ran, or their outcomes were fetched from the cache.
+	 *
+	 * @param field The name of the field.
+	 * @param passed Whether the value passed every rule that ran.
+	 * @param nanos The time the field took, in nanoseconds.
+	 */
+	default void fieldValidated(String field, boolean passed, long nanos) {
+	}
+
+	/**
+	 * Called when the outcomes of a field were looked up in the {@link ValidationCache}.
+	 *
+	 * @param field The name of the field.
+	 * @param hit Whether the outcomes were found, and thus its rules didn't run.
+	 */
+	default void cacheLookup(String field, boolean hit) {
+	}
+
+	/**
+	 * Called when some rules of a field were not run.
+	 *
+	 * @param field The name of the field.
+	 * @param rules The number of rules that were not run.
+	 * @param reason Why they were not run.
+	 */
+	default void rulesSkipped(String field, int rules, Skip reason) {
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The reasons for not running the remaining rules of a field.
+	 */
+	enum Skip {
+		/**
+		 * A rule failed, and the field has the {@value ValidationSchema#BAIL} rule.
+		 */
+		BAIL,
+		/**
+		 * A rule, such as {@code Nullable}, asked not to run the others.
+		 */
+		RULE,
+		/**
+		 * A rule failed, and the schema stops on the first failure.
+		 */
+		STOP,
+		/**
+		 * A field the rules read, such as the other date of {@code Before}, failed. None of the rules
+		 * of the field were run.
+		 */
+		INPUT
+	}
+}
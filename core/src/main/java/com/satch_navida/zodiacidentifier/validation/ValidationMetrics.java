@@ -0,0 +1,290 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ValidationListener} keeping everything it is told in memory: the pass and fail counts
+ * and a latency histogram of every rule and field, the cache hits and misses of every field, and
+ * the number of rules skipped for each reason. It can be read at any time, including while
+ * validations are still running, and dumped as text with {@link #toString()}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationMetrics implements ValidationListener {
+	// PRIVATE VARIABLES
+	/**
+	 * The statistics of each rule, keyed by {@code field.Rule}.
+	 */
+	private final Map<String, Stats> rules = new ConcurrentHashMap<String, Stats>();
+	private final Map<String, Stats> fields = new ConcurrentHashMap<String, Stats>();
+	private final Map<ValidationListener.Skip, LongAdder> skipped = new EnumMap<ValidationListener.Skip, LongAdder>(ValidationListener.Skip.class);
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an empty instance of {@link ValidationMetrics}.
+	 */
+	public ValidationMetrics() {
+		for (ValidationListener.Skip reason : ValidationListener.Skip.values())
+			this.skipped.put(reason, new LongAdder());
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void ruleValidated(String field, String rule, boolean passed, long nanos) {
+		this.rules.computeIfAbsent(field + "." + rule, (String key) -> new Stats()).record(passed, nanos);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void fieldValidated(String field, boolean passed, long nanos) {
+		this.fields.computeIfAbsent(field, (String key) -> new Stats()).record(passed, nanos);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void cacheLookup(String field, boolean hit) {
+		Stats stats = this.fields.computeIfAbsent(field, (String key) -> new Stats());
+		(hit ? stats.cacheHits : stats.cacheMisses).increment();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void rulesSkipped(String field, int rules, ValidationListener.Skip reason) {
+		this.skipped.get(reason).add(rules);
+	}
+
+	/**
+	 * Fetches the statistics of a rule of a field.
+	 *
+	 * @param key The rule, in the form of {@code field.Rule}.
+	 *
+	 * @return Stats The statistics of the rule, or {@code null} if it never ran.
+	 */
+	public Stats rule(String key) {
+		return this.rules.get(key);
+	}
+
+	/**
+	 * Fetches the statistics of a field.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return Stats The statistics of the field, or {@code null} if it was never validated.
+	 */
+	public Stats field(String field) {
+		return this.fields.get(field);
+	}
+
+	/**
+	 * @return long The number of rules that were not run for the given reason.
+	 */
+	public long skipped(ValidationListener.Skip reason) {
+		return this.skipped.get(reason).sum();
+	}
+
+	/**
+	 * Dumps every statistic, one rule or field per line, sorted by name.
+	 *
+	 * @return String The statistics, as text.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder dump = new StringBuilder();
+
+		ValidationMetrics.dump(dump, "field", this.fields);
+		ValidationMetrics.dump(dump, "rule", this.rules);
+
+		dump.append("skipped");
+		for (Map.Entry<ValidationListener.Skip, LongAdder> entry : this.skipped.entrySet())
+			dump.append(' ').append(entry.getKey().name().toLowerCase()).append('=').append(entry.getValue().sum());
+
+		return dump.toString();
+	}
+
+	// PRIVATE METHODS
+	private static void dump(StringBuilder dump, String kind, Map<String, Stats> stats) {
+		List<String> keys = new ArrayList<String>(stats.keySet());
+		Collections.sort(keys);
+
+		for (String key : keys)
+			dump.append(kind).append(' ').append(key).append(": ").append(stats.get(key)).append('\n');
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The counts and latencies of a single rule or field.
+	 */
+	public static final class Stats {
+		private final LongAdder passed = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+		private final LongAdder cacheHits = new LongAdder();
+		private final LongAdder cacheMisses = new LongAdder();
+		private final Histogram latency = new Histogram();
+
+		private Stats() {
+		}
+
+		/**
+		 * @return long The number of values that passed.
+		 */
+		public long passed() {
+			return this.passed.sum();
+		}
+
+		/**
+		 * @return long The number of values that failed.
+		 */
+		public long failed() {
+			return this.failed.sum();
+		}
+
+		/**
+		 * @return long The number of values whose outcomes were found in the cache. Always {@code 0} for rules.
+		 */
+		public long cacheHits() {
+			return this.cacheHits.sum();
+		}
+
+		/**
+		 * @return long The number of values whose outcomes were not in the cache. Always {@code 0} for rules.
+		 */
+		public long cacheMisses() {
+			return this.cacheMisses.sum();
+		}
+
+		/**
+		 * @return Histogram The time taken by each value, in nanoseconds.
+		 */
+		public Histogram latency() {
+			return this.latency;
+		}
+
+		@Override
+		public String toString() {
+			String stats = String.format("%1$d passed, %2$d failed, latency %3$s", this.passed(), this.failed(), this.latency);
+			long lookups = this.cacheHits() + this.cacheMisses();
+
+			return lookups == 0 ? stats : String.format("%1$s, cache %2$d/%3$d hits", stats, this.cacheHits(), lookups);
+		}
+
+		private void record(boolean passed, long nanos) {
+			(passed ? this.passed : this.failed).increment();
+			this.latency.record(nanos);
+		}
+	}
+
+	/**
+	 * A histogram of durations in nanoseconds, counted in buckets whose bounds are powers of two. A
+	 * percentile is thus only known to within a factor of two, which is plenty to tell a slow rule
+	 * from a fast one, while recording stays a couple of atomic additions.
+	 */
+	public static final class Histogram {
+		/**
+		 * The number of durations of each bucket. The bucket {@code i} counts the durations from
+		 * {@code 2^(i-1)} up to {@code 2^i - 1} nanoseconds, with the bucket {@code 0} counting zeros.
+		 */
+		private final AtomicLongArray buckets = new AtomicLongArray(64);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+		private Histogram() {
+		}
+
+		/**
+		 * @return long The number of durations recorded.
+		 */
+		public long count() {
+			return this.count.sum();
+		}
+
+		/**
+		 * @return long The sum of every duration, in nanoseconds.
+		 */
+		public long total() {
+			return this.total.sum();
+		}
+
+		/**
+		 * @return long The longest duration, in nanoseconds.
+		 */
+		public long max() {
+			return this.max.get();
+		}
+
+		/**
+		 * @return double The average duration, in nanoseconds.
+		 */
+		public double mean() {
+			long count = this.count();
+			return count == 0 ? 0 : (double) this.total() / count;
+		}
+
+		/**
+		 * Estimates the duration under which the given share of the durations fall.
+		 *
+		 * @param percentile The share of the durations, from {@code 0} to {@code 100}.
+		 *
+		 * @return long The upper bound of the bucket holding the percentile, in nanoseconds, but no
+		 * more than {@link #max()}.
+		 */
+		public long percentile(double percentile) {
+			long count = this.count();
+			if (count == 0)
+				return 0;
+
+			long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+			long seen = 0;
+
+			for (int i = 0; i < 64; i++) {
+				seen += this.buckets.get(i);
+
+				if (seen >= rank)
+					return Math.min(i == 0 ? 0 : (1L << i) - 1, this.max());
+			}
+
+			return this.max();
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+					"mean %1$.0f ns, p50 %2$d ns, p99 %3$d ns, max %4$d ns",
+					this.mean(),
+					this.percentile(50),
+					this.percentile(99),
+					this.max()
+			);
+		}
+
+		private void record(long nanos) {
+			nanos = Math.max(0, nanos);
+
+			this.buckets.incrementAndGet(Math.min(63, 64 - Long.numberOfLeadingZeros(nanos)));
+			this.count.increment();
+			this.total.add(nanos);
+			this.max.accumulate(nanos);
+		}
+	}
+}
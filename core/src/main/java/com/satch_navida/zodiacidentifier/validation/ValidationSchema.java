@@ -0,0 +1,1190 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.MessageTemplate;
+import com.satch_navida.zodiacidentifier.validation.rules.Rule;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleContext;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A compiled set of validation rules. The rule strings (such as {@code "Date:MM/dd/yyyy"}) are parsed
+ * only once, when the schema is compiled, into a plan of shared {@link Rule} instances, pre-split
+ * validator values, and message templates. A {@link Validator} built from a schema runs the rules
+ * without any reflection nor string splitting.<br>
+ * <br>
+ * Schemas are immutable, and thus can be reused across any number of validations and threads.<br>
+ * <br>
+ * By default, every rule of every field is run. Two modes allow skipping the rules whose outcome no
+ * longer matters:
+ * <ul>
+ *     <li>Adding {@value #BAIL} to the rules of a field stops running the rules of that field after
+ *     its first failure, such as not parsing a date that already failed {@code Required}.</li>
+ *     <li>{@link #stopOnFirstFailure()} stops the whole validation at the first failure of any
+ *     field, leaving the remaining fields unvalidated.</li>
+ * </ul>
+ * A field may also be the path of values nested in lists, arrays and maps, such as
+ * {@code people.*.birth_date}, wherein {@code *} matches every value of a container. The path is
+ * compiled once, and every value it matches is validated against the same compiled rules, its
+ * messages being keyed by its own path, such as {@code people.0.birth_date}.<br>
+ * <br>
+ * Some rules, such as {@code "Before:signup_date:MM/dd/yyyy"}, read the values of other fields. The
+ * fields they read are validated first, and the rules of the field are only run once those passed;
+ * a field whose inputs failed is neither valid nor invalid. Rules reading each other's fields in a
+ * cycle are rejected when the schema is compiled.<br>
+ * <br>
+ * A copy of a schema {@link #withCache(ValidationCache) with a cache} reuses the outcomes of the
+ * fields whose rules are all pure, for values it already validated. A copy
+ * {@link #withListener(ValidationListener) with a listener} reports how the validations went. A copy
+ * {@link #withPool(ForkJoinPool) with a pool} validates the fields that don't depend on each other in
+ * parallel.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ValidationSchema {
+	// PUBLIC VARIABLES
+	/**
+	 * The name of the pseudo-rule that stops running the rules of a field after its first failure.
+	 * It may appear anywhere among the rules of the field.
+	 */
+	public static final String BAIL = "Bail";
+
+	/**
+	 * The least number of fields that must be ready to validate at once for a schema
+	 * {@link #withPool(ForkJoinPool) with a pool} to validate them in parallel. Fewer fields are
+	 * validated faster in the calling thread than by handing them over to the pool.
+	 */
+	public static final int MIN_PARALLEL_FIELDS = 8;
+
+	// PRIVATE VARIABLES
+	private static final String[] NOTHING_BOUND = new String[0];
+
+	/**
+	 * The compiled rules of each field, in the order they were given.
+	 */
+	private final Map<String, CompiledRule[]> plan;
+
+	/**
+	 * The field names, indexed by {@link CompiledRule#fieldIndex}.
+	 */
+	private final String[] fieldNames;
+
+	/**
+	 * All the compiled rules, indexed by {@link CompiledRule#index}.
+	 */
+	private final CompiledRule[] rules;
+
+	/**
+	 * Whether each field stops at its first failure, indexed by {@link CompiledRule#fieldIndex}.
+	 */
+	private final boolean[] bail;
+
+	/**
+	 * Whether the whole validation stops at the first failure.
+	 */
+	private final boolean stopOnFirstFailure;
+
+	/**
+	 * Whether the outcomes of each field can be cached, indexed by {@link CompiledRule#fieldIndex}.
+	 */
+	private final boolean[] pure;
+
+	/**
+	 * The fields read by the rules of each field, which must pass first, indexed by
+	 * {@link CompiledRule#fieldIndex}. Only the fields with rules are listed.
+	 */
+	private final int[][] inputs;
+
+	/**
+	 * The fields, grouped such that the fields of a group only read the fields of the groups before
+	 * it. Every group is in the order the fields were given.
+	 */
+	private final int[][] levels;
+
+	/**
+	 * Whether any rule reads the values of other fields.
+	 */
+	private final boolean readsOtherFields;
+
+	/**
+	 * The compiled path of each nested field, or {@code null} for the plain fields, indexed by
+	 * {@link CompiledRule#fieldIndex}.
+	 */
+	private final FieldPath[] paths;
+
+	/**
+	 * The compiled paths of the nested fields, and of the fields read by the rules, by name.
+	 */
+	private final Map<String, FieldPath> pathsByName;
+
+	/**
+	 * Whether any field is nested.
+	 */
+	private final boolean nested;
+
+	/**
+	 * The cache of outcomes, or {@code null} if none is used.
+	 */
+	private final ValidationCache cache;
+
+	/**
+	 * Observes the validations, or {@code null} if none does.
+	 */
+	private final ValidationListener listener;
+
+	/**
+	 * Validates the independent fields in parallel, or {@code null} to validate every field in the
+	 * calling thread.
+	 */
+	private final ForkJoinPool pool;
+
+	// CONSTRUCTORS
+	private ValidationSchema(Map<String, CompiledRule[]> plan, List<CompiledRule> rules, boolean[] bail) {
+		this.plan = Collections.unmodifiableMap(plan);
+		this.fieldNames = plan.keySet().toArray(new String[0]);
+		this.rules = rules.toArray(new CompiledRule[0]);
+		this.bail = bail;
+		this.stopOnFirstFailure = false;
+		this.pure = new boolean[this.fieldNames.length];
+		this.cache = null;
+		this.listener = null;
+		this.pool = null;
+		this.inputs = new int[this.fieldNames.length][];
+		this.paths = new FieldPath[this.fieldNames.length];
+
+		boolean readsOtherFields = false;
+		boolean nested = false;
+		Map<String, Integer> indexes = new HashMap<String, Integer>();
+		Map<String, FieldPath> pathsByName = new HashMap<String, FieldPath>();
+
+		for (int i = 0; i < this.fieldNames.length; i++) {
+			FieldPath path = FieldPath.compile(this.fieldNames[i]);
+
+			if (path.isNested()) {
+				this.paths[i] = path;
+				pathsByName.put(this.fieldNames[i], path);
+				nested = true;
+			}
+
+			indexes.put(this.fieldNames[i], i);
+		}
+
+		for (int i = 0; i < this.fieldNames.length; i++) {
+			Set<Integer> fieldInputs = new LinkedHashSet<Integer>();
+
+			// The outcomes of nested values are rendered with their paths, thus can't be shared.
+			this.pure[i] = this.paths[i] == null;
+
+			for (CompiledRule rule : this.plan.get(this.fieldNames[i])) {
+				this.pure[i] &= rule.rule.isPure();
+				readsOtherFields |= rule.readsOtherFields;
+
+				for (String input : rule.rule.dependsOn(rule.validatorValues)) {
+					Integer index = indexes.get(input);
+					pathsByName.computeIfAbsent(input, FieldPath::compile);
+
+					if (index != null && index != i)
+						fieldInputs.add(index);
+				}
+			}
+
+			this.inputs[i] = fieldInputs.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		this.readsOtherFields = readsOtherFields;
+		this.nested = nested;
+		this.pathsByName = pathsByName;
+		this.levels = this.computeLevels();
+	}
+
+	private ValidationSchema(ValidationSchema schema, boolean stopOnFirstFailure, ValidationCache cache, ValidationListener listener, ForkJoinPool pool) {
+		this.plan = schema.plan;
+		this.fieldNames = schema.fieldNames;
+		this.rules = schema.rules;
+		this.bail = schema.bail;
+		this.stopOnFirstFailure = stopOnFirstFailure;
+		this.pure = schema.pure;
+		this.inputs = schema.inputs;
+		this.levels = schema.levels;
+		this.readsOtherFields = schema.readsOtherFields;
+		this.paths = schema.paths;
+		this.pathsByName = schema.pathsByName;
+		this.nested = schema.nested;
+		this.cache = cache;
+		this.listener = listener;
+		this.pool = pool;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Compiles the given rules and messages into a schema.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules. A rule
+	 *                 must be one of the rules of the {@link RuleRegistry#defaults() default registry}.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages,
+	 *                 keyed by {@code field.Rule}. May be {@code null}.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 *
+	 * @throws IllegalArgumentException When one of the rules does not exist, or has invalid parameters.
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules, Map<String, String> messages) {
+		return ValidationSchema.compile(rules, messages, RuleRegistry.defaults());
+	}
+
+	/**
+	 * Compiles the given rules and messages into a schema, looking the rules up in the given registry.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules.
+	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages,
+	 *                 keyed by {@code field.Rule}. May be {@code null}.
+	 * @param registry The rules that can be used.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 *
+	 * @throws IllegalArgumentException When one of the rules does not exist, or has invalid parameters.
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules, Map<String, String> messages, RuleRegistry registry) {
+		Builder builder = new Builder();
+
+		rules.forEach((String field, String[] fieldRules) -> {
+			builder.field(field);
+
+			for (String fieldRule : fieldRules) {
+				if (fieldRule.equals(ValidationSchema.BAIL)) {
+					builder.bail();
+					continue;
+				}
+
+				String[] validatorValues = fieldRule.split(":");
+				String name = validatorValues[0];
+				Rule rule = registry.get(name);
+
+				if (rule == null) {
+					String closest = registry.closestName(name);
+
+					throw new IllegalArgumentException(MessageFormat.format(
+							"Unknown rule \"{0}\" for the field \"{1}\".{2}",
+							name,
+							field,
+							closest == null ? "" : MessageFormat.format(" Did you mean \"{0}\"?", closest)
+					));
+				}
+
+				builder.rule(name, rule, (Object[]) Arrays.copyOfRange(validatorValues, 1, validatorValues.length));
+
+				String msgKey = String.format("%1$s.%2$s", field, name);
+				if (messages != null && messages.get(msgKey) != null)
+					builder.message(messages.get(msgKey));
+			}
+		});
+
+		return builder.build();
+	}
+
+	/**
+	 * Starts building a schema out of rule instances, rather than out of rule strings. Rules that are
+	 * never referenced can thus be stripped by a shrinker, which is what the validators generated
+	 * from annotations use.
+	 *
+	 * @return Builder An empty builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Compiles the given rules into a schema, using the rules' default messages.
+	 *
+	 * @param rules A {@link Map} object containing a key-value pair for the key's rules.
+	 *
+	 * @return ValidationSchema The compiled schema.
+	 *
+	 * @see #compile(Map, Map)
+	 */
+	public static ValidationSchema compile(Map<String, String[]> rules) {
+		return ValidationSchema.compile(rules, null);
+	}
+
+	/**
+	 * Creates a copy of this schema that stops the whole validation at the first failure. Fields
+	 * whose rules were never run because of it are neither valid nor invalid.
+	 *
+	 * @return ValidationSchema The stopping copy of this schema, sharing the same compiled rules.
+	 */
+	public ValidationSchema stopOnFirstFailure() {
+		return this.stopOnFirstFailure ? this : new ValidationSchema(this, true, this.cache, this.listener, this.pool);
+	}
+
+	/**
+	 * @return boolean Returns {@code true} if the validation stops at the first failure.
+	 */
+	public boolean stopsOnFirstFailure() {
+		return this.stopOnFirstFailure;
+	}
+
+	/**
+	 * Creates a copy of this schema that keeps the outcomes of its fields in the given cache, and
+	 * reuses them whenever a field is given a value it already validated. Only the fields whose rules
+	 * are all {@link Rule#isPure() pure} are cached.
+	 *
+	 * @param cache The cache to use, or {@code null} to not use any.
+	 *
+	 * @return ValidationSchema The caching copy of this schema, sharing the same compiled rules.
+	 */
+	public ValidationSchema withCache(ValidationCache cache) {
+		return this.cache == cache ? this : new ValidationSchema(this, this.stopOnFirstFailure, cache, this.listener, this.pool);
+	}
+
+	/**
+	 * @return ValidationCache The cache of outcomes, or {@code null} if none is used.
+	 */
+	public ValidationCache cache() {
+		return this.cache;
+	}
+
+	/**
+	 * Creates a copy of this schema that reports how long each rule and field took, their outcomes,
+	 * and the rules that were skipped or served from the cache, to the given listener.
+	 *
+	 * @param listener The listener to report to, or {@code null} to not report anything.
+	 *
+	 * @return ValidationSchema The observed copy of this schema, sharing the same compiled rules.
+	 */
+	public ValidationSchema withListener(ValidationListener listener) {
+		return this.listener == listener ? this : new ValidationSchema(this, this.stopOnFirstFailure, this.cache, listener, this.pool);
+	}
+
+	/**
+	 * @return ValidationListener The listener of the validations, or {@code null} if there's none.
+	 */
+	public ValidationListener listener() {
+		return this.listener;
+	}
+
+	/**
+	 * Creates a copy of this schema that validates the fields that don't depend on each other in
+	 * parallel, in the given pool, once at least {@value #MIN_PARALLEL_FIELDS} of them are ready at
+	 * once. The outcomes are still reported in the calling thread, in the same order as without a
+	 * pool; only the rules run in the pool, and must thus be thread-safe, as must the listener.
+	 *
+	 * @param pool The pool to validate in, or {@code null} to validate in the calling thread.
+	 *
+	 * @return ValidationSchema The parallel copy of this schema, sharing the same compiled rules.
+	 */
+	public ValidationSchema withPool(ForkJoinPool pool) {
+		return this.pool == pool ? this : new ValidationSchema(this, this.stopOnFirstFailure, this.cache, this.listener, pool);
+	}
+
+	/**
+	 * @return ForkJoinPool The pool the fields are validated in, or {@code null} if they are validated in the calling thread.
+	 */
+	public ForkJoinPool pool() {
+		return this.pool;
+	}
+
+	/**
+	 * Fetches the fields the rules of the given field read, and which are thus validated before it.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return Set<String> The names of the fields read, which have rules of their own.
+	 */
+	public Set<String> inputsOf(String field) {
+		Set<String> inputs = new LinkedHashSet<String>();
+		CompiledRule[] fieldRules = this.plan.get(field);
+
+		if (fieldRules != null && fieldRules.length > 0)
+			for (int input : this.inputs[fieldRules[0].fieldIndex])
+				inputs.add(this.fieldNames[input]);
+
+		return Collections.unmodifiableSet(inputs);
+	}
+
+	/**
+	 * Retrieves all the field names that have rules in this schema.
+	 *
+	 * @return Set<String> An unmodifiable set of field names.
+	 */
+	public Set<String> fields() {
+		return this.plan.keySet();
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Fetches the compiled rules of the given field.
+	 *
+	 * @param field The name of the field.
+	 *
+	 * @return CompiledRule[] The compiled rules, or {@code null} if the field has no rules.
+	 */
+	CompiledRule[] rulesOf(String field) {
+		return this.plan.get(field);
+	}
+
+	/**
+	 * @return boolean Returns {@code true} if the field at the given index stops at its first failure.
+	 */
+	boolean bails(int fieldIndex) {
+		return this.bail[fieldIndex];
+	}
+
+	/**
+	 * @return String[] The field names, indexed by {@link CompiledRule#fieldIndex}. Must not be modified.
+	 */
+	String[] fieldNames() {
+		return this.fieldNames;
+	}
+
+	/**
+	 * @return CompiledRule[] All the compiled rules, indexed by {@link CompiledRule#index}. Must not be modified.
+	 */
+	CompiledRule[] rules() {
+		return this.rules;
+	}
+
+	/**
+	 * Runs the rules of the schema against the given values, reporting each outcome to the sink.
+	 * Fields without any rules are skipped. The remaining rules of a field are skipped once a rule
+	 * asks not to run the others, or once it fails when the field bails; and every remaining rule is
+	 * skipped after the first failure when the schema stops on the first failure.<br>
+	 * <br>
+	 * When a rule reads other fields, a field is nested, or the schema has a pool, the fields are
+	 * validated in the order of the schema, the fields being read first, rather than in the order of
+	 * the values.
+	 *
+	 * @param values The values to validate, keyed by their field name.
+	 * @param sink Receives the outcome of each rule that ran.
+	 *
+	 * @return boolean Returns {@code true} if every rule that ran passed; {@code false} otherwise.
+	 */
+	boolean run(Map<String, Object> values, Sink sink) {
+		if (this.readsOtherFields || this.nested || this.pool != null)
+			return this.runOrdered(values, sink);
+
+		boolean passed = true;
+
+		// Iterate through the list of values provided.
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			// Fetches the compiled rules for iteration...
+			CompiledRule[] fieldRules = this.plan.get(entry.getKey());
+			if (fieldRules == null)
+				continue;
+
+			Object value = entry.getValue();
+
+			// Fields that are cached or observed take the slower path.
+			if (this.cache != null || this.listener != null) {
+				if (!this.runField(new Row(fieldRules, entry.getKey(), value, ValidationSchema.NOTHING_BOUND), values, sink)) {
+					passed = false;
+
+					if (this.stopOnFirstFailure)
+						return false;
+				}
+
+				continue;
+			}
+
+			// Then iterates over them using for-each
+			for (CompiledRule rule : fieldRules) {
+				// Tests the value against the shared rule instance.
+				RuleResult response = rule.test(value);
+
+				// If the rule failed, immediately fail the entire validation.
+				if (!response.isValid()) {
+					passed = false;
+					sink.failed(rule, rule.field, response);
+
+					// Nothing else is worth running once the validation as a whole failed...
+					if (this.stopOnFirstFailure)
+						return false;
+
+					// ...nor the rest of the field's rules when the field bails.
+					if (this.bail[rule.fieldIndex])
+						break;
+				}
+				else {
+					sink.passed(rule, rule.field, value);
+				}
+
+				/*
+				If the response returned a false value for "runOtherValidation", skip the rest of the
+				field's rules and proceed to the next field.
+				 */
+				if (!response.shouldRunOtherValidations())
+					break;
+			}
+		}
+
+		return passed;
+	}
+
+	/**
+	 * Receives the outcome of each rule ran by {@link #run(Map, Sink)}.
+	 */
+	interface Sink {
+		/**
+		 * Called when the value passed the rule.
+		 *
+		 * @param key The key of the value, which is the path of the value for the nested fields,
+		 *            such as {@code people.0.birth_date}, and the name of the field otherwise.
+		 */
+		void passed(CompiledRule rule, String key, Object value);
+
+		/**
+		 * Called when the value failed the rule.
+		 *
+		 * @param key The key of the value, the same as for {@link #passed(CompiledRule, String, Object)}.
+		 */
+		void failed(CompiledRule rule, String key, RuleResult result);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Runs the rules of a single value, the same way {@link #run(Map, Sink)} does, but reusing their
+	 * outcomes from the cache and reporting them to the listener.
+	 *
+	 * @return boolean Returns {@code true} if every rule that ran passed; {@code false} otherwise.
+	 */
+	private boolean runField(Row row, Map<String, Object> values, Sink sink) {
+		long start = this.listener == null ? 0 : System.nanoTime();
+		RuleResult[] outcomes = this.outcomesOf(row, values);
+
+		return this.replay(row, outcomes, this.listener == null ? 0 : System.nanoTime() - start, sink);
+	}
+
+	/**
+	 * Fetches the outcomes of the rules of a single value from the cache, or runs the rules.
+	 */
+	private RuleResult[] outcomesOf(Row row, Map<String, Object> values) {
+		CompiledRule[] fieldRules = row.rules;
+		String field = fieldRules.length == 0 ? null : fieldRules[0].field;
+		boolean cached = this.cache != null && fieldRules.length > 0 && this.pure[fieldRules[0].fieldIndex] && ValidationCache.isCacheable(row.value);
+		RuleResult[] outcomes = null;
+
+		if (cached) {
+			outcomes = this.cache.get(fieldRules, row.value);
+
+			if (this.listener != null)
+				this.listener.cacheLookup(field, outcomes != null);
+		}
+
+		if (outcomes == null) {
+			// Cached outcomes are shared with schemas that don't stop, thus must run as far as those would.
+			outcomes = this.evaluate(row, values, !cached && this.stopOnFirstFailure);
+
+			if (cached)
+				this.cache.put(fieldRules, row.value, outcomes);
+		}
+
+		return outcomes;
+	}
+
+	/**
+	 * Reports the outcomes of the rules of a single value to the sink, and to the listener.
+	 *
+	 * @param nanos The time it took to get the outcomes, in nanoseconds.
+	 *
+	 * @return boolean Returns {@code true} if every rule that ran passed; {@code false} otherwise.
+	 */
+	private boolean replay(Row row, RuleResult[] outcomes, long nanos, Sink sink) {
+		CompiledRule[] fieldRules = row.rules;
+		String field = fieldRules.length == 0 ? null : fieldRules[0].field;
+		boolean passed = true;
+		int ran = 0;
+
+		while (ran < outcomes.length) {
+			RuleResult outcome = outcomes[ran];
+			CompiledRule rule = fieldRules[ran++];
+
+			if (outcome.isValid()) {
+				sink.passed(rule, row.key, row.value);
+				continue;
+			}
+
+			passed = false;
+			sink.failed(rule, row.key, outcome);
+
+			if (this.stopOnFirstFailure)
+				break;
+		}
+
+		if (this.listener != null) {
+			if (ran < fieldRules.length) {
+				RuleResult last = outcomes[ran - 1];
+				ValidationListener.Skip reason = !last.shouldRunOtherValidations()
+						? ValidationListener.Skip.RULE
+						: this.stopOnFirstFailure ? ValidationListener.Skip.STOP : ValidationListener.Skip.BAIL;
+
+				this.listener.rulesSkipped(field, fieldRules.length - ran, reason);
+			}
+
+			if (field != null)
+				this.listener.fieldValidated(field, passed, nanos);
+		}
+
+		return passed;
+	}
+
+	/**
+	 * Runs the fields level by level, such that the fields read by the rules of a field pass before
+	 * its rules are run. The nested fields are expanded into a value per path matched, each run on
+	 * its own against the same compiled rules. The values of a level are validated in the pool when
+	 * there are enough of them.
+	 *
+	 * @return boolean Returns {@code true} if every rule that ran passed; {@code false} otherwise.
+	 */
+	private boolean runOrdered(Map<String, Object> values, Sink sink) {
+		boolean passed = true;
+		boolean[] failed = new boolean[this.fieldNames.length];
+		Set<String> failedKeys = new HashSet<String>();
+
+		for (int[] level : this.levels) {
+			List<Row> ready = new ArrayList<Row>(level.length);
+
+			for (int fieldIndex : level) {
+				String field = this.fieldNames[fieldIndex];
+				CompiledRule[] fieldRules = this.plan.get(field);
+
+				if (this.paths[fieldIndex] != null) {
+					this.paths[fieldIndex].expand(values, (String key, Object value, String[] bound) -> ready.add(new Row(fieldRules, key, value, bound)));
+				}
+				else if (values.containsKey(field)) {
+					ready.add(new Row(fieldRules, field, values.get(field), ValidationSchema.NOTHING_BOUND));
+				}
+			}
+
+			// Only the values whose inputs all passed are validated.
+			for (Iterator<Row> rows = ready.iterator(); rows.hasNext(); ) {
+				Row row = rows.next();
+
+				if (row.rules.length == 0 || !this.anyInputFailed(row, failed, failedKeys))
+					continue;
+
+				// The values reading this one can't rely on it either.
+				failed[row.rules[0].fieldIndex] = true;
+				failedKeys.add(row.key);
+				rows.remove();
+
+				if (this.listener != null)
+					this.listener.rulesSkipped(row.rules[0].field, row.rules.length, ValidationListener.Skip.INPUT);
+			}
+
+			int count = ready.size();
+			RuleResult[][] outcomes = null;
+			long[] nanos = null;
+
+			if (this.pool != null && count >= ValidationSchema.MIN_PARALLEL_FIELDS) {
+				outcomes = new RuleResult[count][];
+				nanos = new long[count];
+
+				RowsTask task = new RowsTask(this, ready, 0, count, values, outcomes, nanos);
+				if (ForkJoinTask.getPool() == this.pool)
+					task.invoke();
+				else
+					this.pool.invoke(task);
+			}
+
+			for (int i = 0; i < count; i++) {
+				Row row = ready.get(i);
+				boolean rowPassed = outcomes == null
+						? this.runField(row, values, sink)
+						: this.replay(row, outcomes[i], nanos[i], sink);
+
+				if (!rowPassed) {
+					passed = false;
+					failed[row.rules[0].fieldIndex] = true;
+					failedKeys.add(row.key);
+
+					if (this.stopOnFirstFailure)
+						return false;
+				}
+			}
+		}
+
+		return passed;
+	}
+
+	/**
+	 * Identifies whether any value read by the rules of the given value failed. An input nested
+	 * under the same wildcards as the value is the one of the same row, such as
+	 * {@code people.0.signup_date} for {@code people.0.birth_date}; any other is failed when any of
+	 * its values failed.
+	 */
+	private boolean anyInputFailed(Row row, boolean[] failed, Set<String> failedKeys) {
+		for (int input : this.inputs[row.rules[0].fieldIndex]) {
+			String key = this.paths[input] == null ? this.fieldNames[input] : this.paths[input].bind(row.bound);
+
+			if (key == null ? failed[input] : failedKeys.contains(key))
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Groups the fields into levels, each field being one level after the deepest field it reads.
+	 *
+	 * @throws IllegalArgumentException When the rules of the fields read each other in a cycle.
+	 */
+	private int[][] computeLevels() {
+		int[] depths = new int[this.fieldNames.length];
+		int levelCount = 0;
+
+		for (int i = 0; i < this.fieldNames.length; i++)
+			levelCount = Math.max(levelCount, this.depthOf(i, depths, new ArrayList<Integer>()) + 1);
+
+		int[][] levels = new int[levelCount][];
+		int[] sizes = new int[levelCount];
+
+		for (int depth : depths)
+			sizes[depth - 1]++;
+		for (int level = 0; level < levelCount; level++)
+			levels[level] = new int[sizes[level]];
+
+		Arrays.fill(sizes, 0);
+		for (int i = 0; i < this.fieldNames.length; i++)
+			levels[depths[i] - 1][sizes[depths[i] - 1]++] = i;
+
+		return levels;
+	}
+
+	/**
+	 * Computes the level of a field, and of the fields it reads.
+	 *
+	 * @param depths The levels computed so far, plus one, or {@code 0} if not computed yet.
+	 * @param path The fields being computed, which read each other in order.
+	 */
+	private int depthOf(int field, int[] depths, List<Integer> path) {
+		if (depths[field] > 0)
+			return depths[field] - 1;
+
+		if (path.contains(field)) {
+			StringBuilder cycle = new StringBuilder();
+
+			for (int i = path.indexOf(field); i < path.size(); i++)
+				cycle.append('"').append(this.fieldNames[path.get(i)]).append("\" -> ");
+
+			throw new IllegalArgumentException(MessageFormat.format(
+					"The rules of the fields read each other in a cycle: {0}\"{1}\".",
+					cycle,
+					this.fieldNames[field]
+			));
+		}
+
+		path.add(field);
+
+		int depth = 0;
+		for (int input : this.inputs[field])
+			depth = Math.max(depth, this.depthOf(input, depths, path) + 1);
+
+		path.remove(path.size() - 1);
+		depths[field] = depth + 1;
+
+		return depth;
+	}
+
+	/**
+	 * Runs the rules of a single value, and keeps the outcome of each rule that ran.
+	 *
+	 * @param stopOnFailure Whether to stop at the first failure, regardless of the field bailing.
+	 */
+	private RuleResult[] evaluate(Row row, Map<String, Object> values, boolean stopOnFailure) {
+		CompiledRule[] fieldRules = row.rules;
+		RuleResult[] outcomes = new RuleResult[fieldRules.length];
+		int count = 0;
+
+		for (CompiledRule rule : fieldRules) {
+			// Only the rules reading other fields, or the nested values, need a context of their own.
+			RuleContext context = rule.readsOtherFields || !row.key.equals(rule.field)
+					? new RecordContext(this, rule, row, values)
+					: rule;
+			RuleResult response;
+
+			if (this.listener == null) {
+				response = rule.test(row.value, context);
+			}
+			else {
+				long start = System.nanoTime();
+				response = rule.test(row.value, context);
+				this.listener.ruleValidated(rule.field, rule.name, response.isValid(), System.nanoTime() - start);
+			}
+
+			outcomes[count++] = response;
+
+			if (!response.isValid() && (stopOnFailure || this.bail[rule.fieldIndex]))
+				break;
+			if (!response.shouldRunOtherValidations())
+				break;
+		}
+
+		return count == outcomes.length ? outcomes : Arrays.copyOf(outcomes, count);
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * Builds a schema field by field, and rule by rule, in the order they are added.
+	 */
+	public static final class Builder {
+		private final Map<String, List<Declared>> fields = new LinkedHashMap<String, List<Declared>>();
+		private final Set<String> bailing = new HashSet<String>();
+		private String field;
+		private Declared last;
+
+		private Builder() {
+		}
+
+		/**
+		 * Starts adding the rules of a field.
+		 *
+		 * @param field The name of the field.
+		 *
+		 * @return Builder This builder.
+		 *
+		 * @throws IllegalArgumentException When the field was already added.
+		 */
+		public Builder field(String field) {
+			if (this.fields.containsKey(field))
+				throw new IllegalArgumentException(MessageFormat.format("The field \"{0}\" was already added.", field));
+
+			this.fields.put(field, new ArrayList<Declared>());
+			this.field = field;
+			this.last = null;
+
+			return this;
+		}
+
+		/**
+		 * Stops running the rules of the current field after its first failure.
+		 *
+		 * @return Builder This builder.
+		 *
+		 * @see ValidationSchema#BAIL
+		 */
+		public Builder bail() {
+			this.bailing.add(this.current());
+			return this;
+		}
+
+		/**
+		 * Adds a rule to the current field.
+		 *
+		 * @param name The name of the rule, used in the key of its message, such as {@code "Date"}.
+		 * @param rule The rule instance.
+		 * @param params The parameters of the rule, if any.
+		 *
+		 * @return Builder This builder.
+		 *
+		 * @throws IllegalArgumentException When the parameters are invalid.
+		 */
+		public Builder rule(String name, Rule rule, Object... params) {
+			String field = this.current();
+
+			try {
+				this.last = new Declared(name, rule, rule.compileParams(params.length == 0 ? null : params));
+			}
+			catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException(MessageFormat.format(
+						"Invalid parameters for the rule \"{0}\" of the field \"{1}\": {2}",
+						name,
+						field,
+						e.getMessage()
+				), e);
+			}
+
+			this.fields.get(field).add(this.last);
+			return this;
+		}
+
+		/**
+		 * Sets the custom message of the last rule added.
+		 *
+		 * @param message The message, with its placeholders.
+		 *
+		 * @return Builder This builder.
+		 */
+		public Builder message(String message) {
+			if (this.last == null)
+				throw new IllegalStateException("A rule must be added before its message.");
+
+			this.last.message = message;
+			return this;
+		}
+
+		/**
+		 * @return ValidationSchema The compiled schema.
+		 */
+		public ValidationSchema build() {
+			Map<String, CompiledRule[]> plan = new LinkedHashMap<String, CompiledRule[]>();
+			List<CompiledRule> all = new ArrayList<CompiledRule>();
+			boolean[] bail = new boolean[this.fields.size()];
+
+			this.fields.forEach((String field, List<Declared> declared) -> {
+				int fieldIndex = plan.size();
+				CompiledRule[] compiled = new CompiledRule[declared.size()];
+
+				for (int i = 0; i < compiled.length; i++) {
+					Declared rule = declared.get(i);
+
+					compiled[i] = new CompiledRule(
+							all.size(),
+							fieldIndex,
+							rule.name,
+							rule.rule,
+							field,
+							String.format("%1$s.%2$s", field, rule.name),
+							rule.message,
+							rule.params
+					);
+					all.add(compiled[i]);
+				}
+
+				bail[fieldIndex] = this.bailing.contains(field);
+				plan.put(field, compiled);
+			});
+
+			return new ValidationSchema(plan, all, bail);
+		}
+
+		private String current() {
+			if (this.field == null)
+				throw new IllegalStateException("A field must be added before its rules.");
+
+			return this.field;
+		}
+
+		/**
+		 * A rule added to a field, not compiled yet.
+		 */
+		private static final class Declared {
+			private final String name;
+			private final Rule rule;
+			private final Object[] params;
+			private String message;
+
+			private Declared(String name, Rule rule, Object[] params) {
+				this.name = name;
+				this.rule = rule;
+				this.params = params;
+			}
+		}
+	}
+
+	/**
+	 * A single rule of a field, with everything needed to run it resolved ahead of time. It also
+	 * serves as the {@link RuleContext} of the rule, since the field and message never change.
+	 */
+	static final class CompiledRule implements RuleContext {
+		/**
+		 * The index of this rule among all the rules of the schema.
+		 */
+		final int index;
+		/**
+		 * The index of this rule's field among all the fields of the schema.
+		 */
+		final int fieldIndex;
+		final String name;
+		final Rule rule;
+		final String field;
+		/**
+		 * The key of this rule's message, in the form of {@code field.Rule}.
+		 */
+		final String msgKey;
+		final String message;
+		/**
+		 * The custom message compiled, or {@code null} to use the rule's default message.
+		 */
+		final MessageTemplate template;
+		final Object[] validatorValues;
+		/**
+		 * Whether the rule reads the values of other fields, and thus needs them in its context.
+		 */
+		final boolean readsOtherFields;
+
+		CompiledRule(int index, int fieldIndex, String name, Rule rule, String field, String msgKey, String message, Object[] validatorValues) {
+			this.index = index;
+			this.fieldIndex = fieldIndex;
+			this.name = name;
+			this.rule = rule;
+			this.field = field;
+			this.msgKey = msgKey;
+			this.message = message;
+			this.template = message == null ? null : MessageTemplate.compile(message);
+			this.validatorValues = validatorValues;
+			this.readsOtherFields = rule.dependsOn(validatorValues).length > 0;
+		}
+
+		/**
+		 * Tests the given value against this rule. The rule can't read any other field.
+		 */
+		RuleResult test(Object value) {
+			return this.rule.test(value, this.validatorValues, this);
+		}
+
+		/**
+		 * Fetches the key of this rule's message for the given value.
+		 *
+		 * @param key The key of the value, such as {@code people.0.birth_date}.
+		 *
+		 * @return String The key of the message, in the form of {@code key.Rule}.
+		 */
+		String msgKeyOf(String key) {
+			return key.equals(this.field) ? this.msgKey : String.format("%1$s.%2$s", key, this.name);
+		}
+
+		/**
+		 * Tests the given value against this rule, under the given context.
+		 */
+		RuleResult test(Object value, RuleContext context) {
+			return this.rule.test(value, this.validatorValues, context);
+		}
+
+		@Override
+		public String getKey() {
+			return this.field;
+		}
+
+		@Override
+		public String getMessage() {
+			return this.message;
+		}
+
+		@Override
+		public MessageTemplate getMessageTemplate() {
+			return this.template;
+		}
+	}
+
+	/**
+	 * A value to run the rules of a field against, which is the value of a field, or a value matched
+	 * by the path of a nested field.
+	 */
+	private static final class Row {
+		private final CompiledRule[] rules;
+		/**
+		 * The name of the field, or the path of the value matched, such as {@code people.0.birth_date}.
+		 */
+		private final String key;
+		private final Object value;
+		/**
+		 * The segments matched by the wildcards of the path, in order.
+		 */
+		private final String[] bound;
+
+		private Row(CompiledRule[] rules, String key, Object value, String[] bound) {
+			this.rules = rules;
+			this.key = key;
+			this.value = value;
+			this.bound = bound;
+		}
+	}
+
+	/**
+	 * The context of a rule reading other fields, or of a nested value, which knows the key of the
+	 * value and the values of the record being validated. The other fields are read relative to the
+	 * value, such that {@code people.*.signup_date} is the one of the same person.
+	 */
+	private static final class RecordContext implements RuleContext {
+		private final ValidationSchema schema;
+		private final CompiledRule rule;
+		private final Row row;
+		private final Map<String, Object> values;
+
+		private RecordContext(ValidationSchema schema, CompiledRule rule, Row row, Map<String, Object> values) {
+			this.schema = schema;
+			this.rule = rule;
+			this.row = row;
+			this.values = values;
+		}
+
+		@Override
+		public String getKey() {
+			return this.row.key;
+		}
+
+		@Override
+		public String getMessage() {
+			return this.rule.getMessage();
+		}
+
+		@Override
+		public MessageTemplate getMessageTemplate() {
+			return this.rule.getMessageTemplate();
+		}
+
+		@Override
+		public Object getValue(String field) {
+			FieldPath path = this.schema.pathsByName.get(field);
+
+			if (path == null)
+				path = FieldPath.compile(field);
+			if (!path.isNested())
+				return this.values.get(field);
+
+			return path.resolve(this.values, this.row.bound);
+		}
+	}
+
+	/**
+	 * Gets the outcomes of a range of the values of a level, splitting it in halves until a single
+	 * value is left.
+	 */
+	private static final class RowsTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final ValidationSchema schema;
+		private final List<Row> rows;
+		private final int from;
+		private final int to;
+		private final Map<String, Object> values;
+		private final RuleResult[][] outcomes;
+		private final long[] nanos;
+
+		private RowsTask(ValidationSchema schema, List<Row> rows, int from, int to, Map<String, Object> values, RuleResult[][] outcomes, long[] nanos) {
+			this.schema = schema;
+			this.rows = rows;
+			this.from = from;
+			this.to = to;
+			this.values = values;
+			this.outcomes = outcomes;
+			this.nanos = nanos;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from > 1) {
+				int middle = (this.from + this.to) >>> 1;
+
+				ForkJoinTask.invokeAll(
+						new RowsTask(this.schema, this.rows, this.from, middle, this.values, this.outcomes, this.nanos),
+						new RowsTask(this.schema, this.rows, middle, this.to, this.values, this.outcomes, this.nanos)
+				);
+				return;
+			}
+
+			long start = this.schema.listener == null ? 0 : System.nanoTime();
+
+			this.outcomes[this.from] = this.schema.outcomesOf(this.rows.get(this.from), this.values);
+			this.nanos[this.from] = this.schema.listener == null ? 0 : System.nanoTime() - start;
+		}
+	}
+}
@@ -1,10 +1,8 @@
 package com.satch_navida.zodiacidentifier.validation;
 
-import android.util.Log;
-
 import com.satch_navida.zodiacidentifier.validation.rules.Rule;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -18,13 +16,9 @@ public class Validator {
 	 */
 	private final Map<String, Object> valueList;
 	/**
-	 * A private global variable container for all the rules passed to this.
-	 */
-	private final Map<String, String[]> ruleList;
-	/**
-	 * A private global variable container for all the messages passed to this.
+	 * A private global variable container for the compiled rules and messages passed to this.
 	 */
-	private final Map<String, String> msgList;
+	private final ValidationSchema schema;
 	/**
 	 * A private global variable container for the {@link MessageBag} instance.
 	 */
@@ -43,11 +37,25 @@ public class Validator {
 	private boolean failed = false;
 	/**
 	 * A private global variable container, which will be used as a container for all the already validated keys.
+	 * A field with rules is missing from here when the validation stopped before reaching it.
 	 */
-	private final ArrayList<String> validated = new ArrayList<String>();
+	private final HashSet<String> validated = new HashSet<String>();
 
 	// CONSTRUCTORS
 
+	/**
+	 * Creates an instance of {@code Validator} using an already compiled schema. This is the
+	 * preferred way of creating a validator when the same rules are used over and over, as the rules
+	 * are only compiled once.
+	 *
+	 * @param values A {@link Map} object containing a key-value pair for the keys and its value.
+	 * @param schema The compiled rules and messages.
+	 */
+	public Validator(Map<String, Object> values, ValidationSchema schema) {
+		this.valueList = values;
+		this.schema = schema;
+	}
+
 	/**
 	 * Creates an instance of {@code Validator}.<br>
 	 *
@@ -57,9 +65,7 @@ public class Validator {
 	 * @param messages A {@link Map} object containing a key-value pair for the keys' messages
 	 */
 	public Validator(Map<String, Object> values, Map<String, String[]> rules, Map<String, String> messages) {
-		this.valueList = values;
-		this.ruleList = rules;
-		this.msgList = messages;
+		this(values, ValidationSchema.compile(rules, messages));
 	}
 
 	/**
@@ -157,11 +163,17 @@ public class Validator {
 	 * @return String[] An array of field names that failed the validation.
 	 */
 	public String[] invalidFields() {
+		if (!this.validationDone)
+			this.runValidation();
+
 		return this.errorList.keys();
 	}
 
 	/**
-	 * Retrieves an array of field names that are valid.
+	 * Retrieves an array of field names that are valid. Fields that have rules but were never
+	 * validated, because the schema stopped on an earlier failure, are not considered valid; nor are
+	 * the fields holding a nested value that failed, such as {@code people} for
+	 * {@code people.0.birth_date}.
 	 *
 	 * @return String[] An array of field names that passed the validation.
 	 */
@@ -169,7 +181,19 @@ public class Validator {
 		Map<String, Object> vl = new HashMap<String, Object>();
 		vl.putAll(this.valueList);
 
-		vl.keySet().removeAll(new HashSet<String>(Arrays.asList(this.invalidFields())));
+		String[] invalidFields = this.invalidFields();
+		vl.keySet().removeAll(new HashSet<String>(Arrays.asList(invalidFields)));
+		vl.keySet().removeIf((String field) -> {
+			ValidationSchema.CompiledRule[] fieldRules = this.schema.rulesOf(field);
+			return fieldRules != null && fieldRules.length > 0 && !this.validated.contains(field);
+		});
+
+		for (String invalidField : invalidFields) {
+			int separator = invalidField.indexOf('.');
+
+			if (separator > 0)
+				vl.remove(invalidField.substring(0, separator));
+		}
 
 		return Arrays.copyOf(vl.keySet().toArray(), vl.keySet().size(), String[].class);
 	}
@@ -188,83 +212,25 @@ public class Validator {
 	 * Runs the entire validation algorithm.
 	 */
 	private void runValidation() {
-		// Iterate through the list of values provided.
-		this.valueList.forEach((String field, Object value) -> {
-			// Fetches the rules for iteration...
-			String[] rules = this.ruleList.get(field);
-			// Then iterates over them using for-each
-			for (String rule : rules) {
-				String[] validatorValues = rule.split(":");
-				// Fetches the rule
-				rule = validatorValues[0];
-				// And if there are validator values present, overwrite it to the values variable
-				if (validatorValues.length > 1)
-					validatorValues = Arrays.copyOfRange(validatorValues, 1, validatorValues.length);
-				else
-					validatorValues = null;
-
-				try {
-					// Fetches the class dynamically using the rule name.
-					Class clazz = Class.forName(this.getClass().getPackageName() + ".rules." + rule);
-					// Then build the key for fetching the validation message for the current rule.
-					String msgKey = String.format("%1$s.%2$s", field, rule);
-
-					/**
-					 * Fetch the constructor first using the dynamically acquired class, then proceed
-					 * to create a new instance under it super class "Rule".
-					 */
-					Rule r = (Rule) clazz.getDeclaredConstructor(
-							String.class,
-							Object.class,
-							String.class,
-							Object[].class)
-							.newInstance(
-									field,
-									this.valueList.get(field),
-									this.msgList.get(msgKey),
-									validatorValues
-							);
-
-					/*
-					Call the .validate() method for the subclass of Rule using the dynamically acquired
-					class from earlier. This will allow us to validate the values respectively.
-					 */
-					HashMap<String, Object> response = (HashMap<String, Object>) r.getClass()
-							.asSubclass(clazz)
-							.getMethod("validate")
-							.invoke(r);
-
-					// If the rule failed, immediately fail the entire validation.
-					if (!(boolean) response.get("valid")) {
-						this.failed = true;
-						// Insert the error message to the message bag.
-						this.errorList.add(msgKey, (String) response.get("message"));
+		boolean passed = this.schema.run(this.valueList, new ValidationSchema.Sink() {
+			@Override
+			public void passed(ValidationSchema.CompiledRule rule, String key, Object value) {
+				// Add the field to the list of validated inputs.
+				validSets.put(key, value);
+				validated.add(key);
+			}
 
-						/*
-						If the response returned a false value for "runOtherValidation", skip the entire
-						field and proceed to the next field.
-						 */
-						if (!(boolean) response.get("runOtherValidation"))
-							continue;
-					}
-					else {
-						// Add the field to the list of validated inputs.
-						this.validSets.put(field, value);
-					}
-				} catch (ClassNotFoundException e) {
-					Log.e("ERROR", e.getMessage(), e);
-				} catch (NoSuchMethodException e) {
-					Log.e("ERROR", e.getMessage(), e);
-				} catch (InvocationTargetException e) {
-					Log.e("ERROR", e.getMessage(), e);
-				} catch (IllegalAccessException e) {
-					Log.e("ERROR", e.getMessage(), e);
-				} catch (InstantiationException e) {
-					Log.e("ERROR", e.getMessage(), e);
-				}
+			@Override
+			public void failed(ValidationSchema.CompiledRule rule, String key, RuleResult result) {
+				// Insert the error message to the message bag, leaving it to be rendered when fetched.
+				errorList.add(rule.msgKeyOf(key), result::getMessage);
+				validated.add(key);
 			}
 		});
 
+		// A single rule that fail will result in a total fail of the validation.
+		this.failed = !passed;
+
 		// Marks this instance as validation done.
 		if (!this.validationDone)
 			this.validationDone = true;
@@ -0,0 +1,18 @@
+package com.satch_navida.zodiacidentifier.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stops running the rules of the field after its first failure, the same as the
+ * {@value com.satch_navida.zodiacidentifier.validation.ValidationSchema#BAIL} rule.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Bail {
+}
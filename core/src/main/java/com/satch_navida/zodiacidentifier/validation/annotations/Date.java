@@ -0,0 +1,26 @@
+package com.satch_navida.zodiacidentifier.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the field with the {@link com.satch_navida.zodiacidentifier.validation.rules.Date Date} rule.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Date {
+	/**
+	 * @return String The format of the date, one of {@link com.satch_navida.zodiacidentifier.validation.rules.Date#FORMATS}.
+	 */
+	String format();
+
+	/**
+	 * @return String The custom message of the rule, or an empty string to use its default message.
+	 */
+	String message() default "";
+}
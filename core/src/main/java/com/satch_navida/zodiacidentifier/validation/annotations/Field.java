@@ -0,0 +1,22 @@
+package com.satch_navida.zodiacidentifier.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the field being validated, which is the name of the Java field by default. The name is
+ * the key of the values and of the error messages.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Field {
+	/**
+	 * @return String The name of the field.
+	 */
+	String value();
+}
@@ -0,0 +1,26 @@
+package com.satch_navida.zodiacidentifier.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the field with the {@link com.satch_navida.zodiacidentifier.validation.rules.Max Max} rule.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Max {
+	/**
+	 * @return double The largest number allowed.
+	 */
+	double value();
+
+	/**
+	 * @return String The custom message of the rule, or an empty string to use its default message.
+	 */
+	String message() default "";
+}
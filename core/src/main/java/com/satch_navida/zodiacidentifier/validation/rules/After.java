@@ -0,0 +1,30 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+/**
+ * Tests whether the {@code value} provided is a date later than the date of another field, such as
+ * {@code "After:signup_date:MM/dd/yyyy"}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class After extends DateOrderRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link After} rule.
+	 */
+	public After() {
+		super("The :key must be a date after :other");
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean accepts(int date, int other) {
+		return date > other;
+	}
+}
@@ -0,0 +1,30 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+/**
+ * Tests whether the {@code value} provided is a date earlier than the date of another field, such as
+ * {@code "Before:signup_date:MM/dd/yyyy"}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Before extends DateOrderRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Before} rule.
+	 */
+	public Before() {
+		super("The :key must be a date before :other");
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean accepts(int date, int other) {
+		return date < other;
+	}
+}
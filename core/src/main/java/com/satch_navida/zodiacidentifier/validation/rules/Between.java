@@ -0,0 +1,83 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Tests whether the {@code value} provided is no more or less than the provided validator value.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Between extends NumericRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Between} rule.
+	 */
+	public Between() {
+		super("The :key must be between :min and :max", "min", "max");
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		Bounds bounds = NumericRule.boundsOf(params, this);
+
+		if (bounds.isIntegral()) {
+			long min = bounds.longAt(0);
+			long max = bounds.longAt(1);
+
+			for (int i = 0; i < values.length; i++)
+				if (values[i] < min || values[i] > max)
+					failed.set(i);
+		}
+		else {
+			double min = bounds.doubleAt(0);
+			double max = bounds.doubleAt(1);
+
+			for (int i = 0; i < values.length; i++)
+				if (!(values[i] >= min && values[i] <= max))
+					failed.set(i);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull double[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		Bounds bounds = NumericRule.boundsOf(params, this);
+		double min = bounds.doubleAt(0);
+		double max = bounds.doubleAt(1);
+
+		for (int i = 0; i < values.length; i++)
+			if (!(values[i] >= min && values[i] <= max))
+				failed.set(i);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean accepts(long value, @NotNull Bounds bounds) {
+		return value >= bounds.longAt(0) && value <= bounds.longAt(1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean accepts(double value, @NotNull Bounds bounds) {
+		return value >= bounds.doubleAt(0) && value <= bounds.doubleAt(1);
+	}
+}
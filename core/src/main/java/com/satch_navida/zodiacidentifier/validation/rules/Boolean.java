@@ -0,0 +1,52 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Tests whether the value is a boolean or can be converted to a boolean.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Boolean extends Rule implements RuleInterface {
+
+	// PRIVATE VARIABLES
+	/**
+	 * All the values that can be converted to a boolean.
+	 */
+	private static final String[] MATCHES = new String[]{"0", "1", "true", "false", "on", "off"};
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Boolean} rule.
+	 */
+	public Boolean() {
+		super("The :key must either be true or false");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		if (value != null && Arrays.stream(MATCHES).anyMatch(Predicate.isEqual(value.toString().toLowerCase())))
+			return RuleResult.PASS;
+
+		return this.fail(value, params, context);
+	}
+}
@@ -0,0 +1,194 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+
+import java.text.MessageFormat;
+import java.util.BitSet;
+
+/**
+ * Tests whether the {@code value} provided is a valid date using one of the format from {@link #FORMATS}
+ * constant.<br>
+ * <br>
+ * The format is resolved only once, by {@link #compileParams(Object[])}, into a
+ * {@link DateCodec.Format}, so an unsupported format is rejected when the schema is compiled.<br>
+ * <br>
+ * A column of {@code long}s is read as epoch days that are already parsed, such as by
+ * {@link DateCodec.Format#parseEpochDay(CharSequence)}, which are only invalid when they are
+ * {@link DateCodec#INVALID_EPOCH_DAY}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Date extends Rule implements RuleInterface, LongColumnRule {
+
+	// PUBLIC VARIABLES
+	/**
+	 *  Contains all the currently supported formats for the {@link Date} rule.<br>
+	 *  <br>
+	 *  All currently supported formats are:<br>
+	 *  <table border="1" align="center">
+	 *      <thead>
+	 *          <tr>
+	 *              <th>Index</th>
+	 *              <th>&nbsp;&nbsp;&nbsp;&nbsp;</th>
+	 *              <th>Format</th>
+	 *          </tr>
+	 *      </thead>
+	 *
+	 *      <tbody>
+	 *          <tr>
+	 *              <td align="right">0</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">MM-dd-yyyy</td>
+	 *          </tr>
+	 *
+	 *           <tr>
+	 *              <td align="right">1</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">MM-dd-yy</td>
+	 *          </tr>
+	 *
+	 *          <tr>
+	 *              <td align="right">2</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">dd-MM-yyyy</td>
+	 *          </tr>
+	 *
+	 *          <tr>
+	 *              <td align="right">3</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">dd-MM-yy</td>
+	 *          </tr>
+	 *
+	 *          <tr>
+	 *              <td align="right">4</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">MM/dd/yyyy</td>
+	 *          </tr>
+	 *
+	 *          <tr>
+	 *              <td align="right">5</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">MM/dd/yy</td>
+	 *          </tr>
+	 *
+	 *          <tr>
+	 *              <td align="right">6</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">dd/MM/yyyy</td>
+	 *          </tr>
+	 *
+	 *          <tr>
+	 *              <td align="right">7</td>
+	 *              <td>&nbsp;&nbsp;&nbsp;&nbsp;</td>
+	 *              <td align="left">dd/MM/yy</td>
+	 *          </tr>
+	 *      </tbody>
+	 *  </table>
+	 */
+	public static final String[] FORMATS = new String[] {
+			"MM-dd-yyyy",
+			"MM-dd-yy",
+			"dd-MM-yyyy",
+			"dd-MM-yy",
+			"MM/dd/yyyy",
+			"MM/dd/yy",
+			"dd/MM/yyyy",
+			"dd/MM/yy"
+	};
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Date} rule.<br>
+	 * <br>
+	 * <b>NOTE:</b> A format must be provided to the {@code params} in order to validate the date. This
+	 * due to Java's limitations.
+	 */
+	public Date() {
+		super("The :key must be a valid date");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	/**
+	 * Resolves the format of the date, such as {@code "MM/dd/yyyy"}, into a {@link DateCodec.Format}.
+	 *
+	 * @param params The format of the date.
+	 *
+	 * @return Object[] The resolved format.
+	 *
+	 * @throws IllegalArgumentException When the format is missing or unsupported.
+	 */
+	@Override
+	public Object[] compileParams(@Nullable Object[] params) {
+		// Checks whether a format is passed. If not, then throws an error
+		Rule.requireParams(params, 1);
+
+		if (params[0] instanceof DateCodec.Format)
+			return params;
+
+		DateCodec.Format format = DateCodec.forPattern(params[0].toString());
+		if (format == null)
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Unsupported date format: {0}",
+					params[0]
+			));
+
+		return new Object[] {format};
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		// Compiled schemas pass the format already resolved, which parses the value without any intermediate object.
+		Object[] compiled = this.compileParams(params);
+		DateCodec.Format format = (DateCodec.Format) compiled[0];
+
+		if (value != null) {
+			CharSequence date = value instanceof CharSequence ? (CharSequence) value : value.toString();
+
+			// If date is a valid date, then proceed to pass the rule.
+			if (format.parse(date) != DateCodec.INVALID)
+				return RuleResult.PASS;
+		}
+
+		return this.fail(value, compiled, context);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		for (int i = 0; i < values.length; i++)
+			if (values[i] == DateCodec.INVALID_EPOCH_DAY)
+				failed.set(i);
+	}
+
+	// PROTECTED
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String resolvePlaceholder(String name, Object value, Object[] params, RuleContext context) {
+		if (name.equals("format"))
+			return ((DateCodec.Format) this.compileParams(params)[0]).getPattern();
+
+		return super.resolvePlaceholder(name, value, params, context);
+	}
+}
@@ -0,0 +1,122 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+
+import java.text.MessageFormat;
+
+/**
+ * The base of the rules comparing a date against the date of another field of the same record, such
+ * as {@link Before} and {@link After}. Both dates are read with the same format, given after the
+ * name of the other field, such as {@code "Before:signup_date:MM/dd/yyyy"}.<br>
+ * <br>
+ * When the other field has no date, or one that can't be read, there is nothing to compare against
+ * and the rule passes; the other field should have its own {@link Required} and {@link Date} rules to
+ * reject those.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public abstract class DateOrderRule extends Rule implements RuleInterface {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link DateOrderRule}.
+	 *
+	 * @param message The default message of the rule.
+	 */
+	protected DateOrderRule(@NotNull String message) {
+		super(message);
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Looks the format up.
+	 *
+	 * @param params The name of the other field, then the format of the dates.
+	 *
+	 * @return Object[] The name of the other field, then the {@link DateCodec.Format}.
+	 *
+	 * @throws IllegalArgumentException When a parameter is missing or the format is not supported.
+	 */
+	@Override
+	public Object[] compileParams(@Nullable Object[] params) {
+		Rule.requireParams(params, 2);
+
+		if (params[1] instanceof DateCodec.Format)
+			return params;
+
+		DateCodec.Format format = DateCodec.forPattern(params[1].toString());
+		if (format == null)
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Unsupported date format: {0}",
+					params[1]
+			));
+
+		return new Object[] {params[0].toString(), format};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] dependsOn(@Nullable Object[] params) {
+		return new String[] {params[0].toString()};
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		// Parameters given as strings, rather than compiled by a schema, are compiled here.
+		Object[] compiled = this.compileParams(params);
+
+		DateCodec.Format format = (DateCodec.Format) compiled[1];
+		Object other = context.getValue((String) compiled[0]);
+		int otherDate = other == null ? DateCodec.INVALID : format.parse(DateOrderRule.toCharSequence(other));
+
+		// Nothing to compare against.
+		if (otherDate == DateCodec.INVALID)
+			return RuleResult.PASS;
+
+		int date = value == null ? DateCodec.INVALID : format.parse(DateOrderRule.toCharSequence(value));
+		if (date != DateCodec.INVALID && this.accepts(date, otherDate))
+			return RuleResult.PASS;
+
+		return this.fail(value, compiled, context);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * Compares the date against the date of the other field.
+	 *
+	 * @param date The date, packed as a {@code yyyymmdd} integer.
+	 * @param other The date of the other field, packed the same way.
+	 *
+	 * @return boolean Returns {@code true} if the date is in the right order; {@code false} otherwise.
+	 */
+	protected abstract boolean accepts(int date, int other);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String resolvePlaceholder(String name, Object value, Object[] params, RuleContext context) {
+		switch (name) {
+			case "other": return params[0].toString();
+			case "format": return params[1].toString();
+			default: return super.resolvePlaceholder(name, value, params, context);
+		}
+	}
+
+	// PRIVATE METHODS
+	private static CharSequence toCharSequence(Object value) {
+		return value instanceof CharSequence ? (CharSequence) value : value.toString();
+	}
+}
@@ -0,0 +1,25 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * A rule that can test a whole column of {@code long}s at once, without boxing any of them. It must
+ * fail the same values that {@link RuleInterface#test(Object, Object[], RuleContext)} fails when
+ * given them boxed, unless documented otherwise.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface LongColumnRule {
+	/**
+	 * Tests every value of the column.
+	 *
+	 * @param values The column.
+	 * @param params The compiled parameters of the rule.
+	 * @param failed Where the row of every failing value is set.
+	 */
+	void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed);
+}
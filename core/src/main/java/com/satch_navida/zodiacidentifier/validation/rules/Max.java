@@ -0,0 +1,80 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Tests whether the {@code value} provided is no more than the provided validator value.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Max extends NumericRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Max} rule.
+	 */
+	public Max() {
+		super("The :key may not be greater than :max", "max");
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		Bounds bounds = NumericRule.boundsOf(params, this);
+
+		if (bounds.isIntegral()) {
+			long max = bounds.longAt(0);
+
+			for (int i = 0; i < values.length; i++)
+				if (values[i] > max)
+					failed.set(i);
+		}
+		else {
+			double max = bounds.doubleAt(0);
+
+			for (int i = 0; i < values.length; i++)
+				if (!(values[i] <= max))
+					failed.set(i);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull double[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		Bounds bounds = NumericRule.boundsOf(params, this);
+		double max = bounds.doubleAt(0);
+
+		for (int i = 0; i < values.length; i++)
+			if (!(values[i] <= max))
+				failed.set(i);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean accepts(long value, @NotNull Bounds bounds) {
+		return value <= bounds.longAt(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean accepts(double value, @NotNull Bounds bounds) {
+		return value <= bounds.doubleAt(0);
+	}
+}
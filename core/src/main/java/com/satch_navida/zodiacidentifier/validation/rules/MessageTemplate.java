@@ -0,0 +1,116 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A message with placeholders, such as {@code "The :key must be at least :min"}, parsed once into
+ * its literal text and placeholder names so it can be rendered without any regular expression.<br>
+ * <br>
+ * A placeholder is a colon followed by a name made of letters, digits, and underscores. Placeholders
+ * that can't be resolved are rendered as they were written.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class MessageTemplate {
+	// PRIVATE VARIABLES
+	/**
+	 * The literal text around the placeholders. There is always one more literal than placeholders,
+	 * the message being {@code literals[0] names[0] literals[1] ... literals[n]}.
+	 */
+	private final String[] literals;
+	private final String[] names;
+	private final String template;
+
+	// CONSTRUCTORS
+	private MessageTemplate(String template, String[] literals, String[] names) {
+		this.template = template;
+		this.literals = literals;
+		this.names = names;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Parses the given message into a template.
+	 *
+	 * @param template The message, with its placeholders.
+	 *
+	 * @return MessageTemplate The parsed template.
+	 */
+	public static MessageTemplate compile(@NotNull String template) {
+		List<String> literals = new ArrayList<String>();
+		List<String> names = new ArrayList<String>();
+		StringBuilder literal = new StringBuilder();
+		int pos = 0;
+
+		while (pos < template.length()) {
+			char c = template.charAt(pos);
+			int end = pos + 1;
+
+			if (c == ':')
+				while (end < template.length() && MessageTemplate.isNameChar(template.charAt(end)))
+					end++;
+
+			// A lone colon is just text.
+			if (end == pos + 1) {
+				literal.append(c);
+				pos++;
+				continue;
+			}
+
+			literals.add(literal.toString());
+			names.add(template.substring(pos + 1, end));
+			literal.setLength(0);
+			pos = end;
+		}
+
+		literals.add(literal.toString());
+
+		return new MessageTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]));
+	}
+
+	/**
+	 * Renders the message.
+	 *
+	 * @param placeholders Resolves the value of each placeholder by its name (without the colon),
+	 *                     or returns {@code null} to leave the placeholder as it is.
+	 *
+	 * @return String The rendered message.
+	 */
+	public String render(@NotNull Function<String, String> placeholders) {
+		if (this.names.length == 0)
+			return this.template;
+
+		StringBuilder message = new StringBuilder(this.template.length() + 16 * this.names.length);
+
+		for (int i = 0; i < this.names.length; i++) {
+			String value = placeholders.apply(this.names[i]);
+
+			message.append(this.literals[i]);
+			if (value == null)
+				message.append(':').append(this.names[i]);
+			else
+				message.append(value);
+		}
+
+		return message.append(this.literals[this.names.length]).toString();
+	}
+
+	/**
+	 * @return String The message as it was written.
+	 */
+	@Override
+	public String toString() {
+		return this.template;
+	}
+
+	// PRIVATE METHODS
+	private static boolean isNameChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+	}
+}
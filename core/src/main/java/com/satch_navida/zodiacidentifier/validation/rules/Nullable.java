@@ -0,0 +1,57 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+
+/**
+ * Allows the value to be null (or empty). When it is, the other rules of the field are skipped.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Nullable extends Rule implements RuleInterface, LongColumnRule, DoubleColumnRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Nullable} rule.
+	 */
+	public Nullable() {
+		super("The :key field can be null");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @org.jetbrains.annotations.Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive is never null, thus always lets the other rules run.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull double[] values, @org.jetbrains.annotations.Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive is never null, thus always lets the other rules run.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@org.jetbrains.annotations.Nullable Object value, @org.jetbrains.annotations.Nullable Object[] params, @NotNull RuleContext context) {
+		return RuleResult.pass(value != null && !value.toString().isEmpty());
+	}
+}
@@ -0,0 +1,83 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Tests whether the {@code value} provided is a number or can be converted to a number.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Numeric extends Rule implements RuleInterface, LongColumnRule, DoubleColumnRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Numeric} rule.
+	 */
+	public Numeric() {
+		super("The :key should be a number");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive is always a number.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull double[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive is always a number.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		if (Numeric.isNumeric(value))
+			return RuleResult.PASS;
+
+		return this.fail(value, params, context);
+	}
+
+	/**
+	 * Identifies whether the given value is a number or can be converted to a number.
+	 *
+	 * @param value The value in question.
+	 *
+	 * @return boolean Returns {@code true} if the value is numeric; {@code false} otherwise.
+	 */
+	public static boolean isNumeric(@Nullable Object value) {
+		if (value instanceof Number)
+			return true;
+		if (value == null)
+			return false;
+
+		try {
+			Double.parseDouble(value.toString());
+		} catch (NumberFormatException e) {
+			return false;
+		}
+
+		return true;
+	}
+}
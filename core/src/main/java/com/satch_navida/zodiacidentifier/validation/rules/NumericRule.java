@@ -0,0 +1,227 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+
+/**
+ * The base of the rules comparing a number against numeric bounds, such as {@link Min}, {@link Max}
+ * and {@link Between}.<br>
+ * <br>
+ * The bounds are parsed and checked only once, by {@link #compileParams(Object[])}, into a
+ * {@link Bounds} instance. Testing then only compares primitives: {@code long}s when both the value
+ * and the bounds are integers, and {@code double}s otherwise. Values that are already a
+ * {@link Number} are compared without creating any string. Whole columns of numbers are tested
+ * without boxing them, through {@link LongColumnRule} and {@link DoubleColumnRule}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public abstract class NumericRule extends Rule implements RuleInterface, LongColumnRule, DoubleColumnRule {
+	// PRIVATE VARIABLES
+	/**
+	 * The names of the bounds, used as the {@code :name} placeholders of the message.
+	 */
+	private final String[] boundNames;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link NumericRule}.
+	 *
+	 * @param message The default message of the rule.
+	 * @param boundNames The names of the bounds the rule takes, in order, such as {@code "min"}.
+	 */
+	protected NumericRule(@NotNull String message, @NotNull String... boundNames) {
+		super(message);
+		this.boundNames = boundNames;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Parses the bounds of this rule.
+	 *
+	 * @param params The bounds, as numbers or numeric strings.
+	 *
+	 * @return Object[] An array holding the parsed {@link Bounds} as its only value.
+	 *
+	 * @throws IllegalArgumentException When a bound is missing or is not a number.
+	 */
+	@Override
+	public Object[] compileParams(@Nullable Object[] params) {
+		if (params != null && params.length == 1 && params[0] instanceof Bounds)
+			return params;
+
+		Rule.requireParams(params, this.boundNames.length);
+		return new Object[] {new Bounds(params, this.boundNames.length)};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		Bounds bounds = NumericRule.boundsOf(params, this);
+
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			long number = ((Number) value).longValue();
+
+			if (bounds.integral ? this.accepts(number, bounds) : this.accepts((double) number, bounds))
+				return RuleResult.PASS;
+		}
+		else if (value instanceof Number) {
+			if (this.accepts(((Number) value).doubleValue(), bounds))
+				return RuleResult.PASS;
+		}
+		else if (value != null) {
+			try {
+				if (this.accepts(Double.parseDouble(value.toString()), bounds))
+					return RuleResult.PASS;
+			}
+			catch (NumberFormatException e) {
+				// Not a number, thus fails below.
+			}
+		}
+
+		return this.fail(value, params, context);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * Tests an integer against integer bounds.
+	 *
+	 * @param value The value in question.
+	 * @param bounds The bounds of the rule.
+	 *
+	 * @return boolean Returns {@code true} if the value is within the bounds.
+	 */
+	protected abstract boolean accepts(long value, @NotNull Bounds bounds);
+
+	/**
+	 * Tests a number against the bounds.
+	 *
+	 * @param value The value in question.
+	 * @param bounds The bounds of the rule.
+	 *
+	 * @return boolean Returns {@code true} if the value is within the bounds.
+	 */
+	protected abstract boolean accepts(double value, @NotNull Bounds bounds);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String resolvePlaceholder(String name, Object value, Object[] params, RuleContext context) {
+		for (int i = 0; i < this.boundNames.length; i++)
+			if (this.boundNames[i].equals(name))
+				return NumericRule.boundsOf(params, this).text(i);
+
+		return super.resolvePlaceholder(name, value, params, context);
+	}
+
+	/**
+	 * Fetches the compiled bounds, compiling them on the spot if the rule is tested outside of a
+	 * schema with raw parameters.
+	 *
+	 * @param params The parameters of the rule.
+	 * @param rule The rule.
+	 *
+	 * @return Bounds The compiled bounds.
+	 */
+	protected static Bounds boundsOf(@Nullable Object[] params, NumericRule rule) {
+		if (params != null && params.length == 1 && params[0] instanceof Bounds)
+			return (Bounds) params[0];
+
+		return (Bounds) rule.compileParams(params)[0];
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The parsed bounds of a {@link NumericRule}, kept both as primitives for testing and as text
+	 * for the messages.
+	 */
+	public static final class Bounds {
+		private final String[] texts;
+		private final double[] doubles;
+		private final long[] longs;
+		private final boolean integral;
+
+		private Bounds(Object[] params, int count) {
+			this.texts = new String[count];
+			this.doubles = new double[count];
+			this.longs = new long[count];
+
+			boolean integral = true;
+			for (int i = 0; i < count; i++) {
+				Object param = params[i];
+
+				if (!Numeric.isNumeric(param))
+					throw new IllegalArgumentException(MessageFormat.format("Incorrect validator value type:\tThe provided validator value ({0}) is not a number", param));
+
+				this.texts[i] = param.toString();
+
+				if (param instanceof Long || param instanceof Integer || param instanceof Short || param instanceof Byte) {
+					this.longs[i] = ((Number) param).longValue();
+					this.doubles[i] = this.longs[i];
+					continue;
+				}
+
+				this.doubles[i] = param instanceof Number ? ((Number) param).doubleValue() : Double.parseDouble(this.texts[i]);
+
+				try {
+					this.longs[i] = Long.parseLong(this.texts[i]);
+				}
+				catch (NumberFormatException e) {
+					integral = false;
+				}
+			}
+
+			this.integral = integral;
+		}
+
+		/**
+		 * @return double The bound at the given index.
+		 */
+		public double doubleAt(int index) {
+			return this.doubles[index];
+		}
+
+		/**
+		 * @return long The bound at the given index. Only meaningful when {@link #isIntegral()}.
+		 */
+		public long longAt(int index) {
+			return this.longs[index];
+		}
+
+		/**
+		 * @return boolean Returns {@code true} if every bound is an integer.
+		 */
+		public boolean isIntegral() {
+			return this.integral;
+		}
+
+		/**
+		 * @return String The bound at the given index, as it was written.
+		 */
+		public String text(int index) {
+			return this.texts[index];
+		}
+
+		@Override
+		public String toString() {
+			return String.join(",", this.texts);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Tests whether the {@code value} provided is present and a valid value.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Required extends Rule implements RuleInterface, LongColumnRule, DoubleColumnRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Required} rule.
+	 */
+	public Required() {
+		super("The :key field is required");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive is always present.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull double[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive is always present.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		if (value != null && !value.toString().isEmpty())
+			return RuleResult.PASS;
+
+		return this.fail(value, params, context);
+	}
+}
@@ -0,0 +1,102 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Tests whether the {@code value} provided is present when another field has one of the given
+ * values, such as {@code "RequiredIf:has_birth_date:yes:true"}. When the value isn't required and is
+ * missing, the other rules of the field are not run, as with {@link Sometimes}.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class RequiredIf extends Rule implements RuleInterface {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link RequiredIf} rule.
+	 */
+	public RequiredIf() {
+		super("The :key field is required when :other is :expected");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * Checks that both the other field and at least a value are given.
+	 *
+	 * @param params The name of the other field, then the values that make this field required.
+	 *
+	 * @return Object[] The parameters, as strings.
+	 *
+	 * @throws IllegalArgumentException When a parameter is missing.
+	 */
+	@Override
+	public Object[] compileParams(@Nullable Object[] params) {
+		Rule.requireParams(params, 2);
+
+		Object[] compiled = new Object[params.length];
+		for (int i = 0; i < params.length; i++)
+			compiled[i] = params[i].toString();
+
+		return compiled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] dependsOn(@Nullable Object[] params) {
+		return new String[] {params[0].toString()};
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		Rule.requireParams(params, 2);
+
+		boolean present = value != null && !value.toString().isEmpty();
+		if (present || !this.isRequired(params, context))
+			return RuleResult.pass(present);
+
+		return this.fail(value, params, context);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String resolvePlaceholder(String name, Object value, Object[] params, RuleContext context) {
+		switch (name) {
+			case "other": return params[0].toString();
+			case "expected": return String.join(", ", Arrays.copyOfRange(params, 1, params.length, String[].class));
+			default: return super.resolvePlaceholder(name, value, params, context);
+		}
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Identifies whether the other field has one of the values making this field required.
+	 */
+	private boolean isRequired(Object[] params, RuleContext context) {
+		Object other = context.getValue(params[0].toString());
+		if (other == null)
+			return false;
+
+		String actual = other.toString();
+		for (int i = 1; i < params.length; i++)
+			if (params[i].toString().equals(actual))
+				return true;
+
+		return false;
+	}
+}
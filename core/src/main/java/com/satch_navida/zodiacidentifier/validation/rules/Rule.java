@@ -0,0 +1,205 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.MessageFormat;
+
+/**
+ * The very base of any rules that will be used in the {@link com.satch_navida.zodiacidentifier.validation.Validator Validator} class.
+ * This class is an abstract class as each instance of the {@code Rule} class' children has
+ * their own unique conditions and thus, the abstractness of the design implemented.<br>
+ * <br>
+ * Rules are stateless and immutable. The value, its parameters, and its context are all given to
+ * {@link #test(Object, Object[], RuleContext)}, thus a single instance of each rule is shared across
+ * every field, value, and thread.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public abstract class Rule implements RuleInterface {
+	// PRIVATE VARIABLES
+	/**
+	 * The default message that will be displayed when the validation fails.
+	 */
+	private final String message;
+	/**
+	 * The default message, compiled.
+	 */
+	private final MessageTemplate template;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of {@link Rule} with its default message.
+	 *
+	 * @param message The message that will be displayed when the test fails, unless a custom
+	 *                message is given through the {@link RuleContext}.
+	 */
+	protected Rule(@NotNull String message) {
+		this.message = message;
+		this.template = MessageTemplate.compile(message);
+	}
+
+	/**
+	 * Creates an instance of {@link Rule} with a generic default message.
+	 */
+	protected Rule() {
+		this("The :key field is incorrect.");
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * @return String The default message of this rule.
+	 */
+	public String getMessage() {
+		return this.message;
+	}
+
+	/**
+	 * Prepares the parameters of this rule ahead of time, such as parsing and checking them. This is
+	 * called once for every use of the rule when its schema is compiled, and what it returns is what
+	 * {@link #test(Object, Object[], RuleContext)} receives as its {@code params} from then on. By
+	 * default, the parameters are kept as they are.
+	 *
+	 * @param params The parameters given to the rule, such as {@code "18"} in {@code "Min:18"}.
+	 *
+	 * @return Object[] The parameters to test the values with.
+	 *
+	 * @throws IllegalArgumentException When the parameters are invalid.
+	 */
+	public Object[] compileParams(@Nullable Object[] params) {
+		return params;
+	}
+
+	/**
+	 * Creates the failing {@link RuleResult} of this rule for a value that was found invalid without
+	 * calling {@link #test(Object, Object[], RuleContext)}, such as by a {@link LongColumnRule}, so
+	 * that its message can be rendered.
+	 *
+	 * @param value The value that failed.
+	 * @param params The parameters the value was tested against.
+	 * @param context The context of the value.
+	 *
+	 * @return RuleResult The failing result.
+	 */
+	public RuleResult failure(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		return this.fail(value, params, context);
+	}
+
+	/**
+	 * Identifies whether the outcome of this rule depends on nothing but the value and its compiled
+	 * parameters, such that testing the same value again always gives the same outcome. Only the
+	 * outcomes of pure rules may be reused by a {@link com.satch_navida.zodiacidentifier.validation.ValidationCache ValidationCache}.
+	 * Rules are not pure unless they say so.
+	 *
+	 * @return boolean Returns {@code true} if the rule is pure; {@code false} otherwise.
+	 */
+	public boolean isPure() {
+		return false;
+	}
+
+	/**
+	 * Names the other fields whose values this rule reads through {@link RuleContext#getValue(String)}.
+	 * A schema validates those fields before the field of this rule, and only runs the rules of the
+	 * field once they passed. Rules don't read any other field unless they say so.
+	 *
+	 * @param params The compiled parameters of the rule.
+	 *
+	 * @return String[] The names of the other fields, which is empty if the rule only reads its own value.
+	 */
+	public String[] dependsOn(@Nullable Object[] params) {
+		return new String[0];
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[%1$s]: {message: \"%2$s\"}",
+				this.getClass().getSimpleName(),
+				this.message
+		);
+	}
+
+	// PROTECTED METHODS
+
+	/**
+	 * Creates the failing {@link RuleResult} of this rule. Its message is only rendered once it is
+	 * asked for.
+	 *
+	 * @param value The value that was tested.
+	 * @param params The parameters the value was tested against.
+	 * @param context The context of the value.
+	 * @param runOtherValidations Whether to continue running the other rules of the field.
+	 *
+	 * @return RuleResult The failing result.
+	 */
+	protected RuleResult fail(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context, boolean runOtherValidations) {
+		return RuleResult.deferred(this, value, params, context, runOtherValidations);
+	}
+
+	/**
+	 * Creates the failing {@link RuleResult} of this rule, letting the other rules of the field run.
+	 *
+	 * @see #fail(Object, Object[], RuleContext, boolean)
+	 */
+	protected RuleResult fail(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		return this.fail(value, params, context, true);
+	}
+
+	/**
+	 * Resolves the value of a placeholder of the message, such as {@code :key} and {@code :value}.<br>
+	 * <br>
+	 * <i><b>NOTE:</b> Could be overridden to include custom pseudo-attributes such as {@code :min} and {@code :max}.
+	 * Just be sure to call the superclass' method for the names it doesn't know to keep the base placeholders.</i>
+	 *
+	 * @param name The name of the placeholder, without the colon.
+	 * @param value The value that was tested.
+	 * @param params The parameters the value was tested against.
+	 * @param context The context of the value.
+	 *
+	 * @return String The value of the placeholder, or {@code null} if there is no such placeholder.
+	 */
+	protected String resolvePlaceholder(String name, Object value, Object[] params, RuleContext context) {
+		switch (name) {
+			case "key": return context.getKey();
+			case "value": return String.valueOf(value);
+			default: return null;
+		}
+	}
+
+	/**
+	 * Checks that the given parameters contains at least the given number of values.
+	 *
+	 * @param params The parameters given to the rule.
+	 * @param count The number of parameters needed.
+	 *
+	 * @throws IllegalArgumentException When there are not enough parameters.
+	 */
+	protected static void requireParams(@Nullable Object[] params, int count) {
+		int length = params == null ? 0 : params.length;
+
+		if (length < count)
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Not enough validator value passed:\tNeeds {0}, only {1} is passed.",
+					count,
+					length
+			));
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Renders the message of a failure, using the custom message of the context if there's one.
+	 */
+	String renderMessage(Object value, Object[] params, RuleContext context) {
+		MessageTemplate template = context.getMessageTemplate();
+
+		return (template == null ? this.template : template)
+				.render((String name) -> this.resolvePlaceholder(name, value, params, context));
+	}
+}
@@ -0,0 +1,46 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+/**
+ * The context a {@link RuleInterface rule} is tested under, giving the rule access to what is
+ * being validated besides the value itself.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface RuleContext {
+	/**
+	 * @return String The unique identifier (ID) of the value being tested.
+	 */
+	String getKey();
+
+	/**
+	 * @return String The custom message to display when the test fails, or {@code null} to use the
+	 * rule's default message.
+	 */
+	String getMessage();
+
+	/**
+	 * Fetches the custom message as a template. Contexts that are reused should compile their
+	 * message only once and return the same template every time.
+	 *
+	 * @return MessageTemplate The custom message, or {@code null} to use the rule's default message.
+	 */
+	default MessageTemplate getMessageTemplate() {
+		String message = this.getMessage();
+		return message == null ? null : MessageTemplate.compile(message);
+	}
+
+	/**
+	 * Fetches the value of another field of the record being validated, such as the date a rule
+	 * compares its own value against. Only the fields a rule {@link Rule#dependsOn(Object[]) depends on}
+	 * are meant to be read.
+	 *
+	 * @param field The name of the other field.
+	 *
+	 * @return Object The value of the field, or {@code null} if it wasn't given or if the context
+	 * doesn't know the other fields, such as when validating a column.
+	 */
+	default Object getValue(String field) {
+		return null;
+	}
+}
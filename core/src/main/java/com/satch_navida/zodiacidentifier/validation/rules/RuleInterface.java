@@ -0,0 +1,30 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+/**
+ * The contract of every validation rule. Rules are stateless: everything a rule needs is given to
+ * {@link #test(Object, Object[], RuleContext)}, so that a single instance can be shared across all
+ * fields, values, and threads.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public interface RuleInterface {
+	/**
+	 *  Runs the validation of the rule.
+	 *
+	 * @param value The value that will be tested. May be {@code null}.
+	 * @param params An array of {@link Object}s that will be used to test against the {@code value}.
+	 *                  May be {@code null} when the rule has no parameters.
+	 * @param context The context of the value being tested.
+	 *
+	 * @return RuleResult The outcome of the validation, containing:
+	 * <ul>
+	 *     <li><b>{@code valid}</b> - Identifies whether the test passes or not.</li>
+	 *     <li><b>{@code message}</b> - Provides the error message when the test failed. Otherwise, returns an empty string.</li>
+	 *     <li><b>{@code runOtherValidation}</b> - Identifies whether to continue running other validations or stop at that last rule.</li>
+	 * </ul>
+	 *
+	 * @throws IllegalArgumentException When the {@code params} are not what the rule expects.
+	 */
+	RuleResult test(Object value, Object[] params, RuleContext context);
+}
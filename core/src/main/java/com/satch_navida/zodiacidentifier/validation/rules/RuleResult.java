@@ -0,0 +1,133 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+/**
+ * The outcome of a single {@link RuleInterface#test(Object, Object[], RuleContext) rule test}.
+ * Results are immutable, and passing results are shared through {@link #PASS} and
+ * {@link #PASS_AND_STOP}, so that only failures allocate a new instance.<br>
+ * <br>
+ * The message of a failure created by a {@link Rule} is only rendered the first time
+ * {@link #getMessage()} is called, so failures that are only counted never build a message. Until
+ * then, the result keeps a reference to the tested value.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class RuleResult {
+	// PUBLIC VARIABLES
+	/**
+	 * A passing result, letting the other rules of the field run.
+	 */
+	public static final RuleResult PASS = new RuleResult(true, "", true);
+
+	/**
+	 * A passing result, skipping the other rules of the field.
+	 */
+	public static final RuleResult PASS_AND_STOP = new RuleResult(true, "", false);
+
+	// PRIVATE VARIABLES
+	private final boolean valid;
+	private final boolean runOtherValidations;
+
+	/**
+	 * The rendered message, or {@code null} until a deferred message is rendered.
+	 */
+	private String message;
+
+	// What a deferred message is rendered from.
+	private final Rule rule;
+	private final Object value;
+	private final Object[] params;
+	private final RuleContext context;
+
+	// CONSTRUCTORS
+	private RuleResult(boolean valid, String message, boolean runOtherValidations) {
+		this.valid = valid;
+		this.message = message;
+		this.runOtherValidations = runOtherValidations;
+		this.rule = null;
+		this.value = null;
+		this.params = null;
+		this.context = null;
+	}
+
+	private RuleResult(Rule rule, Object value, Object[] params, RuleContext context, boolean runOtherValidations) {
+		this.valid = false;
+		this.runOtherValidations = runOtherValidations;
+		this.rule = rule;
+		this.value = value;
+		this.params = params;
+		this.context = context;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Fetches the shared passing result.
+	 *
+	 * @param runOtherValidations Whether to continue running the other rules of the field.
+	 *
+	 * @return RuleResult Either {@link #PASS} or {@link #PASS_AND_STOP}.
+	 */
+	public static RuleResult pass(boolean runOtherValidations) {
+		return runOtherValidations ? PASS : PASS_AND_STOP;
+	}
+
+	/**
+	 * Creates a failing result.
+	 *
+	 * @param message The error message of the failure.
+	 * @param runOtherValidations Whether to continue running the other rules of the field.
+	 *
+	 * @return RuleResult The failing result.
+	 */
+	public static RuleResult fail(String message, boolean runOtherValidations) {
+		return new RuleResult(false, message, runOtherValidations);
+	}
+
+	/**
+	 * Creates a failing result whose message is rendered by the given rule on first use.
+	 */
+	static RuleResult deferred(Rule rule, Object value, Object[] params, RuleContext context, boolean runOtherValidations) {
+		return new RuleResult(rule, value, params, context, runOtherValidations);
+	}
+
+	/**
+	 * @return boolean Whether the test passes or not.
+	 */
+	public boolean isValid() {
+		return this.valid;
+	}
+
+	/**
+	 * @return String The error message when the test failed. Otherwise, an empty string.
+	 */
+	public String getMessage() {
+		// Rendering twice on a race yields the same message, so no locking is needed.
+		String message = this.message;
+
+		if (message == null)
+			this.message = message = this.rule.renderMessage(this.value, this.params, this.context);
+
+		return message;
+	}
+
+	/**
+	 * @return boolean Whether to continue running the other rules of the field or stop at this one.
+	 */
+	public boolean shouldRunOtherValidations() {
+		return this.runOtherValidations;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"[RuleResult]: {valid: %1$b, message: \"%2$s\", runOtherValidation: %3$b}",
+				this.valid,
+				this.getMessage(),
+				this.runOtherValidations
+		);
+	}
+}
@@ -0,0 +1,59 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Works similar as the {@link Required} rule but only works if the value is present.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class Sometimes extends Rule implements RuleInterface, LongColumnRule, DoubleColumnRule {
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates an instance of the {@link Sometimes} rule.
+	 */
+	public Sometimes() {
+		super("The :key field is required to have a value, or leave it as blank");
+	}
+
+	// PUBLIC METHOD
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull long[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive always has a value, thus always lets the other rules run.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void testColumn(@NotNull double[] values, @Nullable Object[] params, @NotNull BitSet failed) {
+		// A primitive always has a value, thus always lets the other rules run.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPure() {
+		return true;
+	}
+
+	@Override
+	/**
+	 * {@inheritDoc}
+	 */
+	public RuleResult test(@Nullable Object value, @Nullable Object[] params, @NotNull RuleContext context) {
+		// Only runs the other rules when a value is present.
+		return RuleResult.pass(value != null && !value.toString().isEmpty());
+	}
+}
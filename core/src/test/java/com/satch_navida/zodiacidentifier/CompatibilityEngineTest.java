@@ -0,0 +1,128 @@
+package com.satch_navida.zodiacidentifier;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the aggregates and pairs of the {@link CompatibilityEngine} against comparing every pair
+ * of a group directly.
+ */
+public class CompatibilityEngineTest {
+	@Test
+	public void scoreOf_isSymmetricAndFavoursTheSameElement() {
+		for (int sign = 0; sign < 12; sign++) {
+			for (int other = 0; other < 12; other++)
+				assertEquals(CompatibilityTable.scoreOf(sign, other), CompatibilityTable.scoreOf(other, sign));
+
+			// The signs four apart share an element.
+			assertEquals(CompatibilityTable.MAX_SCORE - 5, CompatibilityTable.scoreOf(sign, (sign + 4) % 12));
+		}
+
+		assertEquals(SignTable.UNKNOWN, CompatibilityTable.scoreOf(SignTable.UNKNOWN, 0));
+	}
+
+	@Test
+	public void aggregates_matchComparingEveryPair() {
+		byte[] signs = CompatibilityEngineTest.group(1500);
+		CompatibilityEngine engine = new CompatibilityEngine(signs);
+
+		long[] distribution = new long[CompatibilityTable.MAX_SCORE + 1];
+		long[] aries = new long[CompatibilityTable.MAX_SCORE + 1];
+		long pairs = 0, unknown = 0;
+
+		for (int i = 0; i < signs.length; i++) {
+			if (signs[i] == SignTable.UNKNOWN) {
+				unknown++;
+				continue;
+			}
+
+			for (int j = i + 1; j < signs.length; j++) {
+				if (signs[j] == SignTable.UNKNOWN)
+					continue;
+
+				distribution[CompatibilityTable.scoreOf(signs[i], signs[j])]++;
+				pairs++;
+			}
+		}
+
+		// The scores of the first Aries with everyone else.
+		int first = 0;
+		while (signs[first] != 0)
+			first++;
+
+		for (int j = 0; j < signs.length; j++)
+			if (j != first && signs[j] != SignTable.UNKNOWN)
+				aries[CompatibilityTable.scoreOf(0, signs[j])]++;
+
+		assertEquals(unknown, engine.unknown());
+		assertEquals(pairs, engine.pairs());
+		assertArrayEquals(distribution, engine.scoreDistribution());
+		assertArrayEquals(aries, engine.scoreDistributionOf(0));
+	}
+
+	@Test
+	public void topMatches_ranksTheSignsOfTheGroupByScore() {
+		// Two Aries, a Leo, a Sagittarius and a Taurus.
+		CompatibilityEngine engine = new CompatibilityEngine(new byte[] {0, 4, 0, 8, 1, SignTable.UNKNOWN});
+		CompatibilityEngine.Match[] matches = engine.topMatches(0, 3);
+
+		assertEquals(3, matches.length);
+		assertEquals(4, matches[0].sign());
+		assertEquals(8, matches[1].sign());
+		assertEquals(0, matches[2].sign());
+		assertEquals(1, matches[2].count());
+
+		// Nobody else is a Leo, nor a Gemini.
+		for (CompatibilityEngine.Match match : engine.topMatches(4, 12))
+			assertTrue(match.sign() != 4 && match.sign() != 2);
+	}
+
+	@Test
+	public void pairs_streamsEveryPairScoringEnough() {
+		byte[] signs = CompatibilityEngineTest.group(600);
+		CompatibilityEngine engine = new CompatibilityEngine(signs);
+
+		for (int minScore : new int[] {0, 60, 85, CompatibilityTable.MAX_SCORE}) {
+			Set<Long> expected = new HashSet<Long>();
+
+			for (int i = 0; i < signs.length; i++)
+				for (int j = i + 1; j < signs.length; j++)
+					if (CompatibilityTable.scoreOf(signs[i], signs[j]) >= minScore)
+						expected.add((long) i * signs.length + j);
+
+			Set<Long> actual = new HashSet<Long>();
+			CompatibilityEngine.PairCursor cursor = engine.pairs(minScore);
+			int previousScore = CompatibilityTable.MAX_SCORE;
+
+			while (cursor.next()) {
+				int first = Math.min(cursor.first(), cursor.second());
+				int second = Math.max(cursor.first(), cursor.second());
+
+				assertEquals(CompatibilityTable.scoreOf(signs[first], signs[second]), cursor.score());
+				assertTrue(cursor.score() <= previousScore);
+				assertTrue(actual.add((long) first * signs.length + second));
+				previousScore = cursor.score();
+			}
+
+			assertEquals(expected, actual);
+		}
+	}
+
+	/**
+	 * @return byte[] The signs of a random group, a few of which are unknown.
+	 */
+	private static byte[] group(int size) {
+		Random random = new Random(42);
+		byte[] signs = new byte[size];
+
+		for (int i = 0; i < size; i++)
+			signs[i] = (byte) (random.nextInt(50) == 0 ? SignTable.UNKNOWN : random.nextInt(12));
+
+		return signs;
+	}
+}
@@ -0,0 +1,65 @@
+package com.satch_navida.zodiacidentifier;
+
+import com.satch_navida.zodiacidentifier.validation.rules.Date;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks {@link DateCodec} against {@link java.time} for every supported format.
+ */
+public class DateCodecTest {
+	@Test
+	public void parse_matchesJavaTimeForEveryFourDigitFormat() {
+		for (String pattern : Date.FORMATS) {
+			if (!pattern.contains("yyyy"))
+				continue;
+
+			DateCodec.Format format = DateCodec.forPattern(pattern);
+			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+
+			for (LocalDate d = LocalDate.of(1896, 1, 1); d.getYear() < 2105; d = d.plusDays(1)) {
+				String value = formatter.format(d);
+				int packed = format.parse(value);
+
+				assertEquals(value, d.getYear() * 10000 + d.getMonthValue() * 100 + d.getDayOfMonth(), packed);
+				assertEquals(value, d.toEpochDay(), DateCodec.toEpochDay(packed));
+				assertEquals(value, value, format.format(packed));
+			}
+		}
+	}
+
+	@Test
+	public void parse_resolvesTwoDigitYearsWithinTheCenturyWindow() {
+		int start = LocalDate.now().getYear() - 80;
+		DateCodec.Format format = DateCodec.forPattern("MM/dd/yy");
+
+		for (int yy = 0; yy < 100; yy++) {
+			int year = DateCodec.year(format.parse(String.format("01/02/%02d", yy)));
+
+			assertEquals(yy, year % 100);
+			assertTrue(year >= start && year < start + 100);
+		}
+	}
+
+	@Test
+	public void parse_rejectsInvalidDates() {
+		DateCodec.Format format = DateCodec.forPattern("MM/dd/yyyy");
+
+		assertEquals(DateCodec.INVALID, format.parse(""));
+		assertEquals(DateCodec.INVALID, format.parse("02/30/2024"));
+		assertEquals(DateCodec.INVALID, format.parse("02/29/2023"));
+		assertEquals(DateCodec.INVALID, format.parse("13/01/2024"));
+		assertEquals(DateCodec.INVALID, format.parse("01-01-2024"));
+		assertEquals(DateCodec.INVALID, format.parse("01/01/24"));
+		assertEquals(DateCodec.INVALID, format.parse("01/01/20245"));
+		assertEquals(DateCodec.INVALID, format.parse("1a/01/2024"));
+		assertEquals(20240105, format.parse("1/5/2024"));
+		assertEquals(DateCodec.INVALID_EPOCH_DAY, format.parseEpochDay("00/01/2024"));
+		assertNull(DateCodec.forPattern("yyyy-MM-dd"));
+	}
+}
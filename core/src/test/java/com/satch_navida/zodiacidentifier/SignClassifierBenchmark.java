@@ -0,0 +1,67 @@
+package com.satch_navida.zodiacidentifier;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A throughput benchmark for {@link SignClassifier}, reporting the records per second for an
+ * increasing number of cores. Run it through its {@code main} method from the IDE or with
+ * {@code java -cp}, as timing results are not meaningful as part of the unit tests.
+ */
+public class SignClassifierBenchmark {
+	private static final int RECORDS = 50_000_000;
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) {
+		Random random = new Random(42);
+		int[] packed = new int[RECORDS];
+		long[] epochDays = new long[RECORDS];
+		byte[] signs = new byte[RECORDS];
+
+		for (int i = 0; i < RECORDS; i++) {
+			long epochDay = random.nextInt(365 * 100) - 365 * 30;
+			java.time.LocalDate d = java.time.LocalDate.ofEpochDay(epochDay);
+
+			packed[i] = d.getYear() * 10000 + d.getMonthValue() * 100 + d.getDayOfMonth();
+			epochDays[i] = epochDay;
+		}
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+			double packedRate = SignClassifierBenchmark.measure(() -> SignClassifier.classify(packed, signs, pool));
+			double epochDayRate = SignClassifierBenchmark.measure(() -> SignClassifier.classify(epochDays, signs, pool));
+
+			System.out.printf(
+					Locale.US,
+					"cores: %2d | yyyymmdd: %,8.1f M/s (%,6.1f M/s per core) | epoch days: %,8.1f M/s (%,6.1f M/s per core)%n",
+					parallelism,
+					packedRate / 1e6,
+					packedRate / 1e6 / parallelism,
+					epochDayRate / 1e6,
+					epochDayRate / 1e6 / parallelism
+			);
+
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Runs the given work for a few rounds, returning the best records per second observed.
+	 */
+	private static double measure(Runnable work) {
+		double best = 0;
+
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			work.run();
+			long elapsed = System.nanoTime() - start;
+
+			best = Math.max(best, RECORDS / (elapsed / 1e9));
+		}
+
+		return best;
+	}
+}
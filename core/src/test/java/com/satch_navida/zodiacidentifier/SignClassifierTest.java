@@ -0,0 +1,53 @@
+package com.satch_navida.zodiacidentifier;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the bulk classification of {@link SignClassifier} against {@link SignTable}.
+ */
+public class SignClassifierTest {
+	@Test
+	public void classify_matchesSignTableAcrossSplits() {
+		// Spans a few centuries so the input is split across the pool.
+		LocalDate start = LocalDate.of(1900, 1, 1);
+		int size = SignClassifier.THRESHOLD * 3 + 7;
+		int[] packed = new int[size];
+		long[] epochDays = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			LocalDate d = start.plusDays(i);
+			packed[i] = d.getYear() * 10000 + d.getMonthValue() * 100 + d.getDayOfMonth();
+			epochDays[i] = d.toEpochDay();
+		}
+
+		byte[] fromPacked = new byte[size];
+		byte[] fromEpochDays = new byte[size];
+		SignClassifier.classify(packed, fromPacked);
+		SignClassifier.classify(epochDays, fromEpochDays);
+
+		for (int i = 0; i < size; i++) {
+			LocalDate d = start.plusDays(i);
+			int expected = SignTable.signOf(d.getMonthValue(), d.getDayOfMonth());
+
+			assertEquals(d.toString(), expected, fromPacked[i]);
+			assertEquals(d.toString(), expected, fromEpochDays[i]);
+		}
+	}
+
+	@Test
+	public void classify_marksInvalidPackedDatesAsUnknown() {
+		byte[] signs = new byte[6];
+		SignClassifier.classify(new int[] {20241301, 20240230, 20240229, 20230229, 19000229, 20000229}, signs);
+
+		assertEquals(SignTable.UNKNOWN, signs[0]);
+		assertEquals(SignTable.UNKNOWN, signs[1]);
+		assertEquals(SignTable.signOf(2, 29), signs[2]);
+		assertEquals(SignTable.UNKNOWN, signs[3]);
+		assertEquals(SignTable.UNKNOWN, signs[4]);
+		assertEquals(SignTable.signOf(2, 29), signs[5]);
+	}
+}
@@ -0,0 +1,63 @@
+package com.satch_navida.zodiacidentifier;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@link SignTable} against the sign boundaries used by {@link Zodiac}.
+ */
+public class SignTableTest {
+	@Test
+	public void signOf_matchesBoundariesForEveryDay() {
+		// 2024 is a leap year, covering all 366 days of the table.
+		for (LocalDate d = LocalDate.of(2024, 1, 1); d.getYear() == 2024; d = d.plusDays(1)) {
+			int month = d.getMonthValue();
+			int day = d.getDayOfMonth();
+
+			assertEquals(d.toString(), expectedSign(month, day), SignTable.nameOf(SignTable.signOf(month, day)));
+		}
+	}
+
+	@Test
+	public void signOf_rejectsNonExistingDays() {
+		assertEquals(SignTable.UNKNOWN, SignTable.signOf(0, 1));
+		assertEquals(SignTable.UNKNOWN, SignTable.signOf(13, 1));
+		assertEquals(SignTable.UNKNOWN, SignTable.signOf(1, 0));
+		assertEquals(SignTable.UNKNOWN, SignTable.signOf(2, 30));
+		assertEquals(SignTable.UNKNOWN, SignTable.signOf(4, 31));
+		assertNull(SignTable.nameOf(SignTable.UNKNOWN));
+	}
+
+	@Test
+	public void dayOfLeapYear_countsEveryDayOfALeapYear() {
+		for (LocalDate d = LocalDate.of(2024, 1, 1); d.getYear() == 2024; d = d.plusDays(1))
+			assertEquals(d.toString(), d.getDayOfYear() - 1, SignTable.dayOfLeapYear(d.getMonthValue(), d.getDayOfMonth()));
+
+		assertEquals(SignTable.UNKNOWN, SignTable.dayOfLeapYear(2, 30));
+		assertEquals(SignTable.UNKNOWN, SignTable.dayOfLeapYear(13, 1));
+	}
+
+	/**
+	 * The month by month boundaries, as previously written in {@link Zodiac}.
+	 */
+	private static String expectedSign(int month, int day) {
+		switch (month) {
+			case 1: return day >= 20 ? "Aquarius" : "Capricorn";
+			case 2: return day >= 18 ? "Pisces" : "Aquarius";
+			case 3: return day >= 20 ? "Aries" : "Pisces";
+			case 4: return day >= 20 ? "Taurus" : "Aries";
+			case 5: return day >= 21 ? "Gemini" : "Taurus";
+			case 6: return day >= 21 ? "Cancer" : "Gemini";
+			case 7: return day >= 22 ? "Leo" : "Cancer";
+			case 8: return day >= 23 ? "Virgo" : "Leo";
+			case 9: return day >= 23 ? "Libra" : "Virgo";
+			case 10: return day >= 23 ? "Scorpio" : "Libra";
+			case 11: return day >= 22 ? "Sagittarius" : "Scorpio";
+			case 12: return day >= 21 ? "Capricorn" : "Sagittarius";
+			default: return null;
+		}
+	}
+}
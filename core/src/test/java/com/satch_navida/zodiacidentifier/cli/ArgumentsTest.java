@@ -0,0 +1,41 @@
+package com.satch_navida.zodiacidentifier.cli;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that {@link Arguments} reads the values of the options, and names the option it fails on.
+ */
+public class ArgumentsTest {
+	@Test
+	public void values_areReadInOrder() {
+		Arguments args = new Arguments(new String[] {"generate", "--rows", "10000000000", "--threads", "1, 4", "--malformed", "0.25", "out.csv"}, 1);
+
+		assertEquals("--rows", args.next());
+		assertEquals(10_000_000_000L, args.longValue("--rows"));
+		assertEquals("--threads", args.next());
+		assertArrayEquals(new int[] {1, 4}, args.intValues("--threads"));
+		assertEquals("--malformed", args.next());
+		assertEquals(0.25, args.doubleValue("--malformed"), 0);
+		assertEquals("out.csv", args.next());
+		assertFalse(args.hasNext());
+	}
+
+	@Test
+	public void values_nameTheOptionTheyFailOn() {
+		try {
+			new Arguments(new String[] {"abc"}, 0).intValue("--workers");
+			fail("A value that isn't a number should be rejected.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Expected --workers to be a number, but got \"abc\".", e.getMessage());
+		}
+
+		try {
+			new Arguments(new String[] {"--output"}, 1).value("--output");
+			fail("A missing value should be rejected.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Missing value for --output.", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that a {@link BatchValidator} agrees with a {@link Validator} per record.
+ */
+public class BatchValidatorTest {
+	private static final ValidationSchema SCHEMA = ValidationSchema.compile(
+			Collections.singletonMap("birth_date", new String[] {"Required", "Date:MM/dd/yyyy"})
+	);
+
+	@Test
+	public void validate_matchesValidatorForEveryRecord() {
+		List<Map<String, Object>> records = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < 50_000; i++) {
+			Map<String, Object> record = new HashMap<String, Object>();
+			record.put("birth_date", i % 5 == 0 ? "" : i % 7 == 0 ? "02/30/2001" : String.format("%02d/%02d/1990", i % 12 + 1, i % 28 + 1));
+			records.add(record);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		BitSet failed = new BitSet();
+		BatchResult result = new BatchValidator(SCHEMA, pool, 1000, 8).validate(records, (index, record, valid) -> {
+			if (!valid) {
+				synchronized (failed) {
+					failed.set((int) index);
+				}
+			}
+		});
+		pool.shutdown();
+
+		long expectedFailures = 0, expectedRequired = 0, expectedDate = 0;
+		for (int i = 0; i < records.size(); i++) {
+			Validator validator = new Validator(records.get(i), SCHEMA);
+			Map<String, String> errors = validator.errors().get("birth_date");
+
+			assertEquals("Record " + i, validator.fails(), failed.get(i));
+			expectedFailures += validator.fails() ? 1 : 0;
+			expectedRequired += errors != null && errors.containsKey("Required") ? 1 : 0;
+			expectedDate += errors != null && errors.containsKey("Date") ? 1 : 0;
+		}
+
+		assertEquals(records.size(), result.total());
+		assertEquals(expectedFailures, result.failed());
+		assertEquals(expectedFailures, result.failuresOf("birth_date"));
+		assertEquals(expectedRequired, result.failuresOf("birth_date", "Required"));
+		assertEquals(expectedDate, result.failuresOf("birth_date", "Date"));
+	}
+
+	@Test
+	public void validate_acceptsIterators() {
+		List<Map<String, Object>> records = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < 10; i++)
+			records.add(Collections.singletonMap("birth_date", i < 3 ? "" : "01/01/2000"));
+
+		BatchResult result = new BatchValidator(SCHEMA).validate(records.iterator(), null);
+
+		assertEquals(10, result.total());
+		assertEquals(7, result.passed());
+		assertEquals(3, result.failuresOf("birth_date", "Required"));
+	}
+
+	@Test
+	public void validate_waitsForTheChunksInFlightWhenTheExecutorRejects() throws Exception {
+		List<Map<String, Object>> records = new ArrayList<Map<String, Object>>();
+		for (int i = 0; i < 10; i++)
+			records.add(Collections.singletonMap("birth_date", "01/01/2000"));
+
+		AtomicInteger submitted = new AtomicInteger();
+		AtomicInteger validated = new AtomicInteger();
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+
+		// Runs the first chunk slowly, then rejects the next one.
+		Executor executor = (Runnable task) -> {
+			if (submitted.getAndIncrement() > 0)
+				throw new RejectedExecutionException("Saturated");
+
+			pool.execute(() -> {
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+
+				task.run();
+			});
+		};
+
+		try {
+			new BatchValidator(SCHEMA, executor, 5, 4).validate(records, (index, record, valid) -> validated.incrementAndGet());
+			fail("The rejection should be rethrown.");
+		} catch (RejectedExecutionException e) {
+			assertEquals(5, validated.get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
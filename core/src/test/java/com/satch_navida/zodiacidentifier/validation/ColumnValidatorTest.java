@@ -0,0 +1,94 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that validating a column gives the same outcome as validating each of its values on their own.
+ */
+public class ColumnValidatorTest {
+	@Test
+	public void validate_longs_matchesTheValidator() {
+		ValidationSchema schema = ColumnValidatorTest.schema("age", "Required", "Numeric", "Between:0:120", "Min:18");
+		long[] ages = new Random(7).longs(2000, -50, 200).toArray();
+		ColumnResult result = new ColumnValidator(schema, "age").validate(ages);
+
+		for (int row = 0; row < ages.length; row++)
+			ColumnValidatorTest.assertSameOutcome(schema, "age", row, ages[row], result);
+
+		assertEquals(result.failed("Between").cardinality() + result.failed("Min").cardinality() - ColumnValidatorTest.and(result.failed("Between"), result.failed("Min")), result.failedCount());
+	}
+
+	@Test
+	public void validate_doubles_matchesTheValidator() {
+		ValidationSchema schema = ColumnValidatorTest.schema("height", "Bail", "Min:0.5", "Max:2.5");
+		double[] heights = new Random(11).doubles(2000, -1, 4).toArray();
+		heights[0] = Double.NaN;
+
+		ColumnResult result = new ColumnValidator(schema, "height").validate(heights);
+
+		for (int row = 0; row < heights.length; row++)
+			ColumnValidatorTest.assertSameOutcome(schema, "height", row, heights[row], result);
+
+		assertTrue(result.failed().get(0));
+		assertEquals(result.failedCount(), result.errors().keys().length);
+	}
+
+	@Test
+	public void validate_objects_skipsLikeTheValidator() {
+		ValidationSchema schema = ColumnValidatorTest.schema("birth_date", "Nullable", "Date:MM/dd/yyyy");
+		Object[] dates = {"01/15/2000", null, "", "02/30/2000", "13/01/2000"};
+		ColumnResult result = new ColumnValidator(schema, "birth_date").validate(dates);
+
+		for (int row = 0; row < dates.length; row++)
+			ColumnValidatorTest.assertSameOutcome(schema, "birth_date", row, dates[row], result);
+
+		assertEquals("The birth_date must be a valid date", result.errors().first("birth_date.3"));
+	}
+
+	@Test
+	public void validate_epochDays_onlyFailsInvalidDays() {
+		ValidationSchema schema = ColumnValidatorTest.schema("birth_date", "Required", "Date:MM/dd/yyyy");
+		DateCodec.Format format = DateCodec.forPattern("MM/dd/yyyy");
+		long[] days = {format.parseEpochDay("01/15/2000"), format.parseEpochDay("02/30/2000"), 0};
+
+		ColumnResult result = new ColumnValidator(schema, "birth_date").validate(days);
+
+		BitSet expected = new BitSet();
+		expected.set(1);
+		assertEquals(expected, result.failed());
+		assertArrayEquals(new String[] {"birth_date.1"}, result.errors().keys());
+	}
+
+	private static void assertSameOutcome(ValidationSchema schema, String field, int row, Object value, ColumnResult result) {
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put(field, value);
+		Validator validator = new Validator(values, schema);
+
+		assertEquals("Row " + row + " (" + value + ")", validator.fails(), result.failed().get(row));
+
+		Map<String, String> expected = validator.errors().get(field);
+		Map<String, String> actual = result.errors().get(field + "." + row);
+		assertEquals("Row " + row + " (" + value + ")", expected == null ? Collections.emptyMap() : expected, actual == null ? Collections.emptyMap() : actual);
+	}
+
+	private static ValidationSchema schema(String field, String... rules) {
+		return ValidationSchema.compile(Collections.singletonMap(field, rules));
+	}
+
+	private static int and(BitSet a, BitSet b) {
+		BitSet both = (BitSet) a.clone();
+		both.and(b);
+
+		return both.cardinality();
+	}
+}
@@ -0,0 +1,78 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the ordering, thread safety and merging of the {@link MessageBag}.
+ */
+public class MessageBagTest {
+	@Test
+	public void first_returnsTheFirstMessageAdded() {
+		MessageBag bag = new MessageBag();
+		String[] rules = {"Zeta", "Required", "Alpha", "Date", "Min"};
+
+		for (String rule : rules)
+			bag.add("birth_date." + rule, rule + " failed");
+
+		assertEquals("Zeta failed", bag.first("birth_date"));
+		assertEquals("Date failed", bag.get("birth_date", 3));
+		assertEquals(Arrays.asList(rules), new ArrayList<String>(bag.get("birth_date").keySet()));
+	}
+
+	@Test
+	public void add_keepsTheFieldNameBeforeTheLastDot() {
+		MessageBag bag = new MessageBag().add("people.0.birth_date.Date", "Not a date");
+
+		assertArrayEquals(new String[] {"people.0.birth_date"}, bag.keys());
+		assertEquals("Not a date", bag.get("people.0.birth_date", "Date"));
+		assertEquals("", bag.get("people.1.birth_date", "Date"));
+	}
+
+	@Test
+	public void add_acceptsConcurrentWriters() throws Exception {
+		MessageBag bag = new MessageBag();
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+
+		for (int t = 0; t < 4; t++) {
+			int worker = t;
+			futures.add(pool.submit(() -> {
+				for (int i = 0; i < 5000; i++)
+					bag.add("field" + i + ".Rule" + worker, "message");
+			}));
+		}
+
+		for (Future<?> future : futures)
+			future.get();
+		pool.shutdown();
+
+		assertEquals(5000, bag.keys().length);
+		for (String key : bag.keys())
+			assertEquals(4, bag.get(key).size());
+	}
+
+	@Test
+	public void merge_combinesThousandsOfBagsInOrder() {
+		List<MessageBag> bags = new ArrayList<MessageBag>();
+		for (int i = 0; i < 5000; i++)
+			bags.add(new MessageBag().add("record" + i + ".Required", "Missing").add("record" + (i / 2) + ".Date", () -> "Invalid"));
+
+		MessageBag merged = new MessageBag().merge(bags);
+		String[] keys = merged.keys();
+
+		assertEquals(5000, keys.length);
+		assertEquals("record0", keys[0]);
+		assertEquals("record4999", keys[4999]);
+		assertEquals("Invalid", merged.get("record10", "Date"));
+		assertEquals("Missing", merged.first("record10"));
+	}
+}
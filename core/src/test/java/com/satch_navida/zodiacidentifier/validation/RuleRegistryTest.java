@@ -0,0 +1,104 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.Rule;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleContext;
+import com.satch_navida.zodiacidentifier.validation.rules.RuleResult;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the lookups of the {@link RuleRegistry}, and the rules added through a {@link RuleProvider}.
+ */
+public class RuleRegistryTest {
+	@Test
+	public void defaults_holdTheBuiltInAndProvidedRules() {
+		RuleRegistry registry = RuleRegistry.defaults();
+
+		assertTrue(registry.names().contains("Date"));
+		assertTrue(registry.names().contains("Even"));
+		assertSame(registry.get("Date"), RuleRegistry.defaults().get("Date"));
+
+		ValidationSchema schema = ValidationSchema.compile(Collections.singletonMap("count", new String[] {"Required", "Even"}));
+		assertFalse(new Validator(RuleRegistryTest.values("count", 4), schema).fails());
+		assertEquals("The count must be even", new Validator(RuleRegistryTest.values("count", 3), schema).errors().first("count"));
+	}
+
+	@Test
+	public void compile_suggestsTheClosestRule() {
+		try {
+			ValidationSchema.compile(Collections.singletonMap("birth_date", new String[] {"Requried"}));
+			fail("A misspelled rule should not compile.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Unknown rule \"Requried\" for the field \"birth_date\". Did you mean \"Required\"?", e.getMessage());
+		}
+	}
+
+	@Test
+	public void compile_onlyUsesTheGivenRegistry() {
+		RuleRegistry registry = RuleRegistry.builder().register("Even", EvenRule::new).build();
+		Map<String, String[]> rules = Collections.singletonMap("count", new String[] {"Even"});
+
+		assertTrue(new Validator(RuleRegistryTest.values("count", 3), ValidationSchema.compile(rules, null, registry)).fails());
+
+		try {
+			ValidationSchema.compile(Collections.singletonMap("count", new String[] {"Required"}), null, registry);
+			fail("Rules outside of the registry should not compile.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().startsWith("Unknown rule \"Required\""));
+		}
+	}
+
+	@Test
+	public void register_rejectsDuplicateAndInvalidNames() {
+		RuleRegistry.Builder builder = RuleRegistry.builder().registerBuiltIns();
+
+		for (String name : new String[] {"Date", "Bail", "Min:1", ""}) {
+			try {
+				builder.register(name, EvenRule::new);
+				fail("The name \"" + name + "\" should not be registered.");
+			} catch (IllegalArgumentException e) {
+				// Expected.
+			}
+		}
+	}
+
+	private static Map<String, Object> values(String field, Object value) {
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put(field, value);
+
+		return values;
+	}
+
+	/**
+	 * Tests whether the value is an even integer.
+	 */
+	public static class EvenRule extends Rule {
+		public EvenRule() {
+			super("The :key must be even");
+		}
+
+		@Override
+		public RuleResult test(Object value, Object[] params, RuleContext context) {
+			if (value instanceof Number && ((Number) value).longValue() % 2 == 0)
+				return RuleResult.PASS;
+
+			return this.fail(value, params, context);
+		}
+	}
+
+	/**
+	 * Provides the {@link EvenRule}, registered through the test resources.
+	 */
+	public static class EvenProvider implements RuleProvider {
+		@Override
+		public void registerRules(RuleRegistry.Builder registry) {
+			registry.register("Even", EvenRule::new);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that a {@link ValidationCache} gives the same outcomes as running the rules, and that it
+ * stays within its bounds.
+ */
+public class ValidationCacheTest {
+	private static final ValidationSchema SCHEMA = ValidationSchema.compile(
+			new HashMap<String, String[]>() {{
+				this.put("birth_date", new String[] {"Required", "Date:MM/dd/yyyy"});
+			}},
+			new HashMap<String, String>() {{
+				this.put("birth_date.Date", "The :key is not in :format");
+			}}
+	);
+
+	@Test
+	public void withCache_reusesTheOutcomesOfRepeatedValues() {
+		ValidationCache cache = new ValidationCache();
+		ValidationSchema schema = ValidationCacheTest.SCHEMA.withCache(cache);
+		String[] dates = {"01/15/2000", "02/30/2000", "", "01/15/2000", "02/30/2000", ""};
+
+		for (String date : dates) {
+			Validator cached = new Validator(ValidationCacheTest.record(date), schema);
+			Validator uncached = new Validator(ValidationCacheTest.record(date), ValidationCacheTest.SCHEMA);
+
+			assertEquals(uncached.fails(), cached.fails());
+			assertEquals(uncached.errors().toString(), cached.errors().toString());
+		}
+
+		assertEquals(3, cache.hits());
+		assertEquals(3, cache.misses());
+		assertEquals(3, cache.size());
+		assertEquals("The birth_date is not in MM/dd/yyyy", new Validator(ValidationCacheTest.record("02/30/2000"), schema).errors().first("birth_date"));
+	}
+
+	@Test
+	public void withCache_skipsValuesThatMayChange() {
+		ValidationCache cache = new ValidationCache();
+		ValidationSchema schema = ValidationCacheTest.SCHEMA.withCache(cache);
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put("birth_date", new StringBuilder("01/15/2000"));
+
+		assertFalse(new Validator(values, schema).fails());
+		assertFalse(new Validator(values, schema).fails());
+		assertEquals(0, cache.hits() + cache.misses());
+	}
+
+	@Test
+	public void cache_evictsTheLeastRecentlyUsedOutcome() {
+		ValidationCache cache = new ValidationCache(2);
+		ValidationSchema schema = ValidationCacheTest.SCHEMA.withCache(cache);
+
+		for (String date : new String[] {"01/01/2000", "01/02/2000", "01/01/2000", "01/03/2000", "01/01/2000", "01/02/2000"})
+			new Validator(ValidationCacheTest.record(date), schema).fails();
+
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.evictions());
+		assertEquals(2, cache.hits());
+		assertEquals(4, cache.misses());
+	}
+
+	@Test
+	public void withCache_stillStopsOnFirstFailure() {
+		ValidationSchema schema = ValidationCacheTest.SCHEMA.withCache(new ValidationCache()).stopOnFirstFailure();
+
+		for (int i = 0; i < 2; i++) {
+			MessageBag errors = new Validator(ValidationCacheTest.record(""), schema).errors();
+
+			assertEquals("The birth_date field is required", errors.first("birth_date"));
+			assertEquals(1, errors.get("birth_date").size());
+		}
+	}
+
+	private static Map<String, Object> record(String date) {
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put("birth_date", date);
+
+		return values;
+	}
+}
@@ -0,0 +1,92 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks what a {@link ValidationListener} is told, through the {@link ValidationMetrics}.
+ */
+public class ValidationMetricsTest {
+	private static final ValidationSchema SCHEMA = ValidationSchema.compile(new LinkedHashMap<String, String[]>() {{
+		this.put("birth_date", new String[] {"Bail", "Required", "Date:MM/dd/yyyy"});
+		this.put("age", new String[] {"Nullable", "Numeric", "Min:0"});
+	}});
+
+	@Test
+	public void listener_countsEveryRuleAndField() {
+		ValidationMetrics metrics = new ValidationMetrics();
+		ValidationSchema schema = ValidationMetricsTest.SCHEMA.withListener(metrics);
+
+		assertFalse(new Validator(ValidationMetricsTest.record("01/15/2000", "20"), schema).fails());
+		assertTrue(new Validator(ValidationMetricsTest.record("", ""), schema).fails());
+		assertTrue(new Validator(ValidationMetricsTest.record("02/30/2000", "-1"), schema).fails());
+
+		assertEquals(2, metrics.rule("birth_date.Required").passed());
+		assertEquals(1, metrics.rule("birth_date.Required").failed());
+		assertEquals(1, metrics.rule("birth_date.Date").failed());
+		assertEquals(1, metrics.rule("age.Min").failed());
+		assertEquals(1, metrics.field("birth_date").passed());
+		assertEquals(2, metrics.field("birth_date").failed());
+		assertEquals(3, metrics.field("birth_date").latency().count());
+
+		// The empty birth date bails before its date, and the empty age skips its number rules.
+		assertEquals(1, metrics.skipped(ValidationListener.Skip.BAIL));
+		assertEquals(2, metrics.skipped(ValidationListener.Skip.RULE));
+		assertTrue(metrics.toString().contains("rule birth_date.Date: 1 passed, 1 failed"));
+	}
+
+	@Test
+	public void listener_reportsCacheLookups() {
+		ValidationMetrics metrics = new ValidationMetrics();
+		ValidationSchema schema = ValidationMetricsTest.SCHEMA.withCache(new ValidationCache()).withListener(metrics);
+
+		for (int i = 0; i < 3; i++)
+			new Validator(ValidationMetricsTest.record("01/15/2000", "20"), schema).fails();
+
+		assertEquals(2, metrics.field("birth_date").cacheHits());
+		assertEquals(1, metrics.field("birth_date").cacheMisses());
+		assertEquals(1, metrics.rule("birth_date.Date").passed());
+		assertEquals(3, metrics.field("birth_date").passed());
+	}
+
+	@Test
+	public void listener_reportsStoppingOnFirstFailure() {
+		ValidationMetrics metrics = new ValidationMetrics();
+		ValidationSchema schema = ValidationSchema.compile(new HashMap<String, String[]>() {{
+			this.put("birth_date", new String[] {"Required", "Date:MM/dd/yyyy"});
+		}}).stopOnFirstFailure().withListener(metrics);
+
+		assertTrue(new Validator(ValidationMetricsTest.record("", "20"), schema).fails());
+
+		assertEquals(1, metrics.skipped(ValidationListener.Skip.STOP));
+		assertNull(metrics.rule("birth_date.Date"));
+	}
+
+	@Test
+	public void histogram_estimatesPercentilesWithinAFactorOfTwo() {
+		ValidationMetrics metrics = new ValidationMetrics();
+
+		for (int i = 1; i <= 100; i++)
+			metrics.fieldValidated("field", true, i * 100);
+
+		ValidationMetrics.Histogram latency = metrics.field("field").latency();
+		assertEquals(100, latency.count());
+		assertEquals(10000, latency.max());
+		assertEquals(5050, latency.mean(), 0.001);
+		assertTrue(latency.percentile(50) >= 5000 && latency.percentile(50) < 10000);
+		assertEquals(10000, latency.percentile(100));
+	}
+
+	private static Map<String, Object> record(String birthDate, String age) {
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put("birth_date", birthDate);
+		values.put("age", age);
+
+		return values;
+	}
+}
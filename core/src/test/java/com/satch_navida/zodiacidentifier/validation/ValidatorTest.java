@@ -0,0 +1,311 @@
+package com.satch_navida.zodiacidentifier.validation;
+
+import com.satch_navida.zodiacidentifier.validation.rules.Date;
+import com.satch_navida.zodiacidentifier.validation.rules.Required;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@link Validator} using the same rules as the birth date form.
+ */
+public class ValidatorTest {
+	private static final ValidationSchema SCHEMA = ValidationSchema.compile(
+			Collections.singletonMap("birth_date", new String[] {"Required", "Date:MM/dd/yyyy"}),
+			Collections.singletonMap("birth_date.Date", "Birth date should be a date.")
+	);
+
+	@Test
+	public void validate_passesValidDates() {
+		Validator validator = new Validator(values("02/29/2024"), SCHEMA);
+
+		assertFalse(validator.fails());
+		assertEquals("02/29/2024", validator.validate().get("birth_date"));
+		assertEquals(0, validator.invalidFields().length);
+	}
+
+	@Test
+	public void validate_failsInvalidDatesWithTheCustomMessage() {
+		Validator validator = new Validator(values("02/30/2024"), SCHEMA);
+
+		assertTrue(validator.fails());
+		assertEquals("Birth date should be a date.", validator.errors().first("birth_date"));
+		assertEquals(0, validator.validFields().length);
+	}
+
+	@Test
+	public void schema_isReusableAcrossValidators() {
+		for (int i = 0; i < 100; i++)
+			assertEquals(i % 2 != 0, new Validator(values(i % 2 == 0 ? "01/01/2000" : ""), SCHEMA).fails());
+	}
+
+	@Test
+	public void schema_isSharedAcrossThreads() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+
+		for (int i = 0; i < 1000; i++) {
+			String date = i % 3 == 0 ? "13/01/2000" : String.format("%02d/15/1999", i % 12 + 1);
+			results.add(pool.submit(() -> new Validator(values(date), SCHEMA).fails() == date.startsWith("13")));
+		}
+
+		for (Future<Boolean> result : results)
+			assertTrue(result.get());
+
+		pool.shutdown();
+	}
+
+	@Test
+	public void compile_rejectsUnknownRules() {
+		try {
+			ValidationSchema.compile(Collections.singletonMap("birth_date", new String[] {"Requird"}));
+			fail("An unknown rule should not compile.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("Requird"));
+		}
+	}
+
+	@Test
+	public void compile_rejectsInvalidBounds() {
+		try {
+			ValidationSchema.compile(Collections.singletonMap("age", new String[] {"Min:abc"}));
+			fail("A non-numeric bound should not compile.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("age"));
+		}
+	}
+
+	@Test
+	public void compile_rejectsUnsupportedDateFormats() {
+		try {
+			ValidationSchema.compile(Collections.singletonMap("birth_date", new String[] {"Date:yyyy.MM.dd"}));
+			fail("An unsupported date format should not compile.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("yyyy.MM.dd"));
+		}
+	}
+
+	@Test
+	public void validate_rendersTheCompiledDateFormat() {
+		ValidationSchema schema = ValidationSchema.compile(
+				Collections.singletonMap("birth_date", new String[] {"Date:dd-MM-yyyy"}),
+				Collections.singletonMap("birth_date.Date", "Use :format.")
+		);
+
+		assertEquals("Use dd-MM-yyyy.", new Validator(values("21/03/1990"), schema).errors().first("birth_date"));
+	}
+
+	@Test
+	public void builder_matchesTheCompiledRuleStrings() {
+		ValidationSchema built = ValidationSchema.builder()
+				.field("birth_date")
+				.bail()
+				.rule("Required", new Required())
+				.rule("Date", new Date(), "MM/dd/yyyy")
+				.message("Not a :format date")
+				.build();
+		ValidationSchema compiled = ValidationSchema.compile(
+				Collections.singletonMap("birth_date", new String[] {"Bail", "Required", "Date:MM/dd/yyyy"}),
+				Collections.singletonMap("birth_date.Date", "Not a :format date")
+		);
+
+		for (String date : new String[] {"", "02/30/2000", "01/15/2000"})
+			assertEquals(new Validator(values(date), compiled).errors().toString(), new Validator(values(date), built).errors().toString());
+	}
+
+	@Test
+	public void bail_skipsTheRemainingRulesOfTheField() {
+		ValidationSchema bailing = ValidationSchema.compile(
+				Collections.singletonMap("birth_date", new String[] {"Bail", "Required", "Date:MM/dd/yyyy"})
+		);
+
+		Map<String, String> errors = new Validator(values(""), bailing).errors().get("birth_date");
+		assertEquals(Collections.singleton("Required"), errors.keySet());
+
+		errors = new Validator(values(""), SCHEMA).errors().get("birth_date");
+		assertEquals(2, errors.size());
+	}
+
+	@Test
+	public void nullable_skipsTheRemainingRulesWhenEmpty() {
+		ValidationSchema optional = ValidationSchema.compile(
+				Collections.singletonMap("birth_date", new String[] {"Nullable", "Date:MM/dd/yyyy"})
+		);
+
+		assertFalse(new Validator(values(""), optional).fails());
+		assertTrue(new Validator(values("13/01/2000"), optional).fails());
+	}
+
+	@Test
+	public void stopOnFirstFailure_leavesTheRemainingFieldsUnvalidated() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("birth_date", new String[] {"Required", "Date:MM/dd/yyyy"});
+		rules.put("age", new String[] {"Numeric"});
+		rules.put("height", new String[] {"Numeric"});
+		ValidationSchema stopping = ValidationSchema.compile(rules).stopOnFirstFailure();
+
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put("birth_date", "");
+		values.put("age", "abc");
+		values.put("height", "170");
+		values.put("note", "no rules");
+
+		Validator validator = new Validator(values, stopping);
+		assertTrue(validator.fails());
+		assertArrayEquals(new String[] {"birth_date"}, validator.invalidFields());
+		assertArrayEquals(new String[] {"note"}, validator.validFields());
+		assertEquals(Collections.singleton("Required"), validator.errors().get("birth_date").keySet());
+
+		// The original schema still runs every rule.
+		validator = new Validator(values, ValidationSchema.compile(rules));
+		assertEquals(2, validator.invalidFields().length);
+		assertEquals(2, validator.validFields().length);
+	}
+
+	@Test
+	public void before_readsTheOtherFieldOnceItPassed() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("birth_date", new String[] {"Required", "Before:signup_date:MM/dd/yyyy"});
+		rules.put("signup_date", new String[] {"Required", "Date:MM/dd/yyyy"});
+		ValidationSchema schema = ValidationSchema.compile(rules);
+
+		assertEquals(Collections.singleton("signup_date"), schema.inputsOf("birth_date"));
+		assertFalse(new Validator(dates("01/15/2000", "03/01/2024"), schema).fails());
+
+		Validator after = new Validator(dates("03/02/2024", "03/01/2024"), schema);
+		assertArrayEquals(new String[] {"birth_date"}, after.invalidFields());
+		assertEquals("The birth_date must be a date before signup_date", after.errors().first("birth_date"));
+
+		// The birth date is neither valid nor invalid when the date it is compared to failed.
+		Validator invalidSignup = new Validator(dates("01/15/2000", "13/01/2024"), schema);
+		assertArrayEquals(new String[] {"signup_date"}, invalidSignup.invalidFields());
+		assertEquals(0, invalidSignup.validFields().length);
+	}
+
+	@Test
+	public void requiredIf_onlyRequiresTheValueForTheGivenValues() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("birth_date", new String[] {"RequiredIf:has_birth_date:yes:true", "Date:MM/dd/yyyy"});
+		ValidationSchema schema = ValidationSchema.compile(rules);
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("birth_date", "");
+		values.put("has_birth_date", "no");
+		assertFalse(new Validator(values, schema).fails());
+
+		values.put("has_birth_date", "true");
+		Validator validator = new Validator(values, schema);
+		assertTrue(validator.fails());
+		assertEquals("The birth_date field is required when has_birth_date is yes, true", validator.errors().first("birth_date"));
+	}
+
+	@Test
+	public void compile_rejectsFieldsReadingEachOther() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("birth_date", new String[] {"Before:signup_date:MM/dd/yyyy"});
+		rules.put("signup_date", new String[] {"After:birth_date:MM/dd/yyyy"});
+
+		try {
+			ValidationSchema.compile(rules);
+			fail("Fields reading each other should be rejected.");
+		}
+		catch (IllegalArgumentException e) {
+			assertEquals("The rules of the fields read each other in a cycle: \"birth_date\" -> \"signup_date\" -> \"birth_date\".", e.getMessage());
+		}
+	}
+
+	@Test
+	public void withPool_matchesTheCallingThread() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+
+		for (int i = 0; i < 32; i++) {
+			rules.put("date_" + i, new String[] {"Required", "Date:MM/dd/yyyy", "After:date_" + (i + 32) + ":MM/dd/yyyy"});
+			rules.put("date_" + (i + 32), new String[] {"Required", "Date:MM/dd/yyyy"});
+			values.put("date_" + i, String.format("%02d/15/2000", i % 14 + 1));
+			values.put("date_" + (i + 32), i % 5 == 0 ? "" : "06/01/2000");
+		}
+
+		ValidationSchema schema = ValidationSchema.compile(rules);
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			Validator expected = new Validator(values, schema);
+			Validator actual = new Validator(values, schema.withPool(pool));
+
+			assertArrayEquals(expected.invalidFields(), actual.invalidFields());
+			assertEquals(expected.errors().toString(), actual.errors().toString());
+			assertEquals(expected.validate(), actual.validate());
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void wildcard_validatesEveryNestedValueUnderItsOwnKey() {
+		ValidationSchema schema = ValidationSchema.compile(
+				Collections.singletonMap("people.*.birth_date", new String[] {"Bail", "Required", "Date:MM/dd/yyyy"}),
+				Collections.singletonMap("people.*.birth_date.Date", "The :key should be a date.")
+		);
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("people", Arrays.asList(
+				Collections.singletonMap("birth_date", "01/15/2000"),
+				Collections.singletonMap("birth_date", "02/30/2000"),
+				Collections.emptyMap()
+		));
+
+		Validator validator = new Validator(values, schema);
+		assertArrayEquals(new String[] {"people.1.birth_date", "people.2.birth_date"}, validator.invalidFields());
+		assertEquals("The people.1.birth_date should be a date.", validator.errors().first("people.1.birth_date"));
+		assertEquals(Collections.singleton("Required"), validator.errors().get("people.2.birth_date").keySet());
+		assertEquals("01/15/2000", validator.validate().get("people.0.birth_date"));
+		assertEquals(0, validator.validFields().length);
+	}
+
+	@Test
+	public void wildcard_readsTheOtherFieldOfTheSameRow() {
+		Map<String, String[]> rules = new LinkedHashMap<String, String[]>();
+		rules.put("people.*.birth_date", new String[] {"Before:people.*.signup_date:MM/dd/yyyy"});
+		rules.put("people.*.signup_date", new String[] {"Date:MM/dd/yyyy"});
+		ValidationSchema schema = ValidationSchema.compile(rules);
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("people", new Object[] {
+				dates("01/15/2000", "03/01/2024"),
+				dates("03/02/2024", "03/01/2024"),
+				dates("03/02/2024", "13/01/2024")
+		});
+
+		// The signup dates are validated first, and the last birth date isn't, as its own signup date failed.
+		Validator validator = new Validator(values, schema);
+		assertArrayEquals(new String[] {"people.2.signup_date", "people.1.birth_date"}, validator.invalidFields());
+		assertEquals("The people.1.birth_date must be a date before people.*.signup_date", validator.errors().first("people.1.birth_date"));
+	}
+
+	private static Map<String, Object> values(String birthDate) {
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("birth_date", birthDate);
+		return values;
+	}
+
+	private static Map<String, Object> dates(String birthDate, String signupDate) {
+		Map<String, Object> values = values(birthDate);
+		values.put("signup_date", signupDate);
+		return values;
+	}
+}
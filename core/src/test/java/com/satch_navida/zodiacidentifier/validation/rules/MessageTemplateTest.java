@@ -0,0 +1,59 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the parsing and rendering of {@link MessageTemplate}s, and that failures only render
+ * their message once it is asked for.
+ */
+public class MessageTemplateTest {
+	@Test
+	public void render_replacesKnownPlaceholdersOnly() {
+		MessageTemplate template = MessageTemplate.compile("The :key must be between :min and :max: got :value at 10:30.");
+
+		String message = template.render((String name) -> name.equals("key") ? "age" : name.equals("min") ? "$1" : name.equals("value") ? "99" : null);
+
+		assertEquals("The age must be between $1 and :max: got 99 at 10:30.", message);
+	}
+
+	@Test
+	public void render_returnsTheTemplateWithoutPlaceholders() {
+		MessageTemplate template = MessageTemplate.compile("Nothing to see: here");
+
+		assertSame(template.toString(), template.render((String name) -> "x"));
+	}
+
+	@Test
+	public void fail_rendersTheMessageOnlyOnceAskedFor() {
+		AtomicInteger renders = new AtomicInteger();
+		RuleContext context = new RuleContext() {
+			@Override
+			public String getKey() {
+				return "birth_date";
+			}
+
+			@Override
+			public String getMessage() {
+				return "The :key is required.";
+			}
+
+			@Override
+			public MessageTemplate getMessageTemplate() {
+				renders.incrementAndGet();
+				return MessageTemplate.compile(this.getMessage());
+			}
+		};
+
+		RuleResult result = new Required().test("", null, context);
+		assertFalse(result.isValid());
+		assertEquals(0, renders.get());
+
+		assertEquals("The birth_date is required.", result.getMessage());
+		assertEquals("The birth_date is required.", result.getMessage());
+		assertEquals(1, renders.get());
+	}
+}
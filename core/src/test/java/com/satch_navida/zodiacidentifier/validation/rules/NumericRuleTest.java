@@ -0,0 +1,72 @@
+package com.satch_navida.zodiacidentifier.validation.rules;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@link Min}, {@link Max} and {@link Between} rules against compiled and raw bounds.
+ */
+public class NumericRuleTest {
+	private static final RuleContext CONTEXT = new RuleContext() {
+		@Override
+		public String getKey() {
+			return "age";
+		}
+
+		@Override
+		public String getMessage() {
+			return null;
+		}
+	};
+
+	@Test
+	public void test_comparesNumbersAndNumericStrings() {
+		Object[] bounds = new Between().compileParams(new Object[] {"18", "65"});
+
+		for (Object value : new Object[] {18, 30L, 65.0, (short) 40, "18", "64.5"})
+			assertTrue(String.valueOf(value), new Between().test(value, bounds, CONTEXT).isValid());
+
+		for (Object value : new Object[] {17, 66L, 65.01, "abc", "", null})
+			assertFalse(String.valueOf(value), new Between().test(value, bounds, CONTEXT).isValid());
+	}
+
+	@Test
+	public void test_comparesLargeLongsExactly() {
+		Object[] bounds = new Max().compileParams(new Object[] {"9007199254740993"});
+
+		assertTrue(new Max().test(9007199254740993L, bounds, CONTEXT).isValid());
+		assertFalse(new Max().test(9007199254740994L, bounds, CONTEXT).isValid());
+	}
+
+	@Test
+	public void test_acceptsRawBoundsOutsideOfASchema() {
+		assertTrue(new Min().test(21, new Object[] {"21"}, CONTEXT).isValid());
+		assertFalse(new Min().test(20.5, new Object[] {21}, CONTEXT).isValid());
+	}
+
+	@Test
+	public void compileParams_rejectsMissingOrNonNumericBounds() {
+		try {
+			new Between().compileParams(new Object[] {"1"});
+			fail("Between needs two bounds.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("Needs 2"));
+		}
+
+		try {
+			new Min().compileParams(new Object[] {"eighteen"});
+			fail("A bound must be a number.");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("eighteen"));
+		}
+	}
+
+	@Test
+	public void fail_rendersTheBoundsAsWritten() {
+		Object[] bounds = new Between().compileParams(new Object[] {"1.5", "10"});
+
+		assertEquals("The age must be between 1.5 and 10", new Between().test(11, bounds, CONTEXT).getMessage());
+		assertEquals("The age must be at least 18", new Min().test(3, new Min().compileParams(new Object[] {"18"}), CONTEXT).getMessage());
+	}
+}
@@ -0,0 +1,392 @@
+package com.satch_navida.zodiacidentifier.processor;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.validation.annotations.Bail;
+import com.satch_navida.zodiacidentifier.validation.annotations.Between;
+import com.satch_navida.zodiacidentifier.validation.annotations.Boolean;
+import com.satch_navida.zodiacidentifier.validation.annotations.Date;
+import com.satch_navida.zodiacidentifier.validation.annotations.Field;
+import com.satch_navida.zodiacidentifier.validation.annotations.Max;
+import com.satch_navida.zodiacidentifier.validation.annotations.Min;
+import com.satch_navida.zodiacidentifier.validation.annotations.Nullable;
+import com.satch_navida.zodiacidentifier.validation.annotations.Numeric;
+import com.satch_navida.zodiacidentifier.validation.annotations.Required;
+import com.satch_navida.zodiacidentifier.validation.annotations.Sometimes;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a validation schema for every class whose fields are annotated with the rules of the
+ * {@code validation.annotations} package, such as:
+ * <pre>
+ * public class BirthDateForm {
+ *     &#64;Field("birth_date") &#64;Bail &#64;Required &#64;Date(format = "MM/dd/yyyy")
+ *     String birthDate;
+ * }
+ * </pre>
+ * The generated {@code BirthDateFormSchema} class holds the compiled {@code SCHEMA}, built out of
+ * direct references to the rules, and reads the values of a form by accessing its fields (or their
+ * getters, for private fields) directly. There is thus no reflection and no rule looked up by
+ * name, and the rules that no form uses can be stripped by a shrinker.<br>
+ * <br>
+ * The rules of a field are run in the order their annotations are written. The parameters of the
+ * rules, such as the date formats and numeric bounds, are checked at compile time.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public class ValidationProcessor extends AbstractProcessor {
+	// PRIVATE VARIABLES
+	private static final String RULES_PACKAGE = "com.satch_navida.zodiacidentifier.validation.rules";
+	private static final String VALIDATION_PACKAGE = "com.satch_navida.zodiacidentifier.validation";
+
+	/**
+	 * The annotations of the rules, keyed by their name, which is also the name of their rule class.
+	 */
+	private static final Map<String, String> RULES = new LinkedHashMap<String, String>() {
+		{
+			this.put(Between.class.getCanonicalName(), "Between");
+			this.put(Boolean.class.getCanonicalName(), "Boolean");
+			this.put(Date.class.getCanonicalName(), "Date");
+			this.put(Max.class.getCanonicalName(), "Max");
+			this.put(Min.class.getCanonicalName(), "Min");
+			this.put(Nullable.class.getCanonicalName(), "Nullable");
+			this.put(Numeric.class.getCanonicalName(), "Numeric");
+			this.put(Required.class.getCanonicalName(), "Required");
+			this.put(Sometimes.class.getCanonicalName(), "Sometimes");
+		}
+	};
+
+	// PUBLIC METHODS
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		Set<String> types = new LinkedHashSet<String>(ValidationProcessor.RULES.keySet());
+		types.add(Bail.class.getCanonicalName());
+		types.add(Field.class.getCanonicalName());
+
+		return types;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		Set<TypeElement> forms = new LinkedHashSet<TypeElement>();
+
+		for (TypeElement annotation : annotations)
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+				if (element.getKind() == ElementKind.FIELD)
+					forms.add((TypeElement) element.getEnclosingElement());
+
+		for (TypeElement form : forms) {
+			try {
+				this.generate(form);
+			}
+			catch (IOException e) {
+				this.error(form, MessageFormat.format("Could not write the schema of {0}: {1}", form.getQualifiedName(), e.getMessage()));
+			}
+		}
+
+		return true;
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Writes the schema class of a form.
+	 */
+	private void generate(TypeElement form) throws IOException {
+		if (form.getModifiers().contains(Modifier.PRIVATE) || form.getNestingKind() == NestingKind.LOCAL || form.getNestingKind() == NestingKind.ANONYMOUS
+				|| (form.getNestingKind() == NestingKind.MEMBER && !form.getModifiers().contains(Modifier.STATIC))) {
+			this.error(form, "Validated forms must be top-level or static nested classes that are not private.");
+			return;
+		}
+
+		String packageName = this.processingEnv.getElementUtils().getPackageOf(form).getQualifiedName().toString();
+		String schemaName = ValidationProcessor.flatName(form) + "Schema";
+		String formName = form.getQualifiedName().toString();
+
+		StringBuilder schema = new StringBuilder();
+		StringBuilder values = new StringBuilder();
+		boolean valid = true;
+		int fieldCount = 0;
+
+		for (VariableElement field : ElementFilter.fieldsIn(form.getEnclosedElements())) {
+			List<AnnotationMirror> rules = new ArrayList<AnnotationMirror>();
+			boolean bail = false;
+
+			for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+				String type = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+
+				if (ValidationProcessor.RULES.containsKey(type))
+					rules.add(mirror);
+				else if (type.equals(Bail.class.getCanonicalName()))
+					bail = true;
+			}
+
+			if (rules.isEmpty() && !bail)
+				continue;
+
+			String accessor = this.accessorOf(form, field);
+			if (accessor == null) {
+				valid = false;
+				continue;
+			}
+
+			Field named = field.getAnnotation(Field.class);
+			String name = named == null ? field.getSimpleName().toString() : named.value();
+
+			schema.append("\t\t\t.field(").append(ValidationProcessor.literal(name)).append(")\n");
+			if (bail)
+				schema.append("\t\t\t.bail()\n");
+
+			for (AnnotationMirror rule : rules) {
+				String call = this.ruleOf(field, rule);
+
+				if (call == null)
+					valid = false;
+				else
+					schema.append(call);
+			}
+
+			values.append("\t\tvalues.put(").append(ValidationProcessor.literal(name)).append(", form.").append(accessor).append(");\n");
+			fieldCount++;
+		}
+
+		if (!valid || fieldCount == 0)
+			return;
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty())
+			source.append("package ").append(packageName).append(";\n\n");
+
+		source
+			.append("import ").append(ValidationProcessor.VALIDATION_PACKAGE).append(".ValidationSchema;\n")
+			.append("import ").append(ValidationProcessor.VALIDATION_PACKAGE).append(".Validator;\n\n")
+			.append("import java.util.LinkedHashMap;\n")
+			.append("import java.util.Map;\n\n")
+			.append("/**\n")
+			.append(" * The validation schema of {@link ").append(formName).append("}, generated from its annotations.\n")
+			.append(" */\n")
+			.append("public final class ").append(schemaName).append(" {\n")
+			.append("\t/**\n")
+			.append("\t * The compiled rules of {@link ").append(formName).append("}.\n")
+			.append("\t */\n")
+			.append("\tpublic static final ValidationSchema SCHEMA = ValidationSchema.builder()\n")
+			.append(schema)
+			.append("\t\t\t.build();\n\n")
+			.append("\tprivate ").append(schemaName).append("() {\n")
+			.append("\t}\n\n")
+			.append("\t/**\n")
+			.append("\t * Reads the values of the validated fields of a form, keyed by their field name.\n")
+			.append("\t */\n")
+			.append("\tpublic static Map<String, Object> values(").append(formName).append(" form) {\n")
+			.append("\t\tMap<String, Object> values = new LinkedHashMap<String, Object>(").append(Math.max(4, fieldCount * 2)).append(");\n")
+			.append(values)
+			.append("\n\t\treturn values;\n")
+			.append("\t}\n\n")
+			.append("\t/**\n")
+			.append("\t * Creates a validator of the values of a form.\n")
+			.append("\t */\n")
+			.append("\tpublic static Validator validator(").append(formName).append(" form) {\n")
+			.append("\t\treturn new Validator(").append(schemaName).append(".values(form), ").append(schemaName).append(".SCHEMA);\n")
+			.append("\t}\n")
+			.append("}\n");
+
+		String qualifiedName = packageName.isEmpty() ? schemaName : packageName + "." + schemaName;
+		try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, form).openWriter()) {
+			writer.write(source.toString());
+		}
+	}
+
+	/**
+	 * Fetches how the generated code reads the value of a field: the field itself, or its getter
+	 * when the field is private.
+	 *
+	 * @return String The expression after {@code form.}, or {@code null} if the field can't be read.
+	 */
+	private String accessorOf(TypeElement form, VariableElement field) {
+		if (field.getModifiers().contains(Modifier.STATIC)) {
+			this.error(field, "Validated fields must not be static.");
+			return null;
+		}
+
+		if (!field.getModifiers().contains(Modifier.PRIVATE))
+			return field.getSimpleName().toString();
+
+		String name = field.getSimpleName().toString();
+		String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+		for (ExecutableElement method : ElementFilter.methodsIn(form.getEnclosedElements())) {
+			String methodName = method.getSimpleName().toString();
+
+			if (method.getParameters().isEmpty()
+					&& !method.getModifiers().contains(Modifier.PRIVATE)
+					&& !method.getModifiers().contains(Modifier.STATIC)
+					&& (methodName.equals("get" + suffix) || methodName.equals("is" + suffix)))
+				return methodName + "()";
+		}
+
+		this.error(field, MessageFormat.format("The private field \"{0}\" needs a getter to be validated.", name));
+		return null;
+	}
+
+	/**
+	 * Writes the builder call adding the given rule, checking its parameters.
+	 *
+	 * @return String The builder call, or {@code null} if the rule is invalid.
+	 */
+	private String ruleOf(VariableElement field, AnnotationMirror annotation) {
+		String type = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+		String rule = ValidationProcessor.RULES.get(type);
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet())
+			values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+
+		List<String> params = new ArrayList<String>();
+		switch (rule) {
+			case "Date": {
+				String format = (String) values.get("format");
+
+				if (DateCodec.forPattern(format) == null) {
+					this.error(field, annotation, MessageFormat.format("Unsupported date format: {0}", format));
+					return null;
+				}
+
+				params.add(ValidationProcessor.literal(format));
+				break;
+			}
+			case "Min":
+			case "Max":
+				params.add(ValidationProcessor.literal((Double) values.get("value")));
+				break;
+			case "Between": {
+				double min = (Double) values.get("min");
+				double max = (Double) values.get("max");
+
+				if (min > max) {
+					this.error(field, annotation, MessageFormat.format("The minimum ({0}) is greater than the maximum ({1}).", min, max));
+					return null;
+				}
+
+				params.add(ValidationProcessor.literal(min));
+				params.add(ValidationProcessor.literal(max));
+				break;
+			}
+			default:
+				break;
+		}
+
+		StringBuilder call = new StringBuilder("\t\t\t.rule(")
+			.append(ValidationProcessor.literal(rule))
+			.append(", new ").append(ValidationProcessor.RULES_PACKAGE).append('.').append(rule).append("()");
+
+		for (String param : params)
+			call.append(", ").append(param);
+		call.append(")\n");
+
+		String message = (String) values.get("message");
+		if (message != null && !message.isEmpty())
+			call.append("\t\t\t.message(").append(ValidationProcessor.literal(message)).append(")\n");
+
+		return call.toString();
+	}
+
+	private void error(Element element, String message) {
+		this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private void error(Element element, AnnotationMirror annotation, String message) {
+		this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+	}
+
+	/**
+	 * Fetches the name of a class without its package, nested classes being joined by underscores.
+	 */
+	private static String flatName(TypeElement type) {
+		String name = type.getSimpleName().toString();
+		Element enclosing = type.getEnclosingElement();
+
+		while (!(enclosing instanceof PackageElement)) {
+			name = enclosing.getSimpleName() + "_" + name;
+			enclosing = enclosing.getEnclosingElement();
+		}
+
+		return name;
+	}
+
+	/**
+	 * Writes a number as a Java literal, integers being written as {@code long}s so that they are
+	 * compared as such.
+	 */
+	private static String literal(double value) {
+		if (value == Math.rint(value) && Math.abs(value) < (1L << 53))
+			return (long) value + "L";
+
+		return Double.toString(value);
+	}
+
+	/**
+	 * Writes a string as a Java literal.
+	 */
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			switch (c) {
+				case '"': literal.append("\\\""); break;
+				case '\\': literal.append("\\\\"); break;
+				case '\n': literal.append("\\n"); break;
+				case '\r': literal.append("\\r"); break;
+				case '\t': literal.append("\\t"); break;
+				default:
+					if (c < 0x20 || c > 0x7e)
+						literal.append(String.format("\\u%04x", (int) c));
+					else
+						literal.append(c);
+			}
+		}
+
+		return literal.append('"').toString();
+	}
+}
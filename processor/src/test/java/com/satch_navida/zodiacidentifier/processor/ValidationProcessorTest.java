@@ -0,0 +1,139 @@
+package com.satch_navida.zodiacidentifier.processor;
+
+import com.satch_navida.zodiacidentifier.validation.Validator;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compiles annotated forms with the {@link ValidationProcessor}, then validates them with the
+ * generated schemas.
+ */
+public class ValidationProcessorTest {
+	private static final String FORM = String.join("\n",
+			"package forms;",
+			"",
+			"import com.satch_navida.zodiacidentifier.validation.annotations.*;",
+			"",
+			"public class BirthForm {",
+			"	@Field(\"birth_date\") @Bail @Required(message = \"The \\\"birth date\\\" is required.\") @Date(format = \"MM/dd/yyyy\")",
+			"	public String birthDate;",
+			"",
+			"	@Nullable @Between(min = 0, max = 150)",
+			"	private Integer age;",
+			"",
+			"	public Integer getAge() {",
+			"		return this.age;",
+			"	}",
+			"",
+			"	public String unvalidated;",
+			"}"
+	);
+
+	@Test
+	public void generatedSchema_validatesTheForm() throws Exception {
+		Path dir = Files.createTempDirectory("processor");
+		DiagnosticCollector<JavaFileObject> diagnostics = ValidationProcessorTest.compile(dir, ValidationProcessorTest.FORM);
+		assertTrue(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().isEmpty());
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, this.getClass().getClassLoader())) {
+			Class<?> form = loader.loadClass("forms.BirthForm");
+			Class<?> schema = loader.loadClass("forms.BirthFormSchema");
+			Object instance = form.getDeclaredConstructor().newInstance();
+
+			Validator validator = (Validator) schema.getMethod("validator", form).invoke(null, instance);
+			assertTrue(validator.fails());
+			assertEquals("The \"birth date\" is required.", validator.errors().first("birth_date"));
+			assertEquals(1, validator.errors().get("birth_date").size());
+			assertFalse(validator.errors().keys().length > 1);
+
+			form.getField("birthDate").set(instance, "02/29/2000");
+			Field age = form.getDeclaredField("age");
+			age.setAccessible(true);
+			age.set(instance, 151);
+
+			validator = (Validator) schema.getMethod("validator", form).invoke(null, instance);
+			assertTrue(validator.fails());
+			assertArrayEquals(new String[] {"age"}, validator.invalidFields());
+
+			age.set(instance, 30);
+			validator = (Validator) schema.getMethod("validator", form).invoke(null, instance);
+			assertFalse(validator.fails());
+		}
+	}
+
+	@Test
+	public void invalidParameters_failTheCompilation() throws Exception {
+		String form = String.join("\n",
+				"package forms;",
+				"",
+				"import com.satch_navida.zodiacidentifier.validation.annotations.*;",
+				"",
+				"public class BadForm {",
+				"	@Date(format = \"yyyy.MM.dd\")",
+				"	public String birthDate;",
+				"",
+				"	@Between(min = 10, max = 1)",
+				"	public int age;",
+				"",
+				"	@Required",
+				"	private String name;",
+				"}"
+		);
+
+		DiagnosticCollector<JavaFileObject> diagnostics = ValidationProcessorTest.compile(Files.createTempDirectory("processor"), form);
+		StringBuilder errors = new StringBuilder();
+
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+			if (diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				errors.append(diagnostic.getMessage(Locale.ROOT)).append('\n');
+
+		assertTrue(errors.toString(), errors.toString().contains("Unsupported date format: yyyy.MM.dd"));
+		assertTrue(errors.toString(), errors.toString().contains("is greater than the maximum"));
+		assertTrue(errors.toString(), errors.toString().contains("\"name\" needs a getter"));
+	}
+
+	private static DiagnosticCollector<JavaFileObject> compile(Path dir, String source) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+		Path file = dir.resolve("forms").resolve(source.contains("class BadForm") ? "BadForm.java" : "BirthForm.java");
+
+		Files.createDirectories(file.getParent());
+		Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+			JavaCompiler.CompilationTask task = compiler.getTask(
+					null,
+					files,
+					diagnostics,
+					Arrays.asList("-d", dir.toString(), "-s", dir.toString(), "-classpath", System.getProperty("java.class.path") + File.pathSeparator + dir),
+					null,
+					files.getJavaFileObjects(file.toFile())
+			);
+			task.setProcessors(Collections.singletonList(new ValidationProcessor()));
+			task.call();
+		}
+
+		return diagnostics;
+	}
+}
@@ -0,0 +1,208 @@
+package com.satch_navida.zodiacidentifier.service;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A load-test client of the {@link SignService}, sending {@code GET /sign} requests from a fixed
+ * number of threads and measuring the latency of each.<br>
+ * <br>
+ * Each thread waits for the answer of its request before sending the next, such that the number of
+ * threads is the number of requests in flight. The dates requested cycle through every day of a leap
+ * year. A number of requests can be sent first to warm up both sides, without being measured.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class LoadTest {
+	// PRIVATE VARIABLES
+	private final HttpRequest[] requests;
+	private final int concurrency;
+	private final int count;
+	private final int warmup;
+
+	// CONSTRUCTORS
+
+	/**
+	 * Creates a load test of a service.
+	 *
+	 * @param address The address of the service.
+	 * @param format The format of the dates the service expects.
+	 * @param concurrency The number of requests in flight.
+	 * @param count The number of requests measured.
+	 * @param warmup The number of requests sent before measuring.
+	 */
+	public LoadTest(InetSocketAddress address, DateCodec.Format format, int concurrency, int count, int warmup) {
+		if (concurrency < 1)
+			throw new IllegalArgumentException("The concurrency must be at least 1.");
+		if (count < 1)
+			throw new IllegalArgumentException("The number of requests must be at least 1.");
+
+		this.concurrency = concurrency;
+		this.count = count;
+		this.warmup = Math.max(warmup, 0);
+		this.requests = new HttpRequest[366];
+
+		// 2024 is a leap year, covering every answer of the service.
+		LocalDate day = LocalDate.of(2024, 1, 1);
+		for (int i = 0; i < this.requests.length; i++, day = day.plusDays(1)) {
+			int packed = DateCodec.pack(day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+			String date = URLEncoder.encode(format.format(packed), StandardCharsets.UTF_8);
+			URI uri = URI.create(String.format(
+				"http://%s:%d%s?date=%s",
+				address.getHostString(), address.getPort(), SignService.SIGN_PATH, date
+			));
+
+			this.requests[i] = HttpRequest.newBuilder(uri).GET().build();
+		}
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Sends the warm-up requests, then the measured ones.
+	 *
+	 * @return Summary The latencies of the measured requests.
+	 *
+	 * @throws IOException When a request could not be sent.
+	 * @throws InterruptedException When interrupted while waiting for the threads.
+	 */
+	public Summary run() throws IOException, InterruptedException {
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+		this.send(client, this.warmup, null);
+
+		long[] latencies = new long[this.count];
+		long start = System.nanoTime();
+		int failed = this.send(client, this.count, latencies);
+		long elapsed = System.nanoTime() - start;
+
+		Arrays.sort(latencies);
+		return new Summary(latencies, failed, elapsed);
+	}
+
+	// PRIVATE METHODS
+
+	/**
+	 * Sends the given number of requests from every thread.
+	 *
+	 * @param latencies Where the latency of each request is kept, or {@code null} to not keep them.
+	 *
+	 * @return int The number of requests not answered with {@code 200}.
+	 */
+	private int send(HttpClient client, int count, long[] latencies) throws IOException, InterruptedException {
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		AtomicReference<Exception> error = new AtomicReference<Exception>();
+		Thread[] threads = new Thread[this.concurrency];
+
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+						long start = System.nanoTime();
+						HttpResponse<byte[]> response = client.send(this.requests[i % this.requests.length], HttpResponse.BodyHandlers.ofByteArray());
+
+						if (latencies != null)
+							latencies[i] = System.nanoTime() - start;
+						if (response.statusCode() != 200)
+							failed.incrementAndGet();
+					}
+				}
+				catch (IOException | InterruptedException e) {
+					error.compareAndSet(null, e);
+					next.set(count);
+				}
+			}, "load-test-" + t);
+			threads[t].start();
+		}
+
+		for (Thread thread : threads)
+			thread.join();
+
+		if (error.get() instanceof InterruptedException)
+			throw (InterruptedException) error.get();
+		if (error.get() != null)
+			throw (IOException) error.get();
+
+		return failed.get();
+	}
+
+	// INNER CLASSES
+
+	/**
+	 * The outcome of a load test.
+	 */
+	public static final class Summary {
+		private final long[] latencies;
+		private final int failed;
+		private final long elapsedNanos;
+
+		private Summary(long[] latencies, int failed, long elapsedNanos) {
+			this.latencies = latencies;
+			this.failed = failed;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * @return int The number of requests measured.
+		 */
+		public int requests() {
+			return this.latencies.length;
+		}
+
+		/**
+		 * @return int The number of requests not answered with {@code 200}.
+		 */
+		public int failed() {
+			return this.failed;
+		}
+
+		/**
+		 * @return long The time taken by the measured requests, in nanoseconds.
+		 */
+		public long elapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		/**
+		 * @return double The number of requests answered per second.
+		 */
+		public double requestsPerSecond() {
+			return this.latencies.length / (this.elapsedNanos / 1e9);
+		}
+
+		/**
+		 * Fetches the latency under which the given share of the requests were answered.
+		 *
+		 * @param percentile The share, from {@code 0} (exclusive) to {@code 100}.
+		 *
+		 * @return long The latency, in nanoseconds.
+		 */
+		public long percentileNanos(double percentile) {
+			int rank = (int) Math.ceil(percentile / 100 * this.latencies.length);
+			return this.latencies[Math.min(Math.max(rank, 1), this.latencies.length) - 1];
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"%,d requests, %,d failed in %.3f s (%,.0f requests/s), p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+				this.requests(), this.failed, this.elapsedNanos / 1e9, this.requestsPerSecond(),
+				this.percentileNanos(50) / 1e6, this.percentileNanos(99) / 1e6, this.percentileNanos(100) / 1e6
+			);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package com.satch_navida.zodiacidentifier.service;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.cli.Arguments;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.text.MessageFormat;
+
+/**
+ * The command line entry point of the classification service, running outside of Android on any JVM.<br>
+ * <br>
+ * Usage:
+ * <pre>
+ * service serve [options]
+ *     --port n                  The loopback port to listen on, 8080 by default.
+ *     --date-format pattern     The format of the birth dates, "MM/dd/yyyy" by default.
+ *
+ * service load-test [options]
+ *     --port n                  The loopback port of a running service, or a service of its own by default.
+ *     --date-format pattern     The format of the birth dates, "MM/dd/yyyy" by default.
+ *     --concurrency n           The number of requests in flight, 16 by default.
+ *     --requests n              The number of requests measured, 100000 by default.
+ *     --warmup n                The number of requests sent before measuring, 20000 by default.
+ * </pre>
+ * The service runs until the JVM is stopped. The load test prints its throughput and latencies to
+ * the standard error once done. The exit code is {@code 0} if every request was answered with
+ * {@code 200}, {@code 1} if some were not and {@code 2} if the command could not be run.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class ServiceMain {
+	// PRIVATE VARIABLES
+	private static final int EXIT_PASSED = 0;
+	private static final int EXIT_FAILED = 1;
+	private static final int EXIT_USAGE = 2;
+	private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+	private static final String USAGE = String.join("\n",
+		"Usage: service <command> [options]",
+		"",
+		"Commands:",
+		"  serve [options]      Answers GET /sign?date= and POST /batch on the loopback address.",
+		"      --port n",
+		"      --date-format pattern",
+		"  load-test [options]  Measures the latencies of GET /sign, reporting their p50 and p99.",
+		"      --port n",
+		"      --date-format pattern",
+		"      --concurrency n",
+		"      --requests n",
+		"      --warmup n"
+	);
+
+	// CONSTRUCTORS
+	private ServiceMain() {
+	}
+
+	// PUBLIC METHODS
+	public static void main(String[] args) {
+		// Turns off Nagle's algorithm for the HTTP server of the JDK, unless told otherwise. It is read
+		// once, so it must be set before any server is created.
+		if (System.getProperty(ServiceMain.NO_DELAY_PROPERTY) == null)
+			System.setProperty(ServiceMain.NO_DELAY_PROPERTY, "true");
+
+		System.exit(ServiceMain.run(args, System.err));
+	}
+
+	/**
+	 * Runs a command without exiting the JVM.
+	 *
+	 * @param args The command and its arguments.
+	 * @param err Where the summary and the errors are printed.
+	 *
+	 * @return int The exit code of the command.
+	 */
+	public static int run(String[] args, PrintStream err) {
+		if (args.length == 0) {
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+
+		try {
+			switch (args[0]) {
+				case "serve":
+					return ServiceMain.serve(new Arguments(args, 1), err);
+				case "load-test":
+					return ServiceMain.loadTest(new Arguments(args, 1), err);
+				default:
+					throw new IllegalArgumentException(MessageFormat.format("Unknown command \"{0}\".", args[0]));
+			}
+		}
+		catch (IllegalArgumentException e) {
+			err.println(e.getMessage());
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+		catch (IOException e) {
+			err.println(MessageFormat.format("I/O error: {0}", e.getMessage()));
+			return EXIT_USAGE;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return EXIT_USAGE;
+		}
+	}
+
+	// PRIVATE METHODS
+	private static int serve(Arguments args, PrintStream err) throws IOException, InterruptedException {
+		int port = 8080;
+		String datePattern = "MM/dd/yyyy";
+
+		while (args.hasNext()) {
+			String arg = args.next();
+
+			switch (arg) {
+				case "--port": port = args.intValue(arg); break;
+				case "--date-format": datePattern = args.value(arg); break;
+				default:
+					throw new IllegalArgumentException(MessageFormat.format("Unknown option \"{0}\".", arg));
+			}
+		}
+
+		SignService service = SignService.start(port, ServiceMain.format(datePattern));
+		Runtime.getRuntime().addShutdownHook(new Thread(service::close, "sign-service-shutdown"));
+
+		err.println(service);
+		service.awaitClose();
+
+		return EXIT_PASSED;
+	}
+
+	private static int loadTest(Arguments args, PrintStream err) throws IOException, InterruptedException {
+		int port = 0;
+		String datePattern = "MM/dd/yyyy";
+		int concurrency = 16;
+		int requests = 100_000;
+		int warmup = 20_000;
+
+		while (args.hasNext()) {
+			String arg = args.next();
+
+			switch (arg) {
+				case "--port": port = args.intValue(arg); break;
+				case "--date-format": datePattern = args.value(arg); break;
+				case "--concurrency": concurrency = args.intValue(arg); break;
+				case "--requests": requests = args.intValue(arg); break;
+				case "--warmup": warmup = args.intValue(arg); break;
+				default:
+					throw new IllegalArgumentException(MessageFormat.format("Unknown option \"{0}\".", arg));
+			}
+		}
+
+		DateCodec.Format format = ServiceMain.format(datePattern);
+		// Without a port, a service of its own is started, and stopped once done.
+		SignService service = port == 0 ? SignService.start(0, format) : null;
+		InetSocketAddress address = service != null
+			? service.address()
+			: new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+		LoadTest.Summary summary;
+
+		try {
+			if (service != null)
+				err.println(service);
+
+			summary = new LoadTest(address, format, concurrency, requests, warmup).run();
+		}
+		finally {
+			if (service != null)
+				service.close();
+		}
+
+		err.println(summary);
+		return summary.failed() == 0 ? EXIT_PASSED : EXIT_FAILED;
+	}
+
+	private static DateCodec.Format format(String pattern) {
+		DateCodec.Format format = DateCodec.forPattern(pattern);
+
+		if (format == null)
+			throw new IllegalArgumentException(MessageFormat.format("Unsupported date format: {0}", pattern));
+
+		return format;
+	}
+}
@@ -0,0 +1,76 @@
+package com.satch_navida.zodiacidentifier.service;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+import com.satch_navida.zodiacidentifier.SignTable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The bodies of every response of the service, serialized once when the class is loaded.<br>
+ * <br>
+ * As a sign only depends on the month and day of a date, there are only 366 different answers, one
+ * per day of a leap year. Each is kept as a line of JSON, such as
+ * {@code {"month":3,"day":21,"sign":"Aries"}}, such that answering a request, or a line of a batch,
+ * is only a matter of writing out an existing array.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+final class SignResponses {
+	// PUBLIC VARIABLES
+	/**
+	 * The body answering a date that could not be parsed, or that does not exist.
+	 */
+	static final byte[] INVALID_DATE = SignResponses.error("Invalid date");
+
+	/**
+	 * The body answering a request or a line without any date.
+	 */
+	static final byte[] MISSING_DATE = SignResponses.error("Missing date");
+
+	// PRIVATE VARIABLES
+	/**
+	 * The body for each zero-based day of a leap year.
+	 */
+	private static final byte[][] BY_DAY = new byte[366][];
+
+	static {
+		for (int month = 1; month <= 12; month++) {
+			for (int day = 1; day <= 31; day++) {
+				int dayOfYear = SignTable.dayOfLeapYear(month, day);
+
+				if (dayOfYear != SignTable.UNKNOWN)
+					BY_DAY[dayOfYear] = String.format(
+						"{\"month\":%d,\"day\":%d,\"sign\":\"%s\"}\n",
+						month, day, SignTable.nameOf(SignTable.signOf(month, day))
+					).getBytes(StandardCharsets.UTF_8);
+			}
+		}
+	}
+
+	// CONSTRUCTORS
+	private SignResponses() {
+	}
+
+	// PACKAGE-PRIVATE METHODS
+
+	/**
+	 * Fetches the body answering the given date.
+	 *
+	 * @param packed A packed {@code yyyymmdd} date, or {@link DateCodec#INVALID}.
+	 *
+	 * @return byte[] The shared body, ending with a line break, which must not be changed.
+	 */
+	static byte[] of(int packed) {
+		if (packed == DateCodec.INVALID)
+			return SignResponses.INVALID_DATE;
+
+		int dayOfYear = SignTable.dayOfLeapYear(DateCodec.month(packed), DateCodec.day(packed));
+		return dayOfYear == SignTable.UNKNOWN ? SignResponses.INVALID_DATE : BY_DAY[dayOfYear];
+	}
+
+	// PRIVATE METHODS
+	private static byte[] error(String message) {
+		return String.format("{\"error\":\"%s\"}\n", message).getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,284 @@
+package com.satch_navida.zodiacidentifier.service;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small HTTP service resolving the Zodiac sign of birth dates, built on the HTTP server of the
+ * JDK and only listening on the loopback address.<br>
+ * <br>
+ * It answers two endpoints:
+ * <ul>
+ *     <li>{@code GET /sign?date=03/21/1990} answers a single date with a line of JSON, such as
+ *     {@code {"month":3,"day":21,"sign":"Aries"}}, or {@code 400} with {@code {"error":"..."}}
+ *     if the date is missing or invalid.</li>
+ *     <li>{@code POST /batch} reads NDJSON, each line being an object with a {@code "date"} field
+ *     such as {@code {"date":"03/21/1990"}}, and streams back a chunked NDJSON response holding the
+ *     answer of each non-blank line, in order. The answers are written while the request is being
+ *     read, so a batch of any size is never held in memory.</li>
+ * </ul>
+ * Every answer is one of the bodies of {@link SignResponses}, serialized once for the whole JVM.<br>
+ * <br>
+ * Each request is handled on its own virtual thread when the JVM running the service has them (Java
+ * 21 and later), such that a slow client never holds a pooled thread. On older JVMs, the requests are
+ * handled by a cached pool of threads instead.<br>
+ * <br>
+ * The server writes the headers and the body of an answer apart, so unless Nagle's algorithm is
+ * turned off, the body waits for the client to acknowledge the headers, which takes about 40 ms.
+ * The JVM should thus run with {@code -Dsun.net.httpserver.nodelay=true}, as set by the launcher of
+ * the module. The JDK reads it once, before its first server is created.
+ *
+ * @author Virus5600
+ * @version 1.0.0
+ */
+public final class SignService implements AutoCloseable {
+	// PUBLIC VARIABLES
+	/**
+	 * The path resolving a single date.
+	 */
+	public static final String SIGN_PATH = "/sign";
+
+	/**
+	 * The path resolving a batch of dates.
+	 */
+	public static final String BATCH_PATH = "/batch";
+
+	// PRIVATE VARIABLES
+	private static final int BACKLOG = 1024;
+	/**
+	 * Returned when a line of a batch has no {@code "date"} field.
+	 */
+	private static final int MISSING = -2;
+	private static final String DATE_PARAM = "date=";
+	private static final String DATE_FIELD = "\"date\"";
+
+	private final DateCodec.Format format;
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final boolean virtualThreads;
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	// CONSTRUCTORS
+	private SignService(DateCodec.Format format, HttpServer server, ExecutorService executor, boolean virtualThreads) {
+		this.format = format;
+		this.server = server;
+		this.executor = executor;
+		this.virtualThreads = virtualThreads;
+	}
+
+	// PUBLIC METHODS
+
+	/**
+	 * Starts a service on the loopback address.
+	 *
+	 * @param port The port to listen on, or {@code 0} for any free port.
+	 * @param format The format of the dates given to the service.
+	 *
+	 * @return SignService The running service.
+	 *
+	 * @throws IOException When the port could not be bound.
+	 */
+	public static SignService start(int port, DateCodec.Format format) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), SignService.BACKLOG);
+		ExecutorService executor = SignService.newVirtualThreadPerTaskExecutor();
+		boolean virtualThreads = executor != null;
+
+		if (executor == null) {
+			AtomicInteger threads = new AtomicInteger();
+
+			executor = Executors.newCachedThreadPool((Runnable task) -> {
+				Thread thread = new Thread(task, "sign-service-" + threads.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		SignService service = new SignService(format, server, executor, virtualThreads);
+
+		server.createContext(SignService.SIGN_PATH, service::handleSign);
+		server.createContext(SignService.BATCH_PATH, service::handleBatch);
+		server.setExecutor(executor);
+		server.start();
+
+		return service;
+	}
+
+	/**
+	 * @return InetSocketAddress The address the service listens on.
+	 */
+	public InetSocketAddress address() {
+		return this.server.getAddress();
+	}
+
+	/**
+	 * @return boolean Returns {@code true} if each request is handled on its own virtual thread.
+	 */
+	public boolean usesVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	/**
+	 * Waits until the service is closed.
+	 *
+	 * @throws InterruptedException When interrupted while waiting.
+	 */
+	public void awaitClose() throws InterruptedException {
+		this.closed.await();
+	}
+
+	/**
+	 * Stops listening, without waiting for the requests being handled.
+	 */
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdown();
+		this.closed.countDown();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"Listening on http://%s:%d (%s)",
+			this.address().getHostString(), this.address().getPort(),
+			this.virtualThreads ? "a virtual thread per request" : "a pool of platform threads"
+		);
+	}
+
+	// PRIVATE METHODS
+	private void handleSign(HttpExchange exchange) throws IOException {
+		try {
+			if (!exchange.getRequestMethod().equals("GET")) {
+				SignService.rejectMethod(exchange, "GET");
+				return;
+			}
+
+			String date = SignService.dateParam(exchange.getRequestURI().getRawQuery());
+			byte[] body = date == null ? SignResponses.MISSING_DATE : SignResponses.of(this.format.parse(date));
+			boolean found = body != SignResponses.MISSING_DATE && body != SignResponses.INVALID_DATE;
+
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(found ? 200 : 400, body.length);
+			exchange.getResponseBody().write(body);
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private void handleBatch(HttpExchange exchange) throws IOException {
+		try {
+			if (!exchange.getRequestMethod().equals("POST")) {
+				SignService.rejectMethod(exchange, "POST");
+				return;
+			}
+
+			exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+			// A length of 0 streams the response in chunks, which the server already buffers.
+			exchange.sendResponseHeaders(200, 0);
+
+			BufferedReader in = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8), 1 << 16);
+			OutputStream out = exchange.getResponseBody();
+			String line;
+
+			while ((line = in.readLine()) != null) {
+				if (line.isBlank())
+					continue;
+
+				int date = this.dateOf(line);
+				out.write(date == SignService.MISSING ? SignResponses.MISSING_DATE : SignResponses.of(date));
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Reads the {@code "date"} field of a line of a batch, without copying it out of the line.
+	 *
+	 * @return int The packed date, {@link DateCodec#INVALID} if it is invalid, or {@link #MISSING} if
+	 * the line has no such field.
+	 */
+	private int dateOf(String line) {
+		int field = line.indexOf(SignService.DATE_FIELD);
+		if (field < 0)
+			return SignService.MISSING;
+
+		int pos = SignService.skipWhitespace(line, field + SignService.DATE_FIELD.length());
+		if (pos >= line.length() || line.charAt(pos) != ':')
+			return SignService.MISSING;
+
+		pos = SignService.skipWhitespace(line, pos + 1);
+		if (pos >= line.length() || line.charAt(pos) != '"')
+			return DateCodec.INVALID;
+
+		int end = line.indexOf('"', pos + 1);
+		return end < 0 ? DateCodec.INVALID : this.format.parse(line, pos + 1, end);
+	}
+
+	private static int skipWhitespace(String line, int pos) {
+		while (pos < line.length() && Character.isWhitespace(line.charAt(pos)))
+			pos++;
+
+		return pos;
+	}
+
+	/**
+	 * Fetches the decoded {@code date} parameter of a query.
+	 *
+	 * @return String The date, or {@code null} if the query has none.
+	 */
+	private static String dateParam(String query) {
+		if (query == null)
+			return null;
+
+		for (int start = 0; start < query.length(); ) {
+			int end = query.indexOf('&', start);
+			if (end < 0)
+				end = query.length();
+
+			if (query.startsWith(SignService.DATE_PARAM, start))
+				return URLDecoder.decode(query.substring(start + SignService.DATE_PARAM.length(), end), StandardCharsets.UTF_8);
+
+			start = end + 1;
+		}
+
+		return null;
+	}
+
+	private static void rejectMethod(HttpExchange exchange, String allowed) throws IOException {
+		exchange.getResponseHeaders().set("Allow", allowed);
+		exchange.sendResponseHeaders(405, -1);
+	}
+
+	/**
+	 * Creates an executor running each task on a new virtual thread, looked up reflectively such that
+	 * the service still runs on JVMs without them.
+	 *
+	 * @return ExecutorService The executor, or {@code null} if the JVM has no virtual threads.
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+}
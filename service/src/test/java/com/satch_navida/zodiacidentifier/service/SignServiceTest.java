@@ -0,0 +1,110 @@
+package com.satch_navida.zodiacidentifier.service;
+
+import com.satch_navida.zodiacidentifier.DateCodec;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the answers of the {@link SignService}, over a real connection on the loopback address.
+ */
+public class SignServiceTest {
+	private static final DateCodec.Format FORMAT = DateCodec.forPattern("MM/dd/yyyy");
+
+	private SignService service;
+	private HttpClient client;
+
+	@Before
+	public void setUp() throws Exception {
+		this.service = SignService.start(0, FORMAT);
+		this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	}
+
+	@After
+	public void tearDown() {
+		this.service.close();
+	}
+
+	@Test
+	public void sign_answersTheSignOfTheDate() throws Exception {
+		HttpResponse<String> response = this.get("/sign?date=03%2F21%2F1990");
+
+		assertEquals(200, response.statusCode());
+		assertEquals("{\"month\":3,\"day\":21,\"sign\":\"Aries\"}\n", response.body());
+		assertEquals("{\"month\":2,\"day\":29,\"sign\":\"Pisces\"}\n", this.get("/sign?date=02/29/2024").body());
+	}
+
+	@Test
+	public void sign_rejectsMissingAndInvalidDates() throws Exception {
+		HttpResponse<String> missing = this.get("/sign");
+		HttpResponse<String> invalid = this.get("/sign?date=02/30/2001");
+
+		assertEquals(400, missing.statusCode());
+		assertEquals("{\"error\":\"Missing date\"}\n", missing.body());
+		assertEquals(400, invalid.statusCode());
+		assertEquals("{\"error\":\"Invalid date\"}\n", invalid.body());
+
+		HttpRequest post = HttpRequest.newBuilder(this.uri("/sign")).POST(HttpRequest.BodyPublishers.noBody()).build();
+		assertEquals(405, this.client.send(post, HttpResponse.BodyHandlers.ofString()).statusCode());
+	}
+
+	@Test
+	public void batch_answersEveryLineInOrder() throws Exception {
+		StringBuilder input = new StringBuilder();
+		StringBuilder expected = new StringBuilder();
+
+		for (int i = 0; i < 10_000; i++) {
+			switch (i % 4) {
+				case 0:
+					input.append("{\"date\":\"12/25/1999\"}\n");
+					expected.append("{\"month\":12,\"day\":25,\"sign\":\"Capricorn\"}\n");
+					break;
+				case 1:
+					input.append("{\"id\": 1, \"date\" : \"07/04/2001\"}\n\n");
+					expected.append("{\"month\":7,\"day\":4,\"sign\":\"Cancer\"}\n");
+					break;
+				case 2:
+					input.append("{\"date\":\"13/01/2001\"}\n");
+					expected.append("{\"error\":\"Invalid date\"}\n");
+					break;
+				default:
+					input.append("{\"birth_date\":\"01/01/2001\"}\n");
+					expected.append("{\"error\":\"Missing date\"}\n");
+			}
+		}
+
+		HttpRequest request = HttpRequest.newBuilder(this.uri("/batch"))
+			.POST(HttpRequest.BodyPublishers.ofString(input.toString()))
+			.build();
+		HttpResponse<String> response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+
+		assertEquals(200, response.statusCode());
+		assertEquals("application/x-ndjson", response.headers().firstValue("Content-Type").orElse(null));
+		assertEquals(expected.toString(), response.body());
+	}
+
+	@Test
+	public void loadTest_measuresEveryRequest() throws Exception {
+		LoadTest.Summary summary = new LoadTest(this.service.address(), FORMAT, 4, 1000, 100).run();
+
+		assertEquals(1000, summary.requests());
+		assertEquals(0, summary.failed());
+		assertTrue(summary.percentileNanos(50) <= summary.percentileNanos(99));
+	}
+
+	private URI uri(String path) {
+		return URI.create(String.format("http://127.0.0.1:%d%s", this.service.address().getPort(), path));
+	}
+
+	private HttpResponse<String> get(String path) throws Exception {
+		return this.client.send(HttpRequest.newBuilder(this.uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+	}
+}